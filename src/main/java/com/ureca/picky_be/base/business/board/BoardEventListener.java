@@ -0,0 +1,20 @@
+package com.ureca.picky_be.base.business.board;
+
+import com.ureca.picky_be.base.business.board.dto.BoardChangedEvent;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BoardEventListener {
+    private final CatalogVersionManager catalogVersionManager;
+
+    // 트랜잭션 밖에서 발행된 경우(fallbackExecution)에도 바로 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardChangedEvent(BoardChangedEvent event) {
+        catalogVersionManager.touchMovieBoards(event.getMovieId());
+    }
+}
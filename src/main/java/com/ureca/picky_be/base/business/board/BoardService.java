@@ -12,6 +12,7 @@ import com.ureca.picky_be.base.business.notification.dto.BoardCreatedEvent;
 import com.ureca.picky_be.base.business.user.dto.BoardQueryReq;
 import com.ureca.picky_be.base.implementation.auth.AuthManager;
 import com.ureca.picky_be.base.implementation.board.BoardManager;
+import com.ureca.picky_be.base.implementation.board.BoardTimelineManager;
 import com.ureca.picky_be.base.implementation.content.ImageManager;
 import com.ureca.picky_be.base.implementation.content.ProfileManager;
 import com.ureca.picky_be.base.implementation.content.VideoManager;
@@ -30,6 +31,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -39,7 +41,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -47,6 +49,7 @@ import java.util.stream.Collectors;
 public class BoardService implements BoardUseCase {
 
     private final BoardManager boardManager;
+    private final BoardTimelineManager boardTimelineManager;
     private final AuthManager authManager;
     private final BoardDtoMapper boardDtoMapper;
     private final ImageManager imageManager;
@@ -80,9 +83,11 @@ public class BoardService implements BoardUseCase {
         }
 
         Board board = boardManager.addBoard(userId, userNickname, req, boardDtoMapper.toAddBoardContentReq(imageUrls, videoUrls));
+        boardTimelineManager.enqueueFanOut(board.getUserId(), board.getId());
 
         log.info("Event publish start");
         eventPublisher.publishEvent(new BoardCreatedEvent(board.getUserId(), req.movieId(), board.getId()));
+        eventPublisher.publishEvent(new BoardChangedEvent(req.movieId(), board.getId()));
         log.info("Event publish end");
         return SuccessCode.CREATE_BOARD_SUCCESS;
     }
@@ -93,47 +98,43 @@ public class BoardService implements BoardUseCase {
         Long userId = authManager.getUserId();
         boardManager.checkBoardWriteUser(boardId, userId);
         boardManager.updateBoard(boardId, userId, req);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardManager.getMovieIdOfBoard(boardId), boardId));
     }
 
     @Override
     public Slice<GetBoardInfoResp> getBoards(Pageable pageable, Long lastBoardId) {
         Long userId = authManager.getUserId();
-        Slice<BoardProjection> recentBoards = boardManager.getRecentMovieBoards(userId, lastBoardId, pageable);
-        List<Long> movieIds = recentBoards.getContent().stream()
-                .map(BoardProjection::getMovieId)
-                .distinct()
-                .toList();
-        Map<Long, List<Genre>> genresByMovieId = movieIds.stream()
-                .collect(Collectors.toMap(
-                        movieId -> movieId,
-                        movieManager::getGenre
-                ));
-
-//        List<List<Genre>> genresList = recentBoards.getContent().stream()
-//                .map(board -> movieManager.getGenre(board.getMovieId())) // 각 board의 movieId로 genres 가져오기
-//                .toList();
-        List<List<Genre>> genresList = recentBoards.getContent().stream()
-                .map(board -> genresByMovieId.getOrDefault(board.getMovieId(), List.of()))
-                .toList();
+        Slice<BoardProjection> recentBoards = boardManager.getRecentMovieBoards(lastBoardId, pageable);
+        return toBoardInfoResps(recentBoards, userId);
+    }
 
-        List<String> profileUrls = recentBoards.getContent().stream()
-                .map(BoardProjection::getWriterProfileUrl)
-                .map(url -> url != null ? profileManager.getPresignedUrl(url) : null)
-                .toList();
-        List<Long> boardIds = recentBoards.getContent().stream()
-                .map(BoardProjection::getBoardId)
-                .toList();
-        List<BoardContentWithBoardId> boardContentWithBoardIds = processBoardContents(boardManager.getBoardContentWithBoardId(boardIds));
-        return boardDtoMapper.toGetBoardInfoResps(recentBoards, boardContentWithBoardIds, profileUrls, genresList);
+    @Override
+    public Slice<GetBoardInfoResp> getFeed(Pageable pageable, Long lastBoardId) {
+        Long userId = authManager.getUserId();
+        int size = pageable.getPageSize();
+        List<BoardProjection> boards = new ArrayList<>(size);
+        Long cursor = lastBoardId;
+        boolean hasNext;
+        // 삭제됐거나 언팔로우한 작성자의 게시글이 빠져 페이지가 비면 클라이언트가 다음 커서를 알 수 없으므로 size개를 채울 때까지 다음 id 페이지를 읽음
+        do {
+            Slice<Long> feedBoardIds = boardTimelineManager.getFeedBoardIds(userId, cursor, PageRequest.ofSize(size - boards.size()));
+            boards.addAll(boardManager.getFeedBoards(userId, feedBoardIds.getContent()));
+            hasNext = feedBoardIds.hasNext();
+            if (feedBoardIds.hasContent()) {
+                cursor = feedBoardIds.getContent().get(feedBoardIds.getNumberOfElements() - 1);
+            }
+        } while (hasNext && boards.size() < size);
+        return toBoardInfoResps(new SliceImpl<>(boards, pageable, hasNext), userId);
     }
 
     @Override
     public Slice<GetBoardInfoResp> getMovieRelatedBoards(Pageable pageable, BoardMovieIdQueryReq req) {
-        Long userId = authManager.getUserId();
+        // 비로그인도 조회 가능 (isLike, isAuthor는 false)
+        Long userId = authManager.getUserIdOrNull();
         Long movieId = req.movieId();
         List<Genre> genres = movieManager.getGenre(movieId);
 
-        Slice<BoardProjection> recentMovieRelatedBoards = boardManager.getRecentMovieRelatedBoards(userId, movieId, req.lastBoardId(), pageable);
+        Slice<BoardProjection> recentMovieRelatedBoards = boardManager.getRecentMovieRelatedBoards(movieId, req.lastBoardId(), pageable);
         List<Genre> genresList = genres;
         List<String> profileUrls = recentMovieRelatedBoards.getContent().stream()
                 .map(BoardProjection::getWriterProfileUrl)
@@ -143,7 +144,8 @@ public class BoardService implements BoardUseCase {
                 .map(BoardProjection::getBoardId)
                 .toList();
         List<BoardContentWithBoardId> boardContentWithBoardIds = processBoardContents(boardManager.getBoardContentWithBoardId(boardIds));
-        return boardDtoMapper.toGetBoardInfoListGenresResps(recentMovieRelatedBoards, boardContentWithBoardIds, profileUrls, genresList);
+        Set<Long> likedBoardIds = boardManager.getLikedBoardIds(userId, boardIds);
+        return boardDtoMapper.toGetBoardInfoListGenresResps(recentMovieRelatedBoards, boardContentWithBoardIds, profileUrls, genresList, userId, likedBoardIds);
     }
 
     public List<BoardContentWithBoardId> processBoardContents(List<BoardContentWithBoardId> boardContentWithBoardIds) {
@@ -173,6 +175,7 @@ public class BoardService implements BoardUseCase {
         Long userId = authManager.getUserId();
         String userNickname = authManager.getUserNickname();
         boardManager.addBoardComment(req.content(), boardId, userId, userNickname);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardManager.getMovieIdOfBoard(boardId), boardId));
     }
 
     @Override
@@ -196,10 +199,13 @@ public class BoardService implements BoardUseCase {
     }
 
     @Override
+    @Transactional
     public void deleteBoard(Long boardId) {
         Long userId = authManager.getUserId();
         boardManager.checkBoardWriteUser(boardId, userId);
         boardManager.deleteBoard(boardId);
+        boardTimelineManager.removeBoard(boardId);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardManager.getMovieIdOfBoard(boardId), boardId));
     }
 
     @Override
@@ -208,6 +214,7 @@ public class BoardService implements BoardUseCase {
         boardManager.checkBoardIsDeleted(boardId);
         boardManager.checkBoardCommentWriteUser(commentId, userId);
         boardManager.deleteBoardComment(commentId);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardManager.getMovieIdOfBoard(boardId), boardId));
 
     }
 
@@ -216,17 +223,9 @@ public class BoardService implements BoardUseCase {
     @Override
     public boolean createBoardLike(Long boardId) {
         Long userId = authManager.getUserId();
-        boardManager.checkBoardIsDeleted(boardId);
-        if(boardManager.checkUserBoardLike(userId,boardId)) {   // 눌려 있다면
-            // 좋아요 delete
-            boardManager.deleteBoardLike(userId,boardId);
-            return false;
-        } else {        // 좋아요 없으면
-            // 좋아요 Create
-            Board board = boardManager.getBoardById(boardId);
-            boardManager.createBoardLike(userId, board);
-            return true;
-        }
+        boolean like = boardManager.toggleBoardLike(userId, boardId);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardManager.getMovieIdOfBoard(boardId), boardId));
+        return like;
     }
 
     @Override
@@ -234,17 +233,16 @@ public class BoardService implements BoardUseCase {
     public Slice<GetBoardInfoResp> getBoardsByNickName(PageRequest pageRequest, BoardQueryReq req) {
         Long searchUserId = userManager.getUserIdByNickname(req.nickname());
         Long currentId = authManager.getUserId();
-        Slice<BoardProjection> boards = boardManager.findBoardsByUserId(searchUserId, currentId, req, pageRequest);
+        Slice<BoardProjection> boards = boardManager.findBoardsByUserId(searchUserId, req, pageRequest);
+        return toBoardInfoResps(boards, currentId);
+    }
 
+    private Slice<GetBoardInfoResp> toBoardInfoResps(Slice<BoardProjection> boards, Long viewerId) {
         List<Long> movieIds = boards.getContent().stream()
                 .map(BoardProjection::getMovieId)
                 .distinct()
                 .toList();
-        Map<Long, List<Genre>> genresByMovieId = movieIds.stream()
-                .collect(Collectors.toMap(
-                        movieId -> movieId,
-                        movieManager::getGenre
-                ));
+        Map<Long, List<Genre>> genresByMovieId = movieManager.getGenresByMovieIds(movieIds);
         List<List<Genre>> genresList = boards.getContent().stream()
                 .map(board -> genresByMovieId.getOrDefault(board.getMovieId(), List.of()))
                 .toList();
@@ -257,6 +255,7 @@ public class BoardService implements BoardUseCase {
                 .map(BoardProjection::getBoardId)
                 .toList();
         List<BoardContentWithBoardId> boardContentWithBoardIds = processBoardContents(boardManager.getBoardContentWithBoardId(boardIds));
-        return boardDtoMapper.toGetBoardInfoResps(boards, boardContentWithBoardIds , profileUrls, genresList);
+        Set<Long> likedBoardIds = boardManager.getLikedBoardIds(viewerId, boardIds);
+        return boardDtoMapper.toGetBoardInfoResps(boards, boardContentWithBoardIds, profileUrls, genresList, viewerId, likedBoardIds);
     }
 }
@@ -0,0 +1,28 @@
+package com.ureca.picky_be.base.business.board;
+
+import com.ureca.picky_be.base.business.notification.dto.BoardCreatedEvent;
+import com.ureca.picky_be.base.implementation.board.BoardTimelineManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardTimelineEventListener {
+    private final BoardTimelineManager boardTimelineManager;
+
+    // 팔로워 수만큼 쓰기가 생기므로 작성 요청과 분리해서 비동기로 (실패하거나 버려져도 outbox 재시도가 다시 팬아웃)
+    @Async("timelineExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardCreatedEvent(BoardCreatedEvent event) {
+        try {
+            boardTimelineManager.fanOut(event.getWriterId(), event.getBoardId());
+        } catch (Exception e) {
+            log.warn("Timeline fan-out failed, will be retried from outbox. {}", event, e);
+        }
+    }
+}
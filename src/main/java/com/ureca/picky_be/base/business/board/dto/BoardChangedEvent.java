@@ -0,0 +1,22 @@
+package com.ureca.picky_be.base.business.board.dto;
+
+import lombok.Getter;
+
+@Getter
+public class BoardChangedEvent {
+    private final Long movieId;
+    private final Long boardId;
+
+    public BoardChangedEvent(Long movieId, Long boardId) {
+        this.movieId = movieId;
+        this.boardId = boardId;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardChangedEvent{" +
+                "movieId=" + movieId +
+                ", boardId=" + boardId +
+                '}';
+    }
+}
@@ -21,6 +21,4 @@ public interface BoardProjection {
     Long getMovieId();
     String getMovieName(); // Board 영화 이름
     Date getReleaseDate();
-    Boolean getIsLike();    // Board 사용자가 좋아요 눌렀는지 여부
-    boolean getIsAuthor();
 }
@@ -4,6 +4,7 @@ import com.ureca.picky_be.base.business.board.dto.BoardProjection;
 import com.ureca.picky_be.base.business.follow.dto.FollowProjection;
 import com.ureca.picky_be.base.business.follow.dto.GetFollowUserResp;
 import com.ureca.picky_be.base.implementation.auth.AuthManager;
+import com.ureca.picky_be.base.implementation.board.BoardTimelineManager;
 import com.ureca.picky_be.base.implementation.content.ImageManager;
 import com.ureca.picky_be.base.implementation.content.ProfileManager;
 import com.ureca.picky_be.base.implementation.follow.FollowManager;
@@ -26,6 +27,7 @@ public class FollowService implements FollowUseCase{
     private final FollowManager followManager;
     private final AuthManager authManager;
     private final ProfileManager profileManager;
+    private final BoardTimelineManager boardTimelineManager;
 
     @Override
     @Transactional
@@ -33,7 +35,12 @@ public class FollowService implements FollowUseCase{
         Long userId = authManager.getUserId();
         userManager.validateUserStatus(userId);
         userManager.validateUserStatus(followingId);
-        return followManager.manageFollowingRelationship(userId, followingId);
+        SuccessCode result = followManager.manageFollowingRelationship(userId, followingId);
+        if (result == SuccessCode.DELETE_FOLLOW_SUCCESS) {
+            // 언팔로우한 작성자의 게시글을 홈 피드 타임라인에서 지움
+            boardTimelineManager.removeWriter(userId, followingId);
+        }
+        return result;
 
     }
 
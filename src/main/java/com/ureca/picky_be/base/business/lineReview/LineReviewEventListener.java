@@ -0,0 +1,29 @@
+package com.ureca.picky_be.base.business.lineReview;
+
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewLikeManager;
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LineReviewEventListener {
+    private final LineReviewLikeManager lineReviewLikeManager;
+    private final LineReviewManager lineReviewManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        int backfilled = lineReviewLikeManager.backfillLikeCounts();
+        if (backfilled > 0) {
+            log.info("Line review like counts backfilled. rows={}", backfilled);
+        }
+        int breakdowns = lineReviewManager.backfillRatingBreakdowns();
+        if (breakdowns > 0) {
+            log.info("Movie rating breakdowns backfilled. rows={}", breakdowns);
+        }
+    }
+}
@@ -3,23 +3,29 @@ package com.ureca.picky_be.base.business.lineReview;
 import com.ureca.picky_be.base.business.lineReview.dto.*;
 import com.ureca.picky_be.base.business.user.dto.UserLineReviewsReq;
 import com.ureca.picky_be.base.implementation.auth.AuthManager;
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewLikeManager;
 import com.ureca.picky_be.base.implementation.lineReview.LineReviewManager;
 import com.ureca.picky_be.base.implementation.mapper.LineReviewDtoMapper;
 import com.ureca.picky_be.base.implementation.user.UserManager;
 import com.ureca.picky_be.global.success.SuccessCode;
 import com.ureca.picky_be.jpa.entity.lineReview.LineReview;
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 
 @RequiredArgsConstructor
 @Service
 public class LineReviewService implements LineReviewUseCase {
 
     private final LineReviewManager lineReviewManager;
+    private final LineReviewLikeManager lineReviewLikeManager;
     private final LineReviewDtoMapper lineReviewDtoMapper;
     private final AuthManager authManager;
     private final UserManager userManager;
@@ -45,9 +51,13 @@ public class LineReviewService implements LineReviewUseCase {
     @Transactional(readOnly = true)
     public Slice<ReadLineReviewResp> getLineReviewsByMovie(PageRequest pageRequest, LineReviewQueryRequest queryReq) {
         Long userId = authManager.getUserId();
-        Slice<LineReviewProjection> lineReviews = lineReviewManager.findLineReviewsByMovie(userId, queryReq, pageRequest);
-        System.out.println("LineReviews Content: " + lineReviews.getContent());
-        return lineReviews.map(lineReviewDtoMapper::toReadLineReviewResp);
+        Slice<LineReviewProjection> lineReviews = lineReviewManager.findLineReviewsByMovie(queryReq, pageRequest);
+        List<Long> lineReviewIds = lineReviews.getContent().stream()
+                .map(LineReviewProjection::getId)
+                .toList();
+        Map<Long, Preference> preferences = lineReviewLikeManager.getPreferences(userId, lineReviewIds);
+        return lineReviews.map(lineReview ->
+                lineReviewDtoMapper.toReadLineReviewResp(lineReview, userId, preferences.get(lineReview.getId())));
     }
 
     @Override
@@ -73,6 +83,7 @@ public class LineReviewService implements LineReviewUseCase {
     }
 
     @Override
+    @Transactional
     public SuccessCode deleteLineReview(Long lineReviewId) {
         Long userId = authManager.getUserId();
         return lineReviewManager.deleteLineReview(lineReviewId, userId);
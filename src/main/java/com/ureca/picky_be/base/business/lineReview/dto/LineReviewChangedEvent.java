@@ -0,0 +1,25 @@
+package com.ureca.picky_be.base.business.lineReview.dto;
+
+import lombok.Getter;
+
+@Getter
+public class LineReviewChangedEvent {
+    private final Long movieId;
+    private final Long lineReviewId;
+    private final boolean created;      // 새로 작성된 한줄평인지 (삭제면 false)
+
+    public LineReviewChangedEvent(Long movieId, Long lineReviewId, boolean created) {
+        this.movieId = movieId;
+        this.lineReviewId = lineReviewId;
+        this.created = created;
+    }
+
+    @Override
+    public String toString() {
+        return "LineReviewChangedEvent{" +
+                "movieId=" + movieId +
+                ", lineReviewId=" + lineReviewId +
+                ", created=" + created +
+                '}';
+    }
+}
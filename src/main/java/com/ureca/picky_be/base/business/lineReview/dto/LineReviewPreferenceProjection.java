@@ -0,0 +1,8 @@
+package com.ureca.picky_be.base.business.lineReview.dto;
+
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
+
+public interface LineReviewPreferenceProjection {
+    Long getLineReviewId();
+    Preference getPreference();
+}
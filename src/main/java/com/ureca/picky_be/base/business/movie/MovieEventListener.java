@@ -0,0 +1,84 @@
+package com.ureca.picky_be.base.business.movie;
+
+import com.ureca.picky_be.base.business.lineReview.dto.LineReviewChangedEvent;
+import com.ureca.picky_be.base.business.movie.dto.MovieChangedEvent;
+import com.ureca.picky_be.base.business.movie.dto.MovieLikesFlushedEvent;
+import com.ureca.picky_be.base.business.notification.dto.BoardCreatedEvent;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
+import com.ureca.picky_be.base.implementation.movie.GenreIndexManager;
+import com.ureca.picky_be.base.implementation.movie.MovieCardCacheManager;
+import com.ureca.picky_be.base.implementation.movie.MovieDetailCacheManager;
+import com.ureca.picky_be.base.implementation.movie.MovieFacetIndexManager;
+import com.ureca.picky_be.base.implementation.movie.MovieLeaderboardManager;
+import com.ureca.picky_be.base.implementation.movie.MovieManager;
+import com.ureca.picky_be.base.implementation.movie.MovieTrendingManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MovieEventListener {
+    private final MovieDetailCacheManager movieDetailCacheManager;
+    private final MovieCardCacheManager movieCardCacheManager;
+    private final MovieLeaderboardManager movieLeaderboardManager;
+    private final MovieManager movieManager;
+    private final GenreIndexManager genreIndexManager;
+    private final MovieFacetIndexManager movieFacetIndexManager;
+    private final CatalogVersionManager catalogVersionManager;
+    private final MovieTrendingManager movieTrendingManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        movieManager.backfillMovieGenreSortKeys();
+    }
+
+    // 트랜잭션 밖에서 발행된 경우(fallbackExecution)에도 바로 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMovieChangedEvent(MovieChangedEvent event) {
+        movieDetailCacheManager.evict(event.getMovieId());
+        movieCardCacheManager.evict(event.getMovieId());
+        movieLeaderboardManager.markDirty();
+        genreIndexManager.invalidateMovie(event.getMovieId());
+        movieFacetIndexManager.markChanged(event.getMovieId());
+        catalogVersionManager.touchMovie(event.getMovieId());
+        catalogVersionManager.touchPlaylists();
+        // 무비로그 목록에 영화 제목/장르가 들어감
+        catalogVersionManager.touchMovieBoards(event.getMovieId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleLineReviewChangedEvent(LineReviewChangedEvent event) {
+        movieDetailCacheManager.evict(event.getMovieId());
+        movieCardCacheManager.evict(event.getMovieId());
+        // 한줄평이 바뀌면 total_rating도 바뀜
+        movieLeaderboardManager.markDirty();
+        movieFacetIndexManager.markChanged(event.getMovieId());
+        catalogVersionManager.touchMovie(event.getMovieId());
+        catalogVersionManager.touchPlaylists();
+        // 롤백된 작성은 트렌딩에 넣지 않도록 커밋 후에
+        if (event.isCreated()) {
+            movieTrendingManager.record(event.getMovieId(), MovieTrendingManager.Signal.LINE_REVIEW);
+        }
+    }
+
+    // flush는 트랜잭션이 끝난 뒤 발행하므로 fallbackExecution으로 바로 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMovieLikesFlushedEvent(MovieLikesFlushedEvent event) {
+        for (Long movieId : event.getMovieIds()) {
+            movieDetailCacheManager.evict(movieId);
+            movieCardCacheManager.evict(movieId);
+            catalogVersionManager.touchMovie(movieId);
+        }
+        movieLeaderboardManager.markDirty();
+        catalogVersionManager.touchPlaylists();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBoardCreatedEvent(BoardCreatedEvent event) {
+        movieTrendingManager.record(event.getMovieId(), MovieTrendingManager.Signal.BOARD);
+    }
+}
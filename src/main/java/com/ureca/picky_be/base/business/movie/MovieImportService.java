@@ -0,0 +1,172 @@
+package com.ureca.picky_be.base.business.movie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.picky_be.base.business.movie.dto.AddMovieReq;
+import com.ureca.picky_be.base.business.movie.dto.GetMovieImportJobResp;
+import com.ureca.picky_be.base.implementation.mapper.MovieDtoMapper;
+import com.ureca.picky_be.base.implementation.movie.MovieImportManager;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import com.ureca.picky_be.jpa.entity.movie.MovieImportJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * NDJSON(한 줄에 AddMovieReq 하나) 영화 대량 등록
+ * 파일을 한 줄씩 읽어 chunkSize 단위로 커밋하고, 실패하면 마지막으로 커밋된 줄부터 재개
+ */
+@Slf4j
+@Service
+public class MovieImportService implements MovieImportUseCase {
+    private static final int MAX_CHUNK_SIZE = 5000;
+
+    private final MovieImportManager movieImportManager;
+    private final MovieDtoMapper movieDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final Executor movieImportExecutor;
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    public MovieImportService(MovieImportManager movieImportManager,
+                              MovieDtoMapper movieDtoMapper,
+                              ObjectMapper objectMapper,
+                              @Qualifier("movieImportExecutor") Executor movieImportExecutor) {
+        this.movieImportManager = movieImportManager;
+        this.movieDtoMapper = movieDtoMapper;
+        this.objectMapper = objectMapper;
+        this.movieImportExecutor = movieImportExecutor;
+    }
+
+    @Override
+    public GetMovieImportJobResp startImport(InputStream ndjson, int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_INVALID_CHUNK_SIZE);
+        }
+        MovieImportJob job = movieImportManager.createJob(ndjson, chunkSize);
+        submit(job.getId());
+        return movieDtoMapper.toGetMovieImportJobResp(job);
+    }
+
+    @Override
+    public GetMovieImportJobResp resumeImport(Long jobId) {
+        if (runningJobIds.contains(jobId)) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_ALREADY_RUNNING);
+        }
+        MovieImportJob job = movieImportManager.resumeJob(jobId);
+        submit(job.getId());
+        return movieDtoMapper.toGetMovieImportJobResp(job);
+    }
+
+    @Override
+    public GetMovieImportJobResp getImportJob(Long jobId) {
+        return movieDtoMapper.toGetMovieImportJobResp(movieImportManager.getJob(jobId));
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobIds.add(jobId)) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_ALREADY_RUNNING);
+        }
+        try {
+            movieImportExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    runningJobIds.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningJobIds.remove(jobId);
+            movieImportManager.failJob(jobId, "작업 대기열이 가득 찼습니다.");
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_ALREADY_RUNNING);
+        }
+    }
+
+    private void run(Long jobId) {
+        MovieImportJob job = movieImportManager.getJob(jobId);
+        long startedAt = System.nanoTime();
+        long processedLines = 0;
+        Set<Long> knownWorkerIds = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(job.getFilePath()), StandardCharsets.UTF_8)) {
+            for (long skipped = 0; skipped < job.getCommittedLines(); skipped++) {
+                if (reader.readLine() == null) {
+                    break;
+                }
+            }
+
+            List<AddMovieReq> chunk = new ArrayList<>(job.getChunkSize());
+            int chunkLines = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chunkLines++;
+                AddMovieReq record = parse(jobId, job.getCommittedLines() + processedLines + chunkLines, line);
+                if (record != null) {
+                    chunk.add(record);
+                }
+                if (chunkLines == job.getChunkSize()) {
+                    processedLines += commitChunk(jobId, chunk, chunkLines, knownWorkerIds);
+                    logProgress(jobId, job.getCommittedLines() + processedLines, processedLines, startedAt);
+                    chunk = new ArrayList<>(job.getChunkSize());
+                    chunkLines = 0;
+                }
+            }
+            if (chunkLines > 0) {
+                processedLines += commitChunk(jobId, chunk, chunkLines, knownWorkerIds);
+                logProgress(jobId, job.getCommittedLines() + processedLines, processedLines, startedAt);
+            }
+            movieImportManager.completeJob(jobId);
+        } catch (IOException | RuntimeException e) {
+            log.error("Movie import failed. jobId={}, committedLines={}", jobId, job.getCommittedLines() + processedLines, e);
+            movieImportManager.failJob(jobId, e.getMessage());
+        }
+    }
+
+    private int commitChunk(Long jobId, List<AddMovieReq> chunk, int chunkLines, Set<Long> knownWorkerIds) {
+        Set<Long> workerIdsBefore = new HashSet<>(knownWorkerIds);
+        try {
+            movieImportManager.importChunk(jobId, chunk, chunkLines, knownWorkerIds);
+            return chunkLines;
+        } catch (RuntimeException e) {
+            // 롤백된 청크의 배우는 다음 재개 때 다시 insert 되어야 함
+            knownWorkerIds.retainAll(workerIdsBefore);
+            throw e;
+        }
+    }
+
+    private AddMovieReq parse(Long jobId, long lineNumber, String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            AddMovieReq record = objectMapper.readValue(line, AddMovieReq.class);
+            if (record.movieInfo() == null || record.movieInfo().id() == null) {
+                log.warn("Movie import skipped line without movie id. jobId={}, line={}", jobId, lineNumber);
+                return null;
+            }
+            return record;
+        } catch (IOException e) {
+            log.warn("Movie import skipped malformed line. jobId={}, line={}, reason={}", jobId, lineNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private void logProgress(Long jobId, long committedLines, long processedLines, long startedAt) {
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("Movie import progress. jobId={}, committedLines={}, throughput={} lines/s",
+                jobId, committedLines, String.format("%.1f", processedLines / elapsedSeconds));
+    }
+}
@@ -0,0 +1,10 @@
+package com.ureca.picky_be.base.business.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.GetMovieImportJobResp;
+import java.io.InputStream;
+
+public interface MovieImportUseCase {
+    GetMovieImportJobResp startImport(InputStream ndjson, int chunkSize);
+    GetMovieImportJobResp resumeImport(Long jobId);
+    GetMovieImportJobResp getImportJob(Long jobId);
+}
@@ -4,11 +4,17 @@ import com.ureca.picky_be.base.business.movie.dto.*;
 import com.ureca.picky_be.base.business.user.dto.GetMoviesForRegisReq;
 import com.ureca.picky_be.base.business.user.dto.GetMoviesForRegisResp;
 import com.ureca.picky_be.base.implementation.auth.AuthManager;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
 import com.ureca.picky_be.base.implementation.lineReview.LineReviewManager;
 import com.ureca.picky_be.base.implementation.mapper.MovieDtoMapper;
+import com.ureca.picky_be.base.implementation.movie.GenreIndexManager;
+import com.ureca.picky_be.base.implementation.movie.MovieDetailCacheManager;
+import com.ureca.picky_be.base.implementation.movie.MovieFacetIndexManager;
+import com.ureca.picky_be.base.implementation.movie.MovieLeaderboardManager;
 import com.ureca.picky_be.base.implementation.movie.MovieManager;
+import com.ureca.picky_be.base.implementation.movie.MovieSearchManager;
+import com.ureca.picky_be.base.implementation.movie.MovieTrendingManager;
 import com.ureca.picky_be.base.implementation.user.UserManager;
-import com.ureca.picky_be.elasticsearch.document.movie.MovieDocument;
 import com.ureca.picky_be.global.success.SuccessCode;
 import com.ureca.picky_be.jpa.entity.genre.Genre;
 import com.ureca.picky_be.jpa.entity.lineReview.LineReview;
@@ -17,16 +23,20 @@ import com.ureca.picky_be.jpa.entity.movie.Movie;
 import com.ureca.picky_be.jpa.entity.movie.MovieBehindVideo;
 import com.ureca.picky_be.jpa.entity.platform.Platform;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MovieService implements MovieUseCase{
@@ -35,6 +45,13 @@ public class MovieService implements MovieUseCase{
     private final AuthManager authManager;
     private final UserManager userManager;
     private final LineReviewManager lineReviewManager;
+    private final MovieDetailCacheManager movieDetailCacheManager;
+    private final MovieLeaderboardManager movieLeaderboardManager;
+    private final GenreIndexManager genreIndexManager;
+    private final MovieFacetIndexManager movieFacetIndexManager;
+    private final MovieSearchManager movieSearchManager;
+    private final CatalogVersionManager catalogVersionManager;
+    private final MovieTrendingManager movieTrendingManager;
 
     @Override
     public List<GetMoviesForRegisResp> getMoviesByGenre(GetMoviesForRegisReq getMoviesForRegisReq) {
@@ -44,23 +61,26 @@ public class MovieService implements MovieUseCase{
     @Override
     public SuccessCode addMovie(AddMovieReq addMovieReq) {
         Movie movie = movieManager.addMovie(addMovieReq);
-        List<Genre> genre = movieManager.getGenre(movie.getId());
         movieManager.addStreamingPlatform(addMovieReq, movie);
-        movieManager.addMovieElastic(movie, genre);
         return SuccessCode.CREATE_MOVIE_SUCCESS;
     }
 
     @Override
     public GetMovieDetailResp getMovieDetail(Long movieId) {
+        MovieDetailSnapshot snapshot = movieDetailCacheManager.getSnapshot(movieId, this::loadMovieDetailSnapshot);
+        boolean like = movieManager.getMovieLike(movieId, authManager.getUserId());
+        return movieDtoMapper.toGetMovieDetailResp(snapshot, like);
+    }
+
+    private MovieDetailSnapshot loadMovieDetailSnapshot(Long movieId) {
         Movie movie = movieManager.getMovie(movieId);
         List<MovieBehindVideo> movieBehindVideos = movieManager.getMovieBehindVideos(movieId);
         List<Genre> genres = movieManager.getGenre(movieId);
         List<FilmCrew> actors = movieManager.getActors(movie);
         List<FilmCrew> directors = movieManager.getDirectors(movie);
-        boolean like = movieManager.getMovieLike(movieId, authManager.getUserId());
         List<Platform> platforms = movieManager.getStreamingPlatform(movie);
         Long linereviewCount = lineReviewManager.getLineReviewCount(movieId);
-        return movieDtoMapper.toGetMovieDetailResp(movie, movieBehindVideos, genres, actors, directors, like, platforms, movie.getTotalRating(), linereviewCount);
+        return movieDtoMapper.toMovieDetailSnapshot(movie, movieBehindVideos, genres, actors, directors, platforms, movie.getTotalRating(), linereviewCount);
     }
 
     @Transactional
@@ -72,44 +92,93 @@ public class MovieService implements MovieUseCase{
     @Override
     public List<GetRecommendMovieResp> getRecommends() {
         List<Long> movieIds = movieManager.getRecommendsFromAi(authManager.getUserId());
-        List<Movie> movies = movieIds.stream()
-                .map(movieId -> {
-                    if (!movieManager.isExists(movieId)) {
-                        AddMovieAuto addMovieAuto = movieManager.saveMovieAuto(movieId);
-                        if (addMovieAuto == null) {
-                            return null; // null 반환
-                        }
-                        Movie movie = movieManager.addMovieAuto(addMovieAuto);
-                        movieManager.addMovieGenresAuto(addMovieAuto.genres(), movie);
-                        movieManager.addActorsAuto(addMovieAuto.credits(), movie);
-                        movieManager.addDirectorsAuto(addMovieAuto.credits(), movie);
-                        List<Genre> genres = movieManager.getGenre(movieId);
-                        movieManager.addMovieElastic(movie,genres);
-                        return movie;
-                    } else {
-                        return movieManager.findByMovieId(movieId);
+        if (movieIds.isEmpty()) {
+            // 아직 추천 목록이 생성되지 않았다면 메모리의 top 30으로 대체
+            movieIds = movieLeaderboardManager.getTop30().stream()
+                    .map(GetSimpleMovieResp::movieId)
+                    .toList();
+        }
+
+        // 1. 존재 여부는 한 번의 IN 쿼리로 확인
+        Set<Long> availableIds = new HashSet<>(movieManager.findExistingMovieIds(movieIds));
+        List<Long> missingIds = movieIds.stream()
+                .filter(movieId -> !availableIds.contains(movieId))
+                .distinct()
+                .toList();
+
+        // 2. 없는 영화는 TMDB에서 동시에(상한 있음) 불러오고, 정해진 시간까지만 기다림
+        List<CompletableFuture<AddMovieAuto>> fetches = missingIds.stream()
+                .map(movieManager::fetchMovieAutoAsync)
+                .toList();
+        movieManager.awaitMovieAutoFetches(fetches);
+
+        List<AddMovieAuto> arrived = new ArrayList<>();
+        for (CompletableFuture<AddMovieAuto> fetch : fetches) {
+            if (fetch.isDone()) {
+                AddMovieAuto addMovieAuto = fetch.isCompletedExceptionally() ? null : fetch.getNow(null);
+                if (addMovieAuto != null) {
+                    arrived.add(addMovieAuto);
+                }
+            } else {
+                // 늦게 도착한 영화는 백그라운드에서 저장해 다음 조회부터 포함
+                fetch.thenAccept(addMovieAuto -> {
+                    if (addMovieAuto != null) {
+                        saveFetchedMovies(List.of(addMovieAuto));
                     }
-                })
-                .filter(Objects::nonNull) // null 값을 필터링
-                .collect(Collectors.toList());
+                });
+            }
+        }
 
-        List<GetRecommendMovieProjection> simpleMovieProjections = movieManager.getRecommendsAi(movies);
+        // 3. 도착한 영화는 batch insert로 한 번에 저장
+        availableIds.addAll(saveFetchedMovies(arrived));
+
+        List<Long> recommendIds = movieIds.stream()
+                .filter(availableIds::contains)
+                .toList();
+        List<GetRecommendMovieProjection> simpleMovieProjections = movieManager.getRecommendsAi(recommendIds);
         return movieDtoMapper.toGetRecommendMovies(simpleMovieProjections);
     }
 
+    /**
+     * TMDB에서 가져온 영화 저장 후, DB에 존재하게 된 영화 id 반환
+     */
+    private List<Long> saveFetchedMovies(List<AddMovieAuto> addMovieAutos) {
+        if (addMovieAutos.isEmpty()) {
+            return List.of();
+        }
+        try {
+            movieManager.addMoviesAuto(addMovieAutos);
+        } catch (Exception e) {
+            log.warn("recommend movie hydration failed: {}", e.getMessage());
+            return List.of();
+        }
+        return addMovieAutos.stream()
+                .map(AddMovieAuto::id)
+                .toList();
+    }
+
     @Override
     public List<GetSimpleMovieResp> getTop10() {
-        return movieManager.getTop10();
+        return movieLeaderboardManager.getTop10();
     }
 
     @Override
-    public Slice<GetSimpleMovieResp> getMoviesByGenre(Long genreId, Long lastMovieId, LocalDateTime createdAt) {
-        return movieManager.getMoviesByGenre(genreId, lastMovieId, createdAt);
+    public GetMoviesByGenreResp getMoviesByGenre(Long genreId, String cursor) {
+        Slice<GetGenreMovieProjection> movies = movieManager.getMoviesByGenre(genreId, GenreMovieCursor.decode(cursor));
+        return movieDtoMapper.toGetMoviesByGenreResp(movies);
     }
 
     @Override
     public boolean movieLike(Long movieId){
-        return movieManager.movieLike(movieId, authManager.getUserId());
+        Long userId = authManager.getUserId();
+        boolean like = movieManager.movieLike(movieId, userId);
+        if (like) {
+            movieTrendingManager.recordLike(movieId, userId);
+        }
+        // 상세의 좋아요 여부가 바로 바뀜 (좋아요 수는 flush가 커밋된 후 MovieLikesFlushedEvent에서 다시 갱신)
+        catalogVersionManager.touchMovie(movieId);
+        catalogVersionManager.touchPlaylists();
+        return like;
     }
 
     @Override
@@ -135,7 +204,51 @@ public class MovieService implements MovieUseCase{
 
     @Override
     public List<GetSearchMoviesResp> getSearchMovies(String keyword) {
-        List<MovieDocument> movies = movieManager.getSearchMovies(keyword);
-        return movieDtoMapper.toGetSearchMovies(movies);
+        // 페이지 없는 기존 검색은 첫 페이지(최대 크기)만 반환
+        MovieSearchPage page = movieSearchManager.search(keyword, null, Integer.MAX_VALUE);
+        return movieDtoMapper.toGetSearchMovies(page.movies());
+    }
+
+    @Override
+    public GetSearchMoviesPageResp getSearchMoviesPage(String keyword, String cursor, int size) {
+        MovieSearchPage page = movieSearchManager.search(keyword, MovieSearchCursor.decode(cursor), size);
+        return movieDtoMapper.toGetSearchMoviesPageResp(page);
+    }
+
+    @Override
+    public List<GetMovieSuggestResp> getMovieSuggestions(String prefix, int size) {
+        return movieSearchManager.suggest(prefix, size);
+    }
+
+    @Override
+    public List<GetSimpleMovieResp> getMovieCards(List<Long> movieIds) {
+        return movieManager.getMovieCards(movieIds);
+    }
+
+    @Override
+    public List<GetSimpleMovieResp> getTrendingMovies(int size) {
+        int pageSize = Math.min(Math.max(size, 1), movieTrendingManager.getMaxSize());
+        List<Long> movieIds = movieTrendingManager.getTrending(pageSize);
+        return movieIds.isEmpty() ? List.of() : movieManager.getMovieCards(movieIds);
+    }
+
+    @Override
+    public SuccessCode rebuildMovieStats() {
+        movieManager.rebuildMovieStats();
+        return SuccessCode.REBUILD_MOVIE_STATS_SUCCESS;
+    }
+
+    @Override
+    public GetFilteredMoviesResp getFilteredMovies(GetMovieFilterReq req) {
+        movieManager.validateFilter(req);
+        MovieFacetSearchResult result = movieFacetIndexManager.search(req);
+        List<GetSimpleMovieResp> movies = movieManager.getSimpleMoviesByIds(result.movieIds());
+        return movieDtoMapper.toGetFilteredMoviesResp(result, movies, req);
+    }
+
+    @Override
+    public SuccessCode reloadGenreIndex() {
+        genreIndexManager.reload();
+        return SuccessCode.RELOAD_GENRE_INDEX_SUCCESS;
     }
 }
@@ -18,7 +18,8 @@ public interface MovieUseCase {
     SuccessCode updateMovie(Long movieId, UpdateMovieReq updateMovieReq);
     List<GetRecommendMovieResp> getRecommends();
     List<GetSimpleMovieResp> getTop10();
-    Slice<GetSimpleMovieResp> getMoviesByGenre(Long genreId, Long lastMovieId, LocalDateTime createdAt);
+    GetMoviesByGenreResp getMoviesByGenre(Long genreId, String cursor);
+    GetFilteredMoviesResp getFilteredMovies(GetMovieFilterReq req);
     boolean movieLike(Long movieId);
     List<GetGenres> getGenres();
     Slice<GetSimpleMovieResp> getMoviesOrderByCreatedAt(Long lastMovieId, LocalDateTime createdAt, int size);
@@ -26,5 +27,12 @@ public interface MovieUseCase {
     Slice<GetUserLikeMovieResp> getUserLikeMoviesByNickname(PageRequest pageRequest, GetUserLikeMovieReq req);
 
     List<GetSearchMoviesResp> getSearchMovies(String keyword);
+    GetSearchMoviesPageResp getSearchMoviesPage(String keyword, String cursor, int size);
+    List<GetMovieSuggestResp> getMovieSuggestions(String prefix, int size);
+    List<GetSimpleMovieResp> getMovieCards(List<Long> movieIds);
+    List<GetSimpleMovieResp> getTrendingMovies(int size);
+
+    SuccessCode rebuildMovieStats();
+    SuccessCode reloadGenreIndex();
 
 }
@@ -0,0 +1,42 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 장르별 영화 목록 keyset 커서 (popularity, createdAt, movieId)
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로만 전달한다.
+ */
+public record GenreMovieCursor(
+        double popularity,
+        LocalDateTime createdAt,
+        Long movieId
+) {
+    private static final String DELIMITER = ",";
+
+    public String encode() {
+        String raw = popularity + DELIMITER + createdAt + DELIMITER + movieId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GenreMovieCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new GenreMovieCursor(
+                    Double.parseDouble(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_CURSOR);
+        }
+    }
+}
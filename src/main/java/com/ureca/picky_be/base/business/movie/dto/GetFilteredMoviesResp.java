@@ -0,0 +1,12 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record GetFilteredMoviesResp(
+        List<GetSimpleMovieResp> movies,
+        long totalCount,
+        boolean hasNext,
+        Map<String, Map<String, Long>> facets
+) {
+}
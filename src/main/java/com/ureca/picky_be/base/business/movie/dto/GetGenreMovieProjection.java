@@ -0,0 +1,17 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.time.LocalDateTime;
+
+//장르별 영화 목록 반환 (keyset 정렬 키 포함)
+public interface GetGenreMovieProjection {
+    Long getMovieId();
+    String getTitle();
+    Integer getLikes();
+    Integer getLineReviews();
+    LocalDateTime getCreatedAt();
+    double getTotalRating();
+    String getPosterUrl();
+    String getBackdropUrl();
+    double getPopularity();
+    LocalDateTime getSortCreatedAt();
+}
@@ -1,4 +1,7 @@
 package com.ureca.picky_be.base.business.movie.dto;
 
-public record GetGenres(Long genreId, String name) {
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+// 검색 색인(connector-movie)의 genre 필드는 id로 저장되어 있음
+public record GetGenres(@JsonAlias("id") Long genreId, String name) {
 }
@@ -0,0 +1,19 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import com.ureca.picky_be.jpa.entity.platform.PlatformType;
+
+import java.util.List;
+
+// 같은 조건 안에서는 OR, 조건끼리는 AND
+public record GetMovieFilterReq(
+        List<Long> genreIds,
+        List<PlatformType> platforms,
+        List<String> languages,
+        Integer yearFrom,
+        Integer yearTo,
+        Double minRating,
+        Double maxRating,
+        int page,
+        int size
+) {
+}
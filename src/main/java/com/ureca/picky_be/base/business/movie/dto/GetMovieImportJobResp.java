@@ -0,0 +1,19 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import com.ureca.picky_be.jpa.entity.movie.MovieImportStatus;
+
+import java.time.LocalDateTime;
+
+public record GetMovieImportJobResp(
+        Long jobId,
+        MovieImportStatus status,
+        int chunkSize,
+        long committedLines,
+        long importedMovies,
+        long skippedLines,
+        double linesPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failedReason
+) {
+}
@@ -0,0 +1,7 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+public record GetMovieSuggestResp(
+        Long movieId,
+        String movieTitle
+) {
+}
@@ -0,0 +1,10 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.util.List;
+
+public record GetMoviesByGenreResp(
+        List<GetSimpleMovieResp> movies,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,12 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.util.List;
+
+public record GetSearchMoviesPageResp(
+        List<GetSearchMoviesResp> movies,
+        String nextCursor,
+        boolean hasNext,
+        long totalHits,
+        boolean totalHitsExact
+) {
+}
@@ -0,0 +1,19 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import lombok.Getter;
+
+@Getter
+public class MovieChangedEvent {
+    private final Long movieId;
+
+    public MovieChangedEvent(Long movieId) {
+        this.movieId = movieId;
+    }
+
+    @Override
+    public String toString() {
+        return "MovieChangedEvent{" +
+                "movieId=" + movieId +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.util.List;
+
+/**
+ * 영화 상세 조회 읽기 모델
+ * 사용자별로 달라지는 좋아요 여부를 제외한 상세 정보를 담아 캐싱한다.
+ */
+public record MovieDetailSnapshot(
+        GetMovieDetailResp.MovieInfo movieInfo,
+        String trailer,
+        String ost,
+        List<String> movieBehindVideos,
+        double rating,
+        GetMovieDetailResp.StreamingPlatform streamingPlatform,
+        Long linereviewCount
+) {
+}
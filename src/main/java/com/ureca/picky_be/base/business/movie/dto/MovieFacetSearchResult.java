@@ -0,0 +1,12 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// 필터 인덱스 조회 결과: 인기순 movieId 한 페이지 + 전체 개수 + 조건별 개수
+public record MovieFacetSearchResult(
+        List<Long> movieIds,
+        long totalCount,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,6 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+public interface MovieGenreIdProjection {
+    Long getMovieId();
+    Long getGenreId();
+}
@@ -0,0 +1,24 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 좋아요 버퍼가 movie_like / movie_stats.like_count 반영을 커밋한 후 발행
+ */
+@Getter
+public class MovieLikesFlushedEvent {
+    private final Set<Long> movieIds;
+
+    public MovieLikesFlushedEvent(Set<Long> movieIds) {
+        this.movieIds = movieIds;
+    }
+
+    @Override
+    public String toString() {
+        return "MovieLikesFlushedEvent{" +
+                "movieIds=" + movieIds +
+                '}';
+    }
+}
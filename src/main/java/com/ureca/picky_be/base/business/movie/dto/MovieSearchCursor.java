@@ -0,0 +1,39 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 영화 검색 search_after 커서 (score, movieId)
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로만 전달한다.
+ */
+public record MovieSearchCursor(
+        double score,
+        Long movieId
+) {
+    private static final String DELIMITER = ",";
+
+    public String encode() {
+        String raw = score + DELIMITER + movieId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovieSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            return new MovieSearchCursor(
+                    Double.parseDouble(parts[0]),
+                    Long.parseLong(parts[1])
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_CURSOR);
+        }
+    }
+}
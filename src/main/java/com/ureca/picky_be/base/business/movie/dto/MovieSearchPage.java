@@ -0,0 +1,17 @@
+package com.ureca.picky_be.base.business.movie.dto;
+
+import com.ureca.picky_be.elasticsearch.document.movie.MovieDocument;
+
+import java.util.List;
+
+/**
+ * 영화 검색 한 페이지 결과
+ * totalHitsExact가 false면 totalHits는 track_total_hits 상한값이다.
+ */
+public record MovieSearchPage(
+        List<MovieDocument> movies,
+        MovieSearchCursor nextCursor,
+        long totalHits,
+        boolean totalHitsExact
+) {
+}
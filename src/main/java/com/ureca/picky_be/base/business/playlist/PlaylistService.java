@@ -3,6 +3,7 @@ package com.ureca.picky_be.base.business.playlist;
 import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieProjection;
 import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp;
 import com.ureca.picky_be.base.business.playlist.dto.*;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
 import com.ureca.picky_be.base.implementation.mapper.PlaylistDtoMapper;
 import com.ureca.picky_be.base.implementation.playlist.PlaylistManager;
 import com.ureca.picky_be.global.exception.CustomException;
@@ -23,6 +24,7 @@ public class PlaylistService implements PlaylistUseCase{
 
     private final PlaylistManager playlistManager;
     private final PlaylistDtoMapper playlistDtoMapper;
+    private final CatalogVersionManager catalogVersionManager;
 
     @Transactional(readOnly = true)
     public Slice<GetPlaylistResp> getPlaylist(Long lastPlaylistId, Integer size) {
@@ -43,19 +45,25 @@ public class PlaylistService implements PlaylistUseCase{
     @Override
     public AddPlaylistResp addPlaylist(AddPlaylistReq addPlaylistReq) {
         if(addPlaylistReq.movieIds().isEmpty() || addPlaylistReq.title().isEmpty()) throw new CustomException(ErrorCode.PLAYLIST_CREATE_FAILED);
-        return playlistDtoMapper.toAddPlaylistResp(playlistManager.addPlaylist(addPlaylistReq));
+        AddPlaylistResp resp = playlistDtoMapper.toAddPlaylistResp(playlistManager.addPlaylist(addPlaylistReq));
+        catalogVersionManager.touchPlaylists();
+        return resp;
     }
 
     @Override
     @Transactional
     public UpdatePlaylistResp updatePlaylist(UpdatePlaylistReq updatePlaylistReq) {
         if(updatePlaylistReq.playlistId() == null) throw new CustomException(ErrorCode.PLAYLIST_UPDATE_FAILED);
-        return playlistDtoMapper.toUpdatePlaylistResp(playlistManager.updatePlaylist(updatePlaylistReq));
+        UpdatePlaylistResp resp = playlistDtoMapper.toUpdatePlaylistResp(playlistManager.updatePlaylist(updatePlaylistReq));
+        catalogVersionManager.touchPlaylists();
+        return resp;
     }
 
     @Override
     public SuccessCode deletePlaylist(Long playlistId) {
-        return playlistManager.deletePlaylist(playlistId);
+        SuccessCode successCode = playlistManager.deletePlaylist(playlistId);
+        catalogVersionManager.touchPlaylists();
+        return successCode;
     }
 }
 
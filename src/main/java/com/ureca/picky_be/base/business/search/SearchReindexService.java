@@ -0,0 +1,52 @@
+package com.ureca.picky_be.base.business.search;
+
+import com.ureca.picky_be.base.business.search.dto.GetSearchReindexJobResp;
+import com.ureca.picky_be.base.implementation.mapper.SearchDtoMapper;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import com.ureca.picky_be.base.implementation.search.SearchReindexJob;
+import com.ureca.picky_be.base.implementation.search.SearchReindexManager;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+public class SearchReindexService implements SearchReindexUseCase {
+    private static final int MAX_BATCH_SIZE = 10000;
+    private static final int MAX_CONCURRENCY = 8;
+
+    private final SearchReindexManager searchReindexManager;
+    private final SearchDtoMapper searchDtoMapper;
+    private final Executor searchReindexExecutor;
+
+    public SearchReindexService(SearchReindexManager searchReindexManager,
+                                SearchDtoMapper searchDtoMapper,
+                                @Qualifier("searchReindexExecutor") Executor searchReindexExecutor) {
+        this.searchReindexManager = searchReindexManager;
+        this.searchDtoMapper = searchDtoMapper;
+        this.searchReindexExecutor = searchReindexExecutor;
+    }
+
+    @Override
+    public GetSearchReindexJobResp startReindex(SearchIndexTarget target, int batchSize, int concurrency) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE || concurrency < 1 || concurrency > MAX_CONCURRENCY) {
+            throw new CustomException(ErrorCode.SEARCH_REINDEX_INVALID_OPTION);
+        }
+        SearchReindexJob job = searchReindexManager.createJob(target, batchSize, concurrency);
+        try {
+            searchReindexExecutor.execute(() -> searchReindexManager.run(job));
+        } catch (RejectedExecutionException e) {
+            searchReindexManager.failJob(job, "reindex executor is busy");
+            throw new CustomException(ErrorCode.SEARCH_REINDEX_ALREADY_RUNNING);
+        }
+        return searchDtoMapper.toGetSearchReindexJobResp(job);
+    }
+
+    @Override
+    public GetSearchReindexJobResp getReindexJob(SearchIndexTarget target) {
+        return searchDtoMapper.toGetSearchReindexJobResp(searchReindexManager.getJob(target));
+    }
+}
@@ -0,0 +1,9 @@
+package com.ureca.picky_be.base.business.search;
+
+import com.ureca.picky_be.base.business.search.dto.GetSearchReindexJobResp;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+
+public interface SearchReindexUseCase {
+    GetSearchReindexJobResp startReindex(SearchIndexTarget target, int batchSize, int concurrency);
+    GetSearchReindexJobResp getReindexJob(SearchIndexTarget target);
+}
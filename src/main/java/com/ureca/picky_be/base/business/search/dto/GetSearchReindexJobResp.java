@@ -0,0 +1,22 @@
+package com.ureca.picky_be.base.business.search.dto;
+
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import com.ureca.picky_be.base.implementation.search.SearchReindexStatus;
+
+import java.time.LocalDateTime;
+
+public record GetSearchReindexJobResp(
+        SearchIndexTarget target,
+        String indexName,
+        SearchReindexStatus status,
+        int batchSize,
+        int concurrency,
+        long scannedDocs,
+        long indexedDocs,
+        long failedDocs,
+        double docsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String failedReason
+) {
+}
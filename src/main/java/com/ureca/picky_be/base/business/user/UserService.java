@@ -35,8 +35,7 @@ public class UserService implements UserUseCase {
 
     @Override
     public SuccessCode registerUserInfo(RegisterUserReq req) {
-        User user = userManager.registerUserInfo(authManager.getUserId(), req);
-        userManager.addUserElastic(user);
+        userManager.registerUserInfo(authManager.getUserId(), req);
         return SuccessCode.UPDATE_USER_SUCCESS;
     }
 
@@ -4,6 +4,7 @@ import com.ureca.picky_be.global.exception.CustomException;
 import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.global.web.CustomUserDetails;
 import com.ureca.picky_be.jpa.entity.user.Role;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,18 @@ public class AuthManager {
         return getCurrentUserDetails().getId();
     }
 
+    /**
+     * when: 로그인 없이도 볼 수 있는 조회
+     * what: 로그인한 사용자 id, 비로그인이면 null
+     */
+    public Long getUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
     public Role getUserRole() {
         return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
                 .findFirst()
@@ -1,13 +1,17 @@
 package com.ureca.picky_be.base.implementation.auth;
 
 import com.ureca.picky_be.base.business.auth.dto.*;
+import com.ureca.picky_be.base.implementation.movie.MovieManager;
+import com.ureca.picky_be.base.implementation.search.SearchOutboxManager;
 import com.ureca.picky_be.base.persistence.board.BoardCommentRepository;
 import com.ureca.picky_be.base.persistence.board.BoardLikeRepository;
 import com.ureca.picky_be.base.persistence.board.BoardRepository;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewLikeRepository;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewRepository;
+import com.ureca.picky_be.base.persistence.lineReview.LineReviewLikeSoftDeleteRepository;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewSoftDeleteRepository;
 import com.ureca.picky_be.base.persistence.movie.MovieLikeRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieStatsRepository;
 import com.ureca.picky_be.base.persistence.user.UserGenrePreferenceRepository;
 import com.ureca.picky_be.base.persistence.user.UserRepository;
 import com.ureca.picky_be.config.oAuth2.GoogleConfig;
@@ -15,6 +19,7 @@ import com.ureca.picky_be.global.exception.CustomException;
 import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.global.success.SuccessCode;
 import com.ureca.picky_be.global.web.JwtTokenProvider;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
 import com.ureca.picky_be.jpa.entity.user.Role;
 import com.ureca.picky_be.jpa.entity.user.SocialPlatform;
 import com.ureca.picky_be.jpa.entity.user.User;
@@ -40,11 +45,15 @@ public class GoogleManager {
     private final LineReviewRepository lineReviewRepository;
     private final LineReviewLikeRepository lineReviewLikeRepository;
     private final LineReviewSoftDeleteRepository lineReviewSoftDeleteRepository;
+    private final LineReviewLikeSoftDeleteRepository lineReviewLikeSoftDeleteRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final MovieStatsRepository movieStatsRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final BoardCommentRepository boardCommentRepository;
     private final BoardRepository boardRepository;
     private final UserGenrePreferenceRepository userGenrePreferenceRepository;
+    private final SearchOutboxManager searchOutboxManager;
+    private final MovieManager movieManager;
 
     RestClient restClient = RestClient.create();
 
@@ -166,11 +175,18 @@ public class GoogleManager {
         }
 
         // 연관된 자료 삭제
+        movieStatsRepository.subtractLineReviewsByUserId(userId);
+        movieStatsRepository.syncTotalRatingsByUserId(userId);
+        movieStatsRepository.subtractLikesByUserId(userId);
+
+        lineReviewRepository.subtractLikeCountsByUserId(userId);
         lineReviewLikeRepository.deleteByUserId(userId);
         lineReviewRepository.deleteByUserId(userId);
         lineReviewSoftDeleteRepository.deleteByUserId(userId);
+        lineReviewLikeSoftDeleteRepository.deleteByUserId(userId);
 
         movieLikeRepository.deleteByUserId(userId);
+        movieManager.forgetUser(userId);
 
         boardLikeRepository.deleteByUserId(userId);
         boardCommentRepository.deleteByUserId(userId);
@@ -180,6 +196,7 @@ public class GoogleManager {
 
         // 유저 삭제
         userRepository.deleteById(userId);
+        searchOutboxManager.enqueue(SearchIndexTarget.USER, userId);
         return SuccessCode.REQUEST_DELETE_ACCOUNT_SUCCESS;
     }
 
@@ -7,6 +7,7 @@ import com.ureca.picky_be.base.business.board.dto.boardDto.UpdateBoardReq;
 import com.ureca.picky_be.base.business.board.dto.contentDto.AddBoardContentReq;
 import com.ureca.picky_be.base.business.board.dto.contentDto.BoardContentWithBoardId;
 import com.ureca.picky_be.base.business.user.dto.BoardQueryReq;
+import com.ureca.picky_be.base.implementation.reaction.ViewerReactionCacheManager;
 import com.ureca.picky_be.base.persistence.board.BoardLikeRepository;
 import com.ureca.picky_be.base.persistence.board.BoardRepository;
 import com.ureca.picky_be.base.persistence.board.BoardCommentRepository;
@@ -17,7 +18,6 @@ import com.ureca.picky_be.global.exception.CustomException;
 import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.jpa.entity.board.Board;
 import com.ureca.picky_be.jpa.entity.board.BoardComment;
-import com.ureca.picky_be.jpa.entity.board.BoardLike;
 import com.ureca.picky_be.jpa.entity.config.IsDeleted;
 import com.ureca.picky_be.jpa.entity.movie.Movie;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Component
@@ -40,6 +41,7 @@ public class BoardManager {
     private final BoardLikeRepository boardLikeRepository;
     private final BoardContentRepository boardContentRepository;
     private final UserRepository userRepository;
+    private final ViewerReactionCacheManager viewerReactionCacheManager;
 
 
     @Transactional
@@ -71,13 +73,13 @@ public class BoardManager {
     }
 
     @Transactional(readOnly = true)
-    public Slice<BoardProjection> getRecentMovieRelatedBoards(Long userId, Long movieId, Long lastBoardId, Pageable pageable) {
+    public Slice<BoardProjection> getRecentMovieRelatedBoards(Long movieId, Long lastBoardId, Pageable pageable) {
         // 특정 영화 무비로그들 최신순 기준으로 Board들을 가져온다
         if(!movieRepository.existsById(movieId)) throw new CustomException(ErrorCode.MOVIE_NOT_FOUND);
 
         try {
             validateCursor(lastBoardId);
-            Slice<BoardProjection> boards = boardRepository.getRecentMovieRelatedBoards(userId, movieId, lastBoardId, pageable);
+            Slice<BoardProjection> boards = boardRepository.getRecentMovieRelatedBoards(movieId, lastBoardId, pageable);
             return boards;
         } catch(Exception e) {
             throw new CustomException(ErrorCode.BOARD_MOVIE_RELATED_GET_FAILED);
@@ -85,12 +87,12 @@ public class BoardManager {
     }
 
     @Transactional(readOnly = true)
-    public Slice<BoardProjection> getRecentMovieBoards(Long userId, Long lastBoardId, Pageable pageable) {
+    public Slice<BoardProjection> getRecentMovieBoards(Long lastBoardId, Pageable pageable) {
         // 특정 영화 무비로그들 최신순 기준으로 Board들을 가져온다
 
         try {
             validateCursor(lastBoardId);
-            Slice<BoardProjection> boards = boardRepository.getRecentBoards(userId, lastBoardId, pageable);
+            Slice<BoardProjection> boards = boardRepository.getRecentBoards(lastBoardId, pageable);
             return boards;
         } catch(Exception e) {
             throw new CustomException(ErrorCode.BOARD_MOVIE_RELATED_GET_FAILED);
@@ -99,7 +101,7 @@ public class BoardManager {
 
 
     @Transactional(readOnly = true)
-    public Slice<BoardProjection> findBoardsByUserId(Long searchUserId, Long currentId, BoardQueryReq req, PageRequest pageRequest) {
+    public Slice<BoardProjection> findBoardsByUserId(Long searchUserId, BoardQueryReq req, PageRequest pageRequest) {
         String nickname = req.nickname();
         Long lastBoardId = req.lastBoardId();
 
@@ -110,12 +112,43 @@ public class BoardManager {
         // 커서 유효성 검사
         validateCursor(lastBoardId);
         try {
-            return boardRepository.findByIdAndCursor(searchUserId, currentId, lastBoardId, pageRequest);
+            return boardRepository.findByIdAndCursor(searchUserId, lastBoardId, pageRequest);
         } catch(Exception e) {
             throw new CustomException(ErrorCode.BOARD_USER_ID_GET_FAILED);
         }
     }
 
+    /**
+     * when: 게시글 목록 페이지를 읽은 후
+     * what: 페이지의 게시글 중 사용자가 좋아요한 id 집합 (비로그인이면 빈 집합)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedBoardIds(Long userId, List<Long> boardIds) {
+        if (userId == null || boardIds.isEmpty()) return Set.of();
+        try {
+            return viewerReactionCacheManager.getLikedBoardIds(userId, boardIds,
+                    misses -> boardLikeRepository.findLikedBoardIds(userId, misses));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.BOARD_LIKE_FAILED);
+        }
+    }
+
+    /**
+     * when: 홈 피드 id 페이지를 읽은 후
+     * what: id 순서대로 게시글 조회 (삭제됐거나 언팔로우한 작성자의 게시글은 빠지므로 id 수보다 적을 수 있음)
+     */
+    @Transactional(readOnly = true)
+    public List<BoardProjection> getFeedBoards(Long viewerId, List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return boardRepository.findFeedBoards(viewerId, boardIds);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.BOARD_FEED_GET_FAILED);
+        }
+    }
+
     private void validateCursor(Long lastId) {
         // 첫 요청일 경우
         if(lastId == null) return;
@@ -210,13 +243,10 @@ public class BoardManager {
 
 
     @Transactional(readOnly = true)
-    public boolean checkUserBoardLike(Long userId, Long boardId) {
-        try {
-            Optional<BoardLike> board = boardLikeRepository.findByBoardIdAndUserId(boardId, userId);
-            return board.isPresent();
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.BOARD_LIKE_FAILED);
-        }
+    public Long getMovieIdOfBoard(Long boardId) {
+        Long movieId = boardRepository.findMovieIdById(boardId);
+        if (movieId == null) throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+        return movieId;
     }
 
     @Transactional(readOnly = true)
@@ -225,23 +255,32 @@ public class BoardManager {
         return board.orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
     }
 
+    /**
+     * when: 게시글 좋아요를 누를 때
+     * what: 좋아요가 있으면 삭제, 없으면 추가 (게시글을 읽지 않고 삭제/추가 문장의 결과로 판단)
+     * 반환: 누른 뒤 좋아요 상태
+     */
     @Transactional
-    public void deleteBoardLike(Long userId, Long boardId) {
+    public boolean toggleBoardLike(Long userId, Long boardId) {
+        int removed;
+        int inserted = 0;
         try {
-            boardLikeRepository.deleteByBoardIdAndUserId(boardId, userId);
+            removed = boardLikeRepository.deleteLikeOfActiveBoard(boardId, userId);
+            if (removed == 0) {
+                inserted = boardLikeRepository.insertLikeOfActiveBoard(boardId, userId);
+            }
         } catch (Exception e) {
-            throw new CustomException(ErrorCode.BOARD_LIKE_DELETE_FAILED);
+            throw new CustomException(ErrorCode.BOARD_LIKE_FAILED);
         }
-    }
-
-    @Transactional
-    public void createBoardLike(Long userId, Board board) {
-        try{
-            BoardLike like = BoardLike.of(userId, board);
-            boardLikeRepository.save(like);
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.BOARD_LIKE_DELETE_FAILED);
+        if (removed == 0 && inserted == 0) {
+            // 게시글이 없거나 삭제됨, 아니면 동시에 같은 좋아요가 먼저 들어간 경우
+            IsDeleted isDeleted = boardRepository.findIsDeleted(boardId);
+            if (isDeleted == null) throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+            if (isDeleted == IsDeleted.TRUE) throw new CustomException(ErrorCode.BOARD_IS_DELETED);
         }
+        boolean liked = removed == 0;
+        viewerReactionCacheManager.putBoardLike(userId, boardId, liked);
+        return liked;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,306 @@
+package com.ureca.picky_be.base.implementation.board;
+
+import com.ureca.picky_be.base.persistence.board.BoardRepository;
+import com.ureca.picky_be.base.persistence.board.BoardTimelineJdbcRepository;
+import com.ureca.picky_be.base.persistence.board.BoardTimelineJdbcRepository.PendingFanOut;
+import com.ureca.picky_be.base.persistence.follow.FollowRepository;
+import com.ureca.picky_be.global.cache.LruCache;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import com.ureca.picky_be.global.timeline.TimelineRing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로워 홈 피드 타임라인
+ * - 게시글 작성 시 작성자와 팔로워들의 타임라인에 게시글 id를 넣음(팬아웃) -> 피드 조회는 id 목록만 읽고 게시글은 한 번에 조회
+ * - 팬아웃 요청은 게시글과 같은 트랜잭션에서 outbox에 남기고 끝나면 지움. 비동기 팬아웃이 버려지거나 실패하면 주기 작업이 다시 처리
+ * - 저장소(board_timeline)가 원본이고, 최근 조회한 사용자들의 최신 id는 메모리 링 버퍼에 두어 첫 페이지들은 DB를 거치지 않음
+ * - 팔로워가 fanout-max-followers보다 많은 작성자는 팬아웃하지 않고, 팔로워가 피드를 읽을 때 그 작성자의 최신 게시글을 직접 읽어 합침
+ * - 메모리 링은 인스턴스마다 따로라 다른 인스턴스에서 팬아웃된 항목은 링 TTL(ring-ttl-ms)이 지나 다시 로딩될 때 보임 (저장소 조회 경로는 항상 최신)
+ * - 언팔로우/게시글 삭제 시 저장소의 항목도 지움 (남은 항목은 피드 게시글 조회에서 걸러짐)
+ */
+@Slf4j
+@Component
+public class BoardTimelineManager {
+    private final BoardTimelineJdbcRepository timelineJdbcRepository;
+    private final FollowRepository followRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LruCache<Long, CachedRing> rings;
+    private final int ringCapacity;
+    private final long ringTtlMillis;
+    private final int fanoutMaxFollowers;
+    private final int retentionDays;
+    private final int purgeChunkSize;
+    private final long fanoutRetryDelayMillis;
+    private final int fanoutRetryBatchSize;
+    private volatile Set<Long> highFollowerIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter fanoutRows;
+    private final Counter fanoutSkipped;
+    private final Counter fanoutFailures;
+    private final Counter readFromMemory;
+    private final Counter readFromStore;
+
+    public BoardTimelineManager(BoardTimelineJdbcRepository timelineJdbcRepository,
+                                FollowRepository followRepository,
+                                BoardRepository boardRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                // 기본값 기준 링 메모리는 최대 5000명 x 200개 x 8바이트 = 약 8MB
+                                @Value("${picky.timeline.max-users:5000}") int maxUsers,
+                                @Value("${picky.timeline.ring-capacity:200}") int ringCapacity,
+                                @Value("${picky.timeline.ring-ttl-ms:300000}") long ringTtlMillis,
+                                @Value("${picky.timeline.fanout-max-followers:5000}") int fanoutMaxFollowers,
+                                @Value("${picky.timeline.retention-days:30}") int retentionDays,
+                                @Value("${picky.timeline.purge-chunk-size:1000}") int purgeChunkSize,
+                                @Value("${picky.timeline.fanout-retry-delay-ms:60000}") long fanoutRetryDelayMillis,
+                                @Value("${picky.timeline.fanout-retry-batch-size:100}") int fanoutRetryBatchSize) {
+        this.timelineJdbcRepository = timelineJdbcRepository;
+        this.followRepository = followRepository;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rings = new LruCache<>(maxUsers);
+        this.ringCapacity = ringCapacity;
+        this.ringTtlMillis = ringTtlMillis;
+        this.fanoutMaxFollowers = fanoutMaxFollowers;
+        this.retentionDays = retentionDays;
+        this.purgeChunkSize = purgeChunkSize;
+        this.fanoutRetryDelayMillis = fanoutRetryDelayMillis;
+        this.fanoutRetryBatchSize = fanoutRetryBatchSize;
+        this.fanoutRows = meterRegistry.counter("picky.timeline.fanout", "type", "row");
+        this.fanoutSkipped = meterRegistry.counter("picky.timeline.fanout", "type", "skipped");
+        this.fanoutFailures = meterRegistry.counter("picky.timeline.fanout", "type", "failure");
+        this.readFromMemory = meterRegistry.counter("picky.timeline.read", "source", "memory");
+        this.readFromStore = meterRegistry.counter("picky.timeline.read", "source", "store");
+    }
+
+    /**
+     * when: 게시글 작성 트랜잭션 안에서
+     * what: 팬아웃 요청을 outbox에 기록. 비동기 팬아웃이 먼저 처리하도록 재시도는 fanout-retry-delay-ms 뒤부터
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueFanOut(Long writerId, Long boardId) {
+        timelineJdbcRepository.insertFanOut(writerId, boardId,
+                LocalDateTime.now().plus(Duration.ofMillis(fanoutRetryDelayMillis)));
+    }
+
+    /**
+     * when: 게시글 작성이 커밋된 후 (비동기), 또는 outbox 재시도에서
+     * what: 작성자와 팔로워 타임라인에 게시글 id 추가, 팔로워가 너무 많으면 건너뛰고 읽을 때 합치도록 표시. 끝나면 outbox 행 삭제
+     * 같은 게시글을 두 번 팬아웃해도 저장소는 INSERT IGNORE, 링은 읽을 때 중복을 거르므로 결과가 같음
+     */
+    public void fanOut(Long writerId, Long boardId) {
+        List<Long> followerIds = followRepository.findFollowerIds(writerId, PageRequest.ofSize(fanoutMaxFollowers + 1));
+        if (followerIds.size() > fanoutMaxFollowers) {
+            highFollowerIds.add(writerId);
+            fanoutSkipped.increment();
+            timelineJdbcRepository.deleteFanOut(boardId);
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(followerIds.size() + 1);
+        userIds.add(writerId);
+        userIds.addAll(followerIds);
+        timelineJdbcRepository.insertForUsers(userIds, boardId);
+        fanoutRows.increment(userIds.size());
+
+        // 저장 후 메모리 반영: 링이 있으면 추가, 없으면 스탬프만 올려 진행 중인 로딩이 이 id 없이 캐시되지 않게
+        for (Long userId : userIds) {
+            CachedRing cached = rings.get(userId);
+            if (cached != null) {
+                cached.ring().push(boardId);
+            } else {
+                rings.invalidate(userId);
+            }
+        }
+        timelineJdbcRepository.deleteFanOut(boardId);
+    }
+
+    /**
+     * when: 주기적으로
+     * what: 비동기 팬아웃이 끝내지 못한 outbox 행을 다시 팬아웃 (실패하면 지수 백오프)
+     */
+    @Scheduled(fixedDelayString = "${picky.timeline.fanout-retry-interval-ms:30000}")
+    public void retryPendingFanOuts() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 잠금은 lease를 기록하는 짧은 트랜잭션 동안만 잡고 팬아웃은 트랜잭션 밖에서
+            List<PendingFanOut> pending = transactionTemplate.execute(status -> {
+                List<PendingFanOut> locked = timelineJdbcRepository.lockDueFanOuts(now, fanoutRetryBatchSize);
+                timelineJdbcRepository.leaseFanOuts(locked.stream().map(PendingFanOut::id).toList(),
+                        now.plus(Duration.ofMillis(fanoutRetryDelayMillis)));
+                return locked;
+            });
+            if (pending == null) {
+                return;
+            }
+            for (PendingFanOut fanOut : pending) {
+                try {
+                    fanOut(fanOut.writerId(), fanOut.boardId());
+                } catch (Exception e) {
+                    fanoutFailures.increment();
+                    long delay = Math.min(fanoutRetryDelayMillis << Math.min(fanOut.attempts(), 10), Duration.ofHours(1).toMillis());
+                    timelineJdbcRepository.markFanOutRetry(fanOut.id(), LocalDateTime.now().plus(Duration.ofMillis(delay)), e.getMessage());
+                    log.warn("Timeline fan-out retry failed. boardId={}, attempts={}", fanOut.boardId(), fanOut.attempts() + 1, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Timeline fan-out retry failed.", e);
+        }
+    }
+
+    /**
+     * when: 언팔로우할 때
+     * what: 팔로워 타임라인에서 그 작성자의 게시글 항목을 지우고, 팔로워의 링은 커밋 후 다시 로딩되도록 제거
+     */
+    public void removeWriter(Long userId, Long writerId) {
+        timelineJdbcRepository.deleteByUserAndWriter(userId, writerId);
+        evictRing(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다시 로딩된 링에는 지운 항목이 남아 있으므로 커밋 후 한 번 더
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictRing(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * when: 게시글을 삭제할 때
+     * what: 모든 타임라인에서 게시글 항목 삭제 (메모리 링에 남은 id는 피드 조회에서 걸러지고 링 TTL이 지나면 사라짐)
+     */
+    public void removeBoard(Long boardId) {
+        timelineJdbcRepository.deleteByBoardId(boardId);
+        timelineJdbcRepository.deleteFanOut(boardId);
+    }
+
+    /**
+     * when: 홈 피드를 조회할 때
+     * what: lastBoardId보다 작은 피드 게시글 id를 큰 순서로 최대 pageable.size개 (팬아웃된 id + 팔로워 많은 작성자의 게시글)
+     */
+    public Slice<Long> getFeedBoardIds(Long userId, Long lastBoardId, Pageable pageable) {
+        if (lastBoardId != null && lastBoardId <= 0) {
+            throw new CustomException(ErrorCode.LAST_ID_INVALID_CURSOR);
+        }
+        int limit = pageable.getPageSize() + 1;
+
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(getTimelineIds(userId, lastBoardId, limit));
+
+        List<Long> pullWriterIds = getFollowedHighFollowerIds(userId);
+        if (!pullWriterIds.isEmpty()) {
+            merged.addAll(boardRepository.findBoardIdsByWriterIds(pullWriterIds, lastBoardId, PageRequest.ofSize(limit)));
+        }
+
+        List<Long> ids = merged.stream().limit(limit).toList();
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+    }
+
+    /**
+     * when: 주기적으로 (첫 실행은 기동 직후)
+     * what: 팬아웃하지 않을 작성자 목록을 팔로워 수 기준으로 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${picky.timeline.high-follower-refresh-ms:300000}")
+    public void refreshHighFollowerIds() {
+        try {
+            Set<Long> refreshed = ConcurrentHashMap.newKeySet();
+            refreshed.addAll(followRepository.findFollowingIdsWithMoreFollowersThan(fanoutMaxFollowers));
+            highFollowerIds = refreshed;
+        } catch (Exception e) {
+            log.error("High follower refresh failed. keep={}", highFollowerIds.size(), e);
+        }
+    }
+
+    /**
+     * when: 주기적으로
+     * what: 보관 기간이 지난 타임라인 항목 삭제 (그보다 오래된 피드는 더 읽히지 않음)
+     */
+    @Scheduled(fixedDelayString = "${picky.timeline.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = timelineJdbcRepository.deleteCreatedBefore(before, purgeChunkSize);
+                total += deleted;
+            } while (deleted == purgeChunkSize);
+        } catch (Exception e) {
+            log.error("Timeline purge failed. deletedSoFar={}", total, e);
+        }
+        return total;
+    }
+
+    private List<Long> getTimelineIds(Long userId, Long lastBoardId, int limit) {
+        CachedRing cachedRing = rings.get(userId);
+        if (cachedRing != null && cachedRing.expiresAt() <= System.currentTimeMillis()) {
+            // 다른 인스턴스의 팬아웃과 지워진 항목을 반영하도록 TTL이 지나면 다시 로딩
+            evictRing(userId);
+        }
+        TimelineRing ring = rings.getOrLoad(userId, id -> new CachedRing(
+                TimelineRing.of(ringCapacity, toArray(timelineJdbcRepository.findBoardIds(id, null, ringCapacity))),
+                System.currentTimeMillis() + ringTtlMillis)).ring();
+        long[] cached = ring.page(lastBoardId, limit);
+        // 링에 다 못 담긴 오래된 구간은 저장소에서
+        if (cached.length < limit && !ring.isComplete()) {
+            readFromStore.increment();
+            return timelineJdbcRepository.findBoardIds(userId, lastBoardId, limit);
+        }
+        readFromMemory.increment();
+        List<Long> ids = new ArrayList<>(cached.length);
+        for (long id : cached) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private void evictRing(Long userId) {
+        rings.invalidate(userId);
+    }
+
+    private List<Long> getFollowedHighFollowerIds(Long userId) {
+        Set<Long> current = highFollowerIds;
+        if (current.isEmpty()) {
+            return List.of();
+        }
+        List<Long> writerIds = new ArrayList<>(followRepository.findFollowingIdsAmong(userId, current));
+        if (current.contains(userId)) {
+            writerIds.add(userId);
+        }
+        return writerIds;
+    }
+
+    private long[] toArray(List<Long> ids) {
+        long[] array = new long[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+
+    private record CachedRing(TimelineRing ring, long expiresAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.ureca.picky_be.base.implementation.catalog;
+
+/**
+ * 조건부 GET 비교에 쓰는 응답 버전 (etag는 따옴표 없이, lastModified는 epoch millis)
+ */
+public record CatalogVersion(String etag, long lastModified) {
+}
@@ -0,0 +1,126 @@
+package com.ureca.picky_be.base.implementation.catalog;
+
+import com.ureca.picky_be.base.implementation.movie.GenreIndexManager;
+import com.ureca.picky_be.base.implementation.movie.MovieLeaderboardManager;
+import com.ureca.picky_be.global.web.CatalogResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 응답의 버전을 DB를 보지 않고 메모리에서 계산
+ * - 장르: 장르 사전의 updatedAt 최댓값과 개수
+ * - top10: 랭킹 스냅샷 내용이 바뀐 시각
+ * - 영화 상세 / 플레이리스트 / 영화별 무비로그: 변경 이벤트마다 올리는 버전 (이 인스턴스가 뜬 이후 기준이므로 etag에 인스턴스 시작 시각을 넣음)
+ *   다른 인스턴스에서 일어난 변경은 이벤트가 오지 않으므로 max-age마다 버전을 최소 그 구간 시작 시각으로 올려 오래된 응답이 max-age 넘게 남지 않게
+ */
+@Component
+public class CatalogVersionManager {
+    private final GenreIndexManager genreIndexManager;
+    private final MovieLeaderboardManager movieLeaderboardManager;
+    private final long maxAgeMillis;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<Long, Long> movieVersions = new ConcurrentHashMap<>();
+    private final AtomicLong playlistsVersion = new AtomicLong(startedAt);
+    private final Map<Long, Long> movieBoardVersions = new ConcurrentHashMap<>();
+
+    public CatalogVersionManager(GenreIndexManager genreIndexManager,
+                                 MovieLeaderboardManager movieLeaderboardManager,
+                                 @Value("${picky.catalog.version-max-age-ms:60000}") long maxAgeMillis) {
+        this.genreIndexManager = genreIndexManager;
+        this.movieLeaderboardManager = movieLeaderboardManager;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * when: 조건부 GET 요청이 들어왔을 때
+     * what: 현재 응답 버전, 아직 계산할 수 없으면 null (조건 없이 응답)
+     */
+    public CatalogVersion getVersion(CatalogResource resource, Long movieId, Long userId) {
+        return switch (resource) {
+            case GENRES -> {
+                Instant lastModified = genreIndexManager.getGenresLastModified();
+                yield lastModified == null
+                        ? null
+                        : new CatalogVersion("g-" + genreIndexManager.getGenres().size() + "-" + lastModified.toEpochMilli(),
+                        lastModified.toEpochMilli());
+            }
+            case TOP10 -> {
+                Instant changedAt = movieLeaderboardManager.getTop10ChangedAt();
+                yield changedAt == null
+                        ? null
+                        : new CatalogVersion("t-" + startedAt + "-" + changedAt.toEpochMilli(), changedAt.toEpochMilli());
+            }
+            case MOVIE_DETAIL -> {
+                if (movieId == null) {
+                    yield null;
+                }
+                long version = capped(movieVersions.getOrDefault(movieId, startedAt));
+                // 좋아요 여부가 사용자마다 달라서 사용자별로 구분
+                yield new CatalogVersion("m" + movieId + "-u" + (userId == null ? 0 : userId) + "-" + startedAt + "-" + version, version);
+            }
+            case PLAYLISTS -> {
+                long version = capped(playlistsVersion.get());
+                yield new CatalogVersion("p-" + startedAt + "-" + version, version);
+            }
+            case MOVIE_BOARDS -> {
+                if (movieId == null) {
+                    yield null;
+                }
+                long version = capped(movieBoardVersions.getOrDefault(movieId, startedAt));
+                yield new CatalogVersion("b" + movieId + "-" + startedAt + "-" + version, version);
+            }
+        };
+    }
+
+    /**
+     * when: 영화 정보/한줄평/좋아요가 바뀐 후
+     * what: 해당 영화 상세 버전 증가
+     */
+    public void touchMovie(Long movieId) {
+        movieVersions.merge(movieId, nextVersion(startedAt), (previous, ignored) -> nextVersion(previous));
+    }
+
+    /**
+     * when: 무비로그(게시글/댓글/좋아요)나 영화 정보가 바뀐 후
+     * what: 해당 영화의 무비로그 목록 버전 증가
+     */
+    public void touchMovieBoards(Long movieId) {
+        movieBoardVersions.merge(movieId, nextVersion(startedAt), (previous, ignored) -> nextVersion(previous));
+    }
+
+    /**
+     * when: 플레이리스트나 플레이리스트에 보이는 영화 정보가 바뀐 후
+     * what: 플레이리스트 버전 증가 (트랜잭션 안이면 커밋 후에)
+     */
+    public void touchPlaylists() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    playlistsVersion.updateAndGet(CatalogVersionManager::nextVersion);
+                }
+            });
+            return;
+        }
+        playlistsVersion.updateAndGet(CatalogVersionManager::nextVersion);
+    }
+
+    // 이 인스턴스가 모르는 변경이 있을 수 있으므로 버전은 현재 max-age 구간의 시작 시각보다 작지 않게
+    private long capped(long version) {
+        long now = System.currentTimeMillis();
+        return Math.max(version, now - now % maxAgeMillis);
+    }
+
+    // Last-Modified로도 쓰므로 현재 시각을 따라가되 항상 증가하도록
+    private static long nextVersion(long previous) {
+        return Math.max(previous + 1, System.currentTimeMillis());
+    }
+}
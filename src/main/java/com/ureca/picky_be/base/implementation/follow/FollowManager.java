@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,18 +22,19 @@ public class FollowManager {
 
     private final FollowRepository followRepository;
 
+    /**
+     * when: 팔로우 버튼을 누를 때
+     * what: 관계가 있으면 삭제, 없으면 추가 (조회 없이 삭제된 행 수로 판단)
+     */
+    @Transactional
     public SuccessCode manageFollowingRelationship(Long followerId, Long followingId) {
         validateSameUser(followerId, followingId);
-        Optional<Follow> rel = followRepository.findByFollowerIdAndFollowingId(followerId, followingId);
 
-        if(rel.isPresent()) {  // 이미 팔로잉을 한 경우
-            followRepository.deleteFollowByFollowerIdAndFollowingId(rel.get().getFollowerId(), rel.get().getFollowingId());
+        if(followRepository.deleteRelationship(followerId, followingId) > 0) {  // 이미 팔로잉을 한 경우
             return SuccessCode.DELETE_FOLLOW_SUCCESS;
-        } else {
-            Follow follow = Follow.of(followerId, followingId);
-            followRepository.save(follow);
-            return SuccessCode.CREATE_FOLLOW_SUCCESS;
         }
+        followRepository.insertRelationship(followerId, followingId);
+        return SuccessCode.CREATE_FOLLOW_SUCCESS;
     }
 
     private void validateSameUser(Long followerId, Long followingId) {
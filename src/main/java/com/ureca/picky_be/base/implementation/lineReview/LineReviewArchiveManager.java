@@ -0,0 +1,96 @@
+package com.ureca.picky_be.base.implementation.lineReview;
+
+import com.ureca.picky_be.base.persistence.lineReview.LineReviewArchiveJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 삭제 표시(is_deleted = 'TRUE')된 한줄평 보관 작업
+ * - 삭제 요청은 표시만 바꾸고 바로 반환, (is_deleted, id) 인덱스가 보관 대기열 역할을 해서 재시작해도 남은 행을 이어서 처리
+ * - 묶음마다 한 트랜잭션: 한줄평과 딸린 좋아요/싫어요를 보관 테이블로 복사한 뒤 원본 테이블에서 삭제
+ */
+@Slf4j
+@Component
+public class LineReviewArchiveManager {
+    private final LineReviewArchiveJdbcRepository archiveJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final Counter archivedReviews;
+    private final Counter archivedLikes;
+    private final Counter failures;
+
+    public LineReviewArchiveManager(LineReviewArchiveJdbcRepository archiveJdbcRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${picky.line-review.archive.chunk-size:200}") int chunkSize,
+                                    @Value("${picky.line-review.archive.max-chunks-per-run:50}") int maxChunksPerRun) {
+        this.archiveJdbcRepository = archiveJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.archivedReviews = meterRegistry.counter("picky.line-review.archive", "type", "review");
+        this.archivedLikes = meterRegistry.counter("picky.line-review.archive", "type", "like");
+        this.failures = meterRegistry.counter("picky.line-review.archive.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${picky.line-review.archive.interval-ms:5000}")
+    public void scheduledArchive() {
+        archiveTombstones();
+    }
+
+    /**
+     * when: 주기적으로
+     * what: 삭제 표시된 한줄평을 묶음 단위로 보관, 한 번에 최대 maxChunksPerRun 묶음까지만 처리해 다른 작업을 오래 막지 않음
+     */
+    public int archiveTombstones() {
+        int total = 0;
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            int archived;
+            try {
+                archived = archiveChunk();
+            } catch (Exception e) {
+                failures.increment();
+                log.error("Line review archive failed. archivedSoFar={}", total, e);
+                break;
+            }
+            total += archived;
+            if (archived < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * when: 한줄평 작성이 유니크 제약에 걸렸을 때
+     * what: 같은 (영화, 사용자)의 기존 한줄평이 아직 보관 대기 중인지
+     */
+    public boolean isPendingArchive(Long movieId, Long userId) {
+        return archiveJdbcRepository.hasTombstone(movieId, userId);
+    }
+
+    private int archiveChunk() {
+        Integer archived = transactionTemplate.execute(status -> {
+            List<Long> ids = archiveJdbcRepository.lockTombstoneIds(chunkSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archiveJdbcRepository.archiveLineReviews(ids);
+            archiveJdbcRepository.archiveLikes(ids);
+            archivedLikes.increment(archiveJdbcRepository.deleteLikes(ids));
+            return archiveJdbcRepository.deleteLineReviews(ids);
+        });
+        int count = archived == null ? 0 : archived;
+        archivedReviews.increment(count);
+        return count;
+    }
+}
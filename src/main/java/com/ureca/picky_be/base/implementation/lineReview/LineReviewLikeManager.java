@@ -2,20 +2,21 @@ package com.ureca.picky_be.base.implementation.lineReview;
 
 import com.ureca.picky_be.base.business.lineReview.dto.CountLineReviewLikeResp;
 import com.ureca.picky_be.base.business.lineReview.dto.CreateLineReviewLikeReq;
-import com.ureca.picky_be.base.persistence.user.UserRepository;
+import com.ureca.picky_be.base.business.lineReview.dto.LineReviewPreferenceProjection;
+import com.ureca.picky_be.base.implementation.reaction.ViewerReactionCacheManager;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewLikeRepository;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewRepository;
 import com.ureca.picky_be.global.exception.CustomException;
 import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.global.success.SuccessCode;
-import com.ureca.picky_be.jpa.entity.lineReview.LineReview;
-import com.ureca.picky_be.jpa.entity.lineReview.LineReviewLike;
 import com.ureca.picky_be.jpa.entity.lineReview.Preference;
-import com.ureca.picky_be.jpa.entity.user.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -23,37 +24,81 @@ public class LineReviewLikeManager {
 
     private final LineReviewRepository lineReviewRepository;
     private final LineReviewLikeRepository lineReviewLikeRepository;
-    private final UserRepository userRepository;
+    private final ViewerReactionCacheManager viewerReactionCacheManager;
 
+    /**
+     * when: 한줄평 좋아요/싫어요를 누를 때
+     * what: 취소(같은 반응 삭제) -> 변경(반대 반응 수정) -> 추가 순으로 시도, 먼저 성공한 문장으로 결과를 정함
+     *       좋아요/싫어요 수 증감까지 한 트랜잭션에서, 엔티티를 읽지 않고
+     */
+    @Transactional
     public SuccessCode createLineReviewLike(CreateLineReviewLikeReq req, Long userId) {
-        LineReview lineReview = lineReviewRepository.findById(req.lineReviewId())
-                .orElseThrow(() -> new CustomException(ErrorCode.LINEREVIEW_NOT_FOUND));
+        Long lineReviewId = req.lineReviewId();
+        Preference preference = Preference.fromString(req.preference());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (lineReviewLikeRepository.deleteByPreference(lineReviewId, userId, preference) > 0) {
+            addCount(lineReviewId, preference, -1);
+            viewerReactionCacheManager.putLineReviewPreference(userId, lineReviewId, null);
+            return SuccessCode.DELETE_LINE_REVIEW_LIKE;
+        }
 
-        if (lineReview.getUserId().equals(userId)) {
-            throw new CustomException(ErrorCode.LINEREVIEWLIKE_SELF_NOT_ALLOWED);
+        if (lineReviewLikeRepository.switchPreference(lineReviewId, userId, preference) > 0) {
+            long likeDelta = preference == Preference.LIKE ? 1 : -1;
+            lineReviewRepository.addLikeCounts(lineReviewId, likeDelta, -likeDelta);
+            viewerReactionCacheManager.putLineReviewPreference(userId, lineReviewId, preference);
+            return SuccessCode.UPDATE_LINE_REVIEW_LIKE;
         }
 
-        Preference preferenceEnum = Preference.fromString(req.preference());
-        Optional<LineReviewLike> existingLikeOpt = lineReviewLikeRepository.findByLineReviewIdAndUserId(req.lineReviewId(), user.getId());
+        // 본인 한줄평이거나 한줄평이 없거나 동시에 같은 반응이 들어갔으면 0
+        if (lineReviewLikeRepository.insertIfNotAuthor(lineReviewId, userId, preference.name()) == 0) {
+            throw new CustomException(rejectReason(lineReviewId, userId));
+        }
+        addCount(lineReviewId, preference, 1);
+        viewerReactionCacheManager.putLineReviewPreference(userId, lineReviewId, preference);
+        return SuccessCode.CREATE_LINE_REVIEW_LIKE;
+    }
 
-        if (existingLikeOpt.isPresent()) {
-            LineReviewLike existingLike = existingLikeOpt.get();
-            if (existingLike.getPreference() == preferenceEnum) {
-                lineReviewLikeRepository.delete(existingLike);
-                return SuccessCode.DELETE_LINE_REVIEW_LIKE;
-            } else {
-                existingLike.updatePreference(preferenceEnum);
-                lineReviewLikeRepository.save(existingLike);
-                return SuccessCode.UPDATE_LINE_REVIEW_LIKE;
-            }
+    // 추가가 거절된 경우에만 이유를 찾으려고 한 번 더 조회
+    private ErrorCode rejectReason(Long lineReviewId, Long userId) {
+        Long authorId = lineReviewRepository.findAuthorIdById(lineReviewId);
+        if (authorId == null) return ErrorCode.LINEREVIEW_NOT_FOUND;
+        if (authorId.equals(userId)) return ErrorCode.LINEREVIEWLIKE_SELF_NOT_ALLOWED;
+        return ErrorCode.LINEREVIEWLIKE_CREATE_DUPLICATE;
+    }
+
+    /**
+     * when: 한줄평 목록 페이지를 읽은 후
+     * what: 페이지의 한줄평 id별 사용자의 좋아요/싫어요 (비로그인이거나 반응이 없으면 빠짐)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Preference> getPreferences(Long userId, List<Long> lineReviewIds) {
+        if (userId == null || lineReviewIds.isEmpty()) return Map.of();
+        try {
+            return viewerReactionCacheManager.getLineReviewPreferences(userId, lineReviewIds,
+                    misses -> lineReviewLikeRepository.findPreferences(userId, misses).stream()
+                            .collect(Collectors.toMap(
+                                    LineReviewPreferenceProjection::getLineReviewId,
+                                    LineReviewPreferenceProjection::getPreference)));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.LINEREVIEW_GET_FAILED);
         }
+    }
 
-        LineReviewLike lineReviewLike = LineReviewLike.of(lineReview, user, preferenceEnum);
-        lineReviewLikeRepository.save(lineReviewLike);
-        return SuccessCode.CREATE_LINE_REVIEW_LIKE;
+    /**
+     * when: 시작할 때
+     * what: 좋아요/싫어요 수 컬럼이 비어 있는 한줄평만 line_review_like로 다시 세어 채움
+     */
+    @Transactional
+    public int backfillLikeCounts() {
+        return lineReviewRepository.backfillLikeCounts();
+    }
+
+    private void addCount(Long lineReviewId, Preference preference, long delta) {
+        if (preference == Preference.LIKE) {
+            lineReviewRepository.addLikeCounts(lineReviewId, delta, 0);
+        } else {
+            lineReviewRepository.addLikeCounts(lineReviewId, 0, delta);
+        }
     }
 
     public CountLineReviewLikeResp countLineReviewLike(Long lineReviewId) {
@@ -3,6 +3,7 @@ package com.ureca.picky_be.base.implementation.lineReview;
 import com.ureca.picky_be.base.business.lineReview.dto.*;
 import com.ureca.picky_be.base.business.user.dto.UserLineReviewsReq;
 import com.ureca.picky_be.base.persistence.movie.MovieRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieStatsRepository;
 import com.ureca.picky_be.base.persistence.user.UserRepository;
 import com.ureca.picky_be.base.persistence.lineReview.LineReviewRepository;
 import com.ureca.picky_be.global.exception.CustomException;
@@ -11,60 +12,102 @@ import com.ureca.picky_be.global.success.SuccessCode;
 import com.ureca.picky_be.jpa.entity.config.IsDeleted;
 import com.ureca.picky_be.jpa.entity.lineReview.LineReview;
 import com.ureca.picky_be.jpa.entity.lineReview.SortType;
+import com.ureca.picky_be.jpa.entity.user.Gender;
 import com.ureca.picky_be.jpa.entity.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class LineReviewManager {
+    private static final String LINE_REVIEW_UNIQUE_KEY = "uk_line_review_movie_user";
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
 
     private final LineReviewRepository lineReviewRepository;
     private final MovieRepository movieRepository;
+    private final MovieStatsRepository movieStatsRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LineReviewArchiveManager lineReviewArchiveManager;
 
+    /**
+     * when: 한줄평 작성
+     * what: 중복 여부는 (movie_id, user_id) 유니크 제약으로 판단, 작성자 성별은 한줄평에 같이 저장해 삭제할 때도 같은 성별 통계에서 뺌
+     */
     public LineReview createLineReview(CreateLineReviewReq req, Long userId, String userNickname) {
         try {
             if (req.rating() == 0 || req.rating() < 0 || req.rating() > 5) {
                 throw new CustomException(ErrorCode.LINEREVIEW_INVALID_RATING);
             }
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-            boolean exists = lineReviewRepository.existsByMovieIdAndUserId(req.movieId(), user.getId());
-            if (exists) {
-                throw new CustomException(ErrorCode.LINEREVIEW_CREATE_DUPLICATE);
-            }
-
+            Gender writerGender = userRepository.findGenderById(userId);
             LineReview lineReview = LineReview.builder()
                     .userId(userId)
                     .movieId(req.movieId())
                     .rating(req.rating())
                     .writerNickname(userNickname)
+                    .writerGender(writerGender)
                     .context(req.context())
                     .isDeleted(IsDeleted.FALSE)
                     .isSpoiler(req.isSpoiler())
+                    .likeCount(0L)
+                    .dislikeCount(0L)
                     .build();
-            return lineReviewRepository.save(lineReview);
+            LineReview savedLineReview = lineReviewRepository.save(lineReview);
+            movieStatsRepository.addLineReview(savedLineReview.getMovieId(), 1, savedLineReview.getRating(),
+                    starOf(savedLineReview.getRating()), genderOf(writerGender));
+            movieStatsRepository.syncTotalRating(savedLineReview.getMovieId());
+            eventPublisher.publishEvent(new LineReviewChangedEvent(savedLineReview.getMovieId(), savedLineReview.getId(), true));
+            return savedLineReview;
         } catch (CustomException e) {
             throw e;
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateLineReview(e)) {
+                log.warn("Line review create failed. movieId={}, userId={}, reason={}", req.movieId(), userId, e.getMessage());
+                throw new CustomException(ErrorCode.LINEREVIEW_CREATE_FAILED);
+            }
+            // 방금 삭제한 한줄평이 아직 보관 테이블로 옮겨지지 않은 경우는 잠시 후 다시 작성 가능
+            if (lineReviewArchiveManager.isPendingArchive(req.movieId(), userId)) {
+                throw new CustomException(ErrorCode.LINEREVIEW_DELETE_PENDING);
+            }
+            throw new CustomException(ErrorCode.LINEREVIEW_CREATE_DUPLICATE);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.LINEREVIEW_CREATE_FAILED);
         }
 
     }
 
+    /**
+     * (movie_id, user_id) 유니크 제약 위반만 중복 작성으로 봄 (외래 키, NOT NULL 위반 등은 작성 실패)
+     * 제약 이름을 알 수 없으면 MySQL 중복 키 오류(1062)로 판단 (line_review의 유니크 키는 이것 하나)
+     */
+    private boolean isDuplicateLineReview(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase().contains(LINE_REVIEW_UNIQUE_KEY);
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getErrorCode() == MYSQL_DUPLICATE_KEY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public LineReview updateLineReview(Long lineReviewId, UpdateLineReviewReq req, Long userId) {
         try {
             LineReview existLineReview = lineReviewRepository.findById(lineReviewId)
+                    .filter(lineReview -> lineReview.getIsDeleted() != IsDeleted.TRUE)
                     .orElseThrow(() -> new CustomException(ErrorCode.LINEREVIEW_NOT_FOUND));
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -80,7 +123,7 @@ public class LineReviewManager {
     }
 
 
-    public Slice<LineReviewProjection> findLineReviewsByMovie(Long userId, LineReviewQueryRequest queryReq, PageRequest pageRequest) {
+    public Slice<LineReviewProjection> findLineReviewsByMovie(LineReviewQueryRequest queryReq, PageRequest pageRequest) {
         try {
             Long movieId = queryReq.movieId();
             Long lastReviewId = queryReq.lastReviewId();
@@ -91,13 +134,13 @@ public class LineReviewManager {
                 throw new CustomException(ErrorCode.MOVIE_NOT_FOUND);
             }
 
-            validateCursor(lastReviewId, lastCreatedAt, sortType);
+            validateCursor(lastReviewId, lastCreatedAt, queryReq.lastLikeCount(), sortType);
 
             switch (sortType) {
                 case LIKES:
-                    return lineReviewRepository.findByMovieAndLikesCursor(movieId, lastReviewId, lastCreatedAt, userId, pageRequest);
+                    return lineReviewRepository.findByMovieAndLikesCursor(movieId, lastReviewId, queryReq.lastLikeCount(), pageRequest);
                 case LATEST:
-                    return lineReviewRepository.findByMovieAndLatestCursor(movieId, lastReviewId, lastCreatedAt, userId, pageRequest);
+                    return lineReviewRepository.findByMovieAndLatestCursor(movieId, lastReviewId, lastCreatedAt, pageRequest);
                 default:
                     throw new CustomException(ErrorCode.LINEREVIEW_INVALID_SORTTYPE);
             }
@@ -122,9 +165,9 @@ public class LineReviewManager {
     }
 
 
-    private void validateCursor(Long lastReviewId, LocalDateTime lastCreatedAt, SortType sortType) {
+    private void validateCursor(Long lastReviewId, LocalDateTime lastCreatedAt, Long lastLikeCount, SortType sortType) {
         // 첫 요청일 경우
-        if (lastReviewId == null && lastCreatedAt == null) {
+        if (lastReviewId == null && lastCreatedAt == null && lastLikeCount == null) {
             return;
         }
 
@@ -135,6 +178,13 @@ public class LineReviewManager {
             }
         }
 
+        // LIKES 정렬에서는 (lastLikeCount, lastReviewId)가 함께 필요
+        if (sortType == SortType.LIKES) {
+            if (lastReviewId == null || lastLikeCount == null || lastLikeCount < 0) {
+                throw new CustomException(ErrorCode.LINEREVIEW_INVALID_CURSOR4);
+            }
+        }
+
         // ID 검증
         if (lastReviewId != null && lastReviewId <= 0) {
             throw new CustomException(ErrorCode.LINEREVIEW_INVALID_CURSOR2);
@@ -146,10 +196,15 @@ public class LineReviewManager {
         }
     }
 
+    /**
+     * when: 영화 상세의 별점 분포 조회시
+     * what: movie_stats 한 행 조회. 통계 행이 아직 없는 영화만 한줄평 집계로 대체
+     */
     @Transactional(readOnly = true)
     public RatingLineReviewProjection getTotalRatingfInfo(Long movieId) {
         try {
-            return lineReviewRepository.findRatingByMovieId(movieId);
+            RatingLineReviewProjection stats = movieStatsRepository.findRatingByMovieId(movieId);
+            return stats != null ? stats : lineReviewRepository.findRatingByMovieId(movieId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.LINEREVIEW_RATING_QUERY_FAILED);
         }
@@ -159,7 +214,8 @@ public class LineReviewManager {
     @Transactional(readOnly = true)
     public GenderLineReviewProjection getGenderRatingfInfo(Long movieId) {
         try {
-            return lineReviewRepository.findGenderRatingByMovieIdAnd(movieId);
+            GenderLineReviewProjection stats = movieStatsRepository.findGenderRatingByMovieId(movieId);
+            return stats != null ? stats : lineReviewRepository.findGenderRatingByMovieIdAnd(movieId);
         } catch (Exception e) {
             throw new CustomException(ErrorCode.LINEREVIEW_GENDER_QUERY_FAILED);
         }
@@ -167,13 +223,30 @@ public class LineReviewManager {
     }
 
 
+    /**
+     * when: 한줄평 삭제
+     * what: 삭제 표시만 하고 통계에서 뺌. 한줄평과 좋아요/싫어요 행은 LineReviewArchiveManager가 나중에 보관 테이블로 옮김
+     */
     public SuccessCode deleteLineReview(Long lineReviewId, Long userId) {
         try {
-            Long authorId= lineReviewRepository.findAuthorIdById(lineReviewId);
-            if (!authorId.equals(userId)) {
+            LineReview lineReview = lineReviewRepository.findById(lineReviewId)
+                    .filter(found -> found.getIsDeleted() != IsDeleted.TRUE)
+                    .orElseThrow(() -> new CustomException(ErrorCode.LINEREVIEW_NOT_FOUND));
+            if (!lineReview.getUserId().equals(userId)) {
                 throw new CustomException(ErrorCode.LINEREVIEW_DELETE_FAILED_USER);
             }
-            lineReviewRepository.deleteById(lineReviewId);
+            // 동시에 들어온 삭제 요청이 통계를 두 번 빼지 않도록 표시를 바꾼 요청만 이어서 진행
+            if (lineReviewRepository.tombstone(lineReviewId) == 0) {
+                throw new CustomException(ErrorCode.LINEREVIEW_NOT_FOUND);
+            }
+            // 성별 컬럼 추가 전에 작성된 한줄평은 통계도 현재 성별로 집계돼 있음
+            Gender writerGender = lineReview.getWriterGender() != null
+                    ? lineReview.getWriterGender()
+                    : userRepository.findGenderById(userId);
+            movieStatsRepository.addLineReview(lineReview.getMovieId(), -1, -lineReview.getRating(),
+                    starOf(lineReview.getRating()), genderOf(writerGender));
+            movieStatsRepository.syncTotalRating(lineReview.getMovieId());
+            eventPublisher.publishEvent(new LineReviewChangedEvent(lineReview.getMovieId(), lineReviewId, false));
             return SuccessCode.DELETE_LINE_REVIEW;
         }
         catch (CustomException e) {
@@ -184,6 +257,24 @@ public class LineReviewManager {
         }
     }
 
+    // 별점 분포는 정수 별점만 집계 (기존 집계 쿼리와 같은 기준)
+    private int starOf(double rating) {
+        return rating == Math.rint(rating) && rating >= 1 && rating <= 5 ? (int) rating : 0;
+    }
+
+    private String genderOf(Gender gender) {
+        return gender != null ? gender.name() : null;
+    }
+
+    /**
+     * when: 시작할 때
+     * what: 별점 분포/성별 집계가 비어 있는(컬럼 추가 전) movie_stats 행만 line_review로 다시 세어 채움
+     */
+    @Transactional
+    public int backfillRatingBreakdowns() {
+        return movieStatsRepository.backfillRatingBreakdowns();
+    }
+
     public Long getLineReviewCount(Long movieId) {
         return lineReviewRepository.countByMovieId(movieId);
     }
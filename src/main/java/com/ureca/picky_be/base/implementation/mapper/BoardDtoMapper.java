@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,7 +45,9 @@ public class BoardDtoMapper {
             Slice<BoardProjection> recentBoards,
             List<BoardContentWithBoardId> boardContentWithBoardIds,
             List<String> profileUrls,
-            List<List<Genre>> genres
+            List<List<Genre>> genres,
+            Long viewerId,
+            Set<Long> likedBoardIds
     ) {
         List<List<GetMovieDetailResp.MovieInfo.GenreInfo>> genreInfoLists = genres.stream()
                 .map(genreList -> genreList.stream()
@@ -89,8 +92,8 @@ public class BoardDtoMapper {
                     board.getMovieName(),
                     board.getReleaseDate(),
                     genreInfo,
-                    board.getIsLike(),
-                    board.getIsAuthor()
+                    likedBoardIds.contains(board.getBoardId()),
+                    board.getWriterId().equals(viewerId)
             );
         });
     }
@@ -99,7 +102,9 @@ public class BoardDtoMapper {
             Slice<BoardProjection> recentBoards,
             List<BoardContentWithBoardId> boardContentWithBoardIds,
             List<String> profileUrls,
-            List<Genre> genres
+            List<Genre> genres,
+            Long viewerId,
+            Set<Long> likedBoardIds
     ) {
         List<GetMovieDetailResp.MovieInfo.GenreInfo> genreInfoList = genres.stream()
                 .map(genre -> new GetMovieDetailResp.MovieInfo.GenreInfo(genre.getId()))
@@ -136,8 +141,8 @@ public class BoardDtoMapper {
                     board.getMovieName(),
                     board.getReleaseDate(),
                     genreInfoList,
-                    board.getIsLike(),
-                    board.getIsAuthor()
+                    likedBoardIds.contains(board.getBoardId()),
+                    board.getWriterId().equals(viewerId)
             );
         });
     }
@@ -2,6 +2,7 @@ package com.ureca.picky_be.base.implementation.mapper;
 
 import com.ureca.picky_be.base.business.lineReview.dto.*;
 import com.ureca.picky_be.jpa.entity.lineReview.LineReview;
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,7 +32,7 @@ public class LineReviewDtoMapper {
         );
     }
 
-    public ReadLineReviewResp toReadLineReviewResp(LineReviewProjection projection) {
+    public ReadLineReviewResp toReadLineReviewResp(LineReviewProjection projection, Long viewerId, Preference preference) {
         return new ReadLineReviewResp(
                 projection.getId(),
                 projection.getWriterNickname(),
@@ -43,9 +44,9 @@ public class LineReviewDtoMapper {
                 projection.getLikes(),
                 projection.getDislikes(),
                 projection.getCreatedAt(),
-                projection.getIsAuthor(),
-                projection.getIsLiked(),
-                projection.getIsDisliked()
+                projection.getUserId().equals(viewerId),
+                preference == Preference.LIKE,
+                preference == Preference.DISLIKE
         );
     }
 
@@ -6,25 +6,27 @@ import com.ureca.picky_be.jpa.entity.genre.Genre;
 import com.ureca.picky_be.jpa.entity.movie.FilmCrew;
 import com.ureca.picky_be.jpa.entity.movie.Movie;
 import com.ureca.picky_be.jpa.entity.movie.MovieBehindVideo;
+import com.ureca.picky_be.jpa.entity.movie.MovieImportJob;
 import com.ureca.picky_be.jpa.entity.platform.Platform;
 import com.ureca.picky_be.jpa.entity.platform.PlatformType;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
 public class MovieDtoMapper {
 
-    public GetMovieDetailResp toGetMovieDetailResp(
+    public MovieDetailSnapshot toMovieDetailSnapshot(
             Movie movie,
             List<MovieBehindVideo> movieBehindVideos,
             List<Genre> genres,
             List<FilmCrew> actors,
             List<FilmCrew> directors,
-            boolean like,
             List<Platform> platforms,
             double rating,
             Long linereviewCount
@@ -59,7 +61,7 @@ public class MovieDtoMapper {
                 .map(Platform::getPlatformType)
                 .collect(Collectors.toSet());
 
-        return new GetMovieDetailResp(
+        return new MovieDetailSnapshot(
                 new GetMovieDetailResp.MovieInfo(
                         movie.getId(),
                         movie.getTitle(),
@@ -74,7 +76,6 @@ public class MovieDtoMapper {
                 Optional.ofNullable(movie.getTrailerUrl()).orElse("Trailer not found"),
                 Optional.ofNullable(movie.getOstUrl()).orElse("OST not found"),
                 movieBehindVideoUrls,
-                like,
                 rating,
                 new GetMovieDetailResp.StreamingPlatform(
                         platformTypes.contains(PlatformType.NETFLIX),
@@ -88,6 +89,19 @@ public class MovieDtoMapper {
         );
     }
 
+    public GetMovieDetailResp toGetMovieDetailResp(MovieDetailSnapshot snapshot, boolean like) {
+        return new GetMovieDetailResp(
+                snapshot.movieInfo(),
+                snapshot.trailer(),
+                snapshot.ost(),
+                snapshot.movieBehindVideos(),
+                like,
+                snapshot.rating(),
+                snapshot.streamingPlatform(),
+                snapshot.linereviewCount()
+        );
+    }
+
     public List<GetGenres> toGetGenres(List<Genre> genres) {
         return genres.stream()
                 .map(genre -> new GetGenres(genre.getId(), genre.getName()))
@@ -111,6 +125,28 @@ public class MovieDtoMapper {
         return new SliceImpl<>(simpleMovieRespList);
     }
 
+    public GetMoviesByGenreResp toGetMoviesByGenreResp(Slice<GetGenreMovieProjection> slice) {
+        List<GetSimpleMovieResp> movies = slice.getContent().stream()
+                .map(projection -> new GetSimpleMovieResp(
+                        projection.getMovieId(),
+                        projection.getTitle(),
+                        projection.getLikes(),
+                        projection.getLineReviews(),
+                        projection.getCreatedAt(),
+                        projection.getTotalRating(),
+                        projection.getPosterUrl(),
+                        projection.getBackdropUrl()
+                ))
+                .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !slice.getContent().isEmpty()) {
+            GetGenreMovieProjection last = slice.getContent().get(slice.getContent().size() - 1);
+            nextCursor = new GenreMovieCursor(last.getPopularity(), last.getSortCreatedAt(), last.getMovieId()).encode();
+        }
+        return new GetMoviesByGenreResp(movies, nextCursor, slice.hasNext());
+    }
+
     public List<GetRecommendMovieResp> toGetRecommendMovies(List<GetRecommendMovieProjection> simpleMovieProjections) {
         Map<Long, GetRecommendMovieResp> movieMap = new LinkedHashMap<>();
 
@@ -162,4 +198,36 @@ public class MovieDtoMapper {
                         movie.getOriginalLanguage()
                 )).toList();
     }
-}
\ No newline at end of file
+
+    public GetSearchMoviesPageResp toGetSearchMoviesPageResp(MovieSearchPage page) {
+        return new GetSearchMoviesPageResp(
+                toGetSearchMovies(page.movies()),
+                page.nextCursor() == null ? null : page.nextCursor().encode(),
+                page.nextCursor() != null,
+                page.totalHits(),
+                page.totalHitsExact()
+        );
+    }
+
+    public GetMovieImportJobResp toGetMovieImportJobResp(MovieImportJob job) {
+        LocalDateTime until = job.getFinishedAt() == null ? LocalDateTime.now() : job.getFinishedAt();
+        long elapsedMillis = Math.max(Duration.between(job.getStartedAt(), until).toMillis(), 1L);
+        return new GetMovieImportJobResp(
+                job.getId(),
+                job.getStatus(),
+                job.getChunkSize(),
+                job.getCommittedLines(),
+                job.getImportedMovies(),
+                job.getSkippedLines(),
+                (job.getCommittedLines() - job.getStartedLines()) * 1000.0 / elapsedMillis,
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getFailedReason()
+        );
+    }
+
+    public GetFilteredMoviesResp toGetFilteredMoviesResp(MovieFacetSearchResult result, List<GetSimpleMovieResp> movies, GetMovieFilterReq req) {
+        boolean hasNext = (long) (req.page() + 1) * req.size() < result.totalCount();
+        return new GetFilteredMoviesResp(movies, result.totalCount(), hasNext, result.facets());
+    }
+}
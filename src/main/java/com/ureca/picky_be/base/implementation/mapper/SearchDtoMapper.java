@@ -0,0 +1,31 @@
+package com.ureca.picky_be.base.implementation.mapper;
+
+import com.ureca.picky_be.base.business.search.dto.GetSearchReindexJobResp;
+import com.ureca.picky_be.base.implementation.search.SearchReindexJob;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class SearchDtoMapper {
+
+    public GetSearchReindexJobResp toGetSearchReindexJobResp(SearchReindexJob job) {
+        LocalDateTime until = job.getFinishedAt() == null ? LocalDateTime.now() : job.getFinishedAt();
+        long elapsedMillis = Math.max(Duration.between(job.getStartedAt(), until).toMillis(), 1L);
+        return new GetSearchReindexJobResp(
+                job.getTarget(),
+                job.getIndexName(),
+                job.getStatus(),
+                job.getBatchSize(),
+                job.getConcurrency(),
+                job.getScanned().get(),
+                job.getIndexed().get(),
+                job.getFailed().get(),
+                job.getIndexed().get() * 1000.0 / elapsedMillis,
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getFailedReason()
+        );
+    }
+}
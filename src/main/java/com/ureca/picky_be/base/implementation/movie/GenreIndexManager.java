@@ -0,0 +1,241 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.MovieGenreIdProjection;
+import com.ureca.picky_be.base.persistence.movie.GenreRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieGenreRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.jpa.entity.genre.Genre;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 장르 사전 + 영화별 장르 인덱스
+ * - 장르 사전: id -> Genre, 장르마다 비트 하나를 배정 (TMDB 장르는 20개 내외라 long 하나로 충분)
+ * - 영화 인덱스: movieId 오름차순 long[]과 장르 비트마스크 long[] (이진 탐색)
+ * - 시작 이후 바뀐 영화는 overrides에 먼저 반영하고 다음 전체 재적재 때 배열로 합침
+ */
+@Slf4j
+@Component
+public class GenreIndexManager {
+    private static final int MAX_GENRES = Long.SIZE;
+
+    private final GenreRepository genreRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+
+    private final AtomicReference<GenreDictionary> dictionary = new AtomicReference<>(GenreDictionary.EMPTY);
+    private final AtomicReference<MovieGenreIndex> index = new AtomicReference<>(MovieGenreIndex.EMPTY);
+    private final ConcurrentHashMap<Long, Long> overrides = new ConcurrentHashMap<>();
+    // overrides에서 음수는 "DB에서 다시 읽어야 함" (실제 마스크는 최상위 비트를 쓰지 않음)
+    // 무효화마다 다른 값을 넣어서, 로딩 도중 다시 무효화됐는지를 조건부 쓰기로 알 수 있게 함
+    private final AtomicLong staleTokens = new AtomicLong();
+
+    public GenreIndexManager(GenreRepository genreRepository,
+                             MovieGenreRepository movieGenreRepository,
+                             MovieJdbcRepository movieJdbcRepository) {
+        this.genreRepository = genreRepository;
+        this.movieGenreRepository = movieGenreRepository;
+        this.movieJdbcRepository = movieJdbcRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${picky.genre-index.reload-interval-ms:3600000}",
+            initialDelayString = "${picky.genre-index.reload-interval-ms:3600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * when: 시작 시, 주기적으로, 관리자가 장르 데이터를 바꿨을 때
+     * what: 장르 사전과 영화별 장르 인덱스를 DB에서 다시 만듦
+     */
+    public synchronized void reload() {
+        GenreDictionary newDictionary = GenreDictionary.of(genreRepository.findAll());
+        dictionary.set(newDictionary);
+
+        // 스캔 도중 바뀐 영화는 overrides에 남겨 새 배열보다 우선하도록 함
+        Map<Long, Long> overridesBefore = new HashMap<>(overrides);
+        MovieGenreIndex.Builder builder = new MovieGenreIndex.Builder();
+        movieJdbcRepository.scanMovieGenres(rs ->
+                builder.add(rs.getLong("movie_id"), newDictionary.maskOf(rs.getLong("genre_id"))));
+        index.set(builder.build());
+        // 스캔 도중 값이 바뀐(다시 무효화된) 영화는 남김
+        overridesBefore.forEach(overrides::remove);
+
+        log.info("Genre index reloaded. genres={}, movies={}", newDictionary.genres().size(), index.get().size());
+    }
+
+    /**
+     * when: 영화 등록/수정 커밋 이후
+     * what: 해당 영화는 다음 조회 때 DB에서 다시 읽음
+     */
+    public void invalidateMovie(Long movieId) {
+        overrides.put(movieId, staleTokens.decrementAndGet());
+    }
+
+    public List<Genre> getGenres() {
+        return dictionary.get().genres();
+    }
+
+    /**
+     * when: 장르 목록 조건부 조회시
+     * what: 장르 중 가장 최근 updatedAt (아직 로드 전이면 null)
+     */
+    public Instant getGenresLastModified() {
+        return dictionary.get().lastModified();
+    }
+
+    public boolean containsAllGenres(Collection<Long> genreIds) {
+        GenreDictionary current = dictionary.get();
+        return genreIds.stream().allMatch(current::contains);
+    }
+
+    public List<Genre> getGenresOfMovie(Long movieId) {
+        return getGenresOfMovies(List.of(movieId)).getOrDefault(movieId, List.of());
+    }
+
+    /**
+     * when: 목록 조회에서 한 페이지의 영화 장르가 필요할 때
+     * what: 인덱스에서 찾고, 인덱스에 없거나 바뀐 영화만 한 번의 쿼리로 보충
+     */
+    public Map<Long, List<Genre>> getGenresOfMovies(Collection<Long> movieIds) {
+        GenreDictionary currentDictionary = dictionary.get();
+        MovieGenreIndex currentIndex = index.get();
+
+        Map<Long, Long> masks = new LinkedHashMap<>();
+        Map<Long, Long> misses = new LinkedHashMap<>();     // movieId -> 읽기 전 overrides 값 (없으면 null)
+        for (Long movieId : new LinkedHashSet<>(movieIds)) {
+            Long override = overrides.get(movieId);
+            if (override != null && override >= 0L) {
+                masks.put(movieId, override);
+                continue;
+            }
+            long mask = override == null ? currentIndex.maskOf(movieId) : 0L;
+            if (mask != 0L) {
+                masks.put(movieId, mask);
+            } else {
+                misses.put(movieId, override);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Long> loaded = new HashMap<>();
+            misses.keySet().forEach(movieId -> loaded.put(movieId, 0L));
+            for (MovieGenreIdProjection row : movieGenreRepository.findGenreIdsByMovieIdIn(new ArrayList<>(misses.keySet()))) {
+                loaded.merge(row.getMovieId(), currentDictionary.maskOf(row.getGenreId()), (a, b) -> a | b);
+            }
+            loaded.forEach((movieId, mask) -> {
+                masks.put(movieId, mask);
+                // 로딩 도중 다시 무효화되었으면 값이 달라져 있으므로 덮어쓰지 않음
+                Long previous = misses.get(movieId);
+                if (previous == null) {
+                    overrides.putIfAbsent(movieId, mask);
+                } else {
+                    overrides.replace(movieId, previous, mask);
+                }
+            });
+        }
+
+        Map<Long, List<Genre>> result = new LinkedHashMap<>();
+        masks.forEach((movieId, mask) -> result.put(movieId, currentDictionary.genresOf(mask)));
+        return result;
+    }
+
+    private record GenreDictionary(List<Genre> genres, Set<Long> ids, Map<Long, Integer> bitById, Genre[] genreByBit,
+                                   Instant lastModified) {
+        static final GenreDictionary EMPTY = new GenreDictionary(List.of(), Set.of(), Map.of(), new Genre[0], null);
+
+        static GenreDictionary of(List<Genre> genres) {
+            List<Genre> sorted = genres.stream()
+                    .sorted(Comparator.comparing(Genre::getId))
+                    .toList();
+            if (sorted.size() >= MAX_GENRES) {
+                log.warn("Genre count {} exceeds index capacity {}, genres after the limit are not indexed",
+                        sorted.size(), MAX_GENRES - 1);
+            }
+            Map<Long, Integer> bitById = new HashMap<>();
+            Genre[] genreByBit = new Genre[Math.min(sorted.size(), MAX_GENRES - 1)];
+            for (int bit = 0; bit < genreByBit.length; bit++) {
+                genreByBit[bit] = sorted.get(bit);
+                bitById.put(sorted.get(bit).getId(), bit);
+            }
+            Set<Long> ids = sorted.stream().map(Genre::getId).collect(Collectors.toUnmodifiableSet());
+            Instant lastModified = sorted.stream()
+                    .map(Genre::getUpdatedAt)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .map(updatedAt -> updatedAt.atZone(ZoneId.systemDefault()).toInstant())
+                    .orElse(null);
+            return new GenreDictionary(sorted, ids, Map.copyOf(bitById), genreByBit, lastModified);
+        }
+
+        boolean contains(Long genreId) {
+            return ids.contains(genreId);
+        }
+
+        long maskOf(long genreId) {
+            Integer bit = bitById.get(genreId);
+            return bit == null ? 0L : 1L << bit;
+        }
+
+        List<Genre> genresOf(long mask) {
+            List<Genre> result = new ArrayList<>(Long.bitCount(mask));
+            long remaining = mask;
+            while (remaining != 0L) {
+                int bit = Long.numberOfTrailingZeros(remaining);
+                result.add(genreByBit[bit]);
+                remaining &= remaining - 1;
+            }
+            return result;
+        }
+    }
+
+    private record MovieGenreIndex(long[] movieIds, long[] masks, int size) {
+        static final MovieGenreIndex EMPTY = new MovieGenreIndex(new long[0], new long[0], 0);
+
+        long maskOf(long movieId) {
+            int position = Arrays.binarySearch(movieIds, 0, size, movieId);
+            return position < 0 ? 0L : masks[position];
+        }
+
+        // movie_id 오름차순으로 들어온다고 가정
+        static class Builder {
+            private long[] movieIds = new long[1024];
+            private long[] masks = new long[1024];
+            private int size = 0;
+
+            void add(long movieId, long mask) {
+                if (size > 0 && movieIds[size - 1] == movieId) {
+                    masks[size - 1] |= mask;
+                    return;
+                }
+                if (size == movieIds.length) {
+                    movieIds = Arrays.copyOf(movieIds, size * 2);
+                    masks = Arrays.copyOf(masks, size * 2);
+                }
+                movieIds[size] = movieId;
+                masks[size] = mask;
+                size++;
+            }
+
+            MovieGenreIndex build() {
+                return new MovieGenreIndex(Arrays.copyOf(movieIds, size), Arrays.copyOf(masks, size), size);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp;
+import com.ureca.picky_be.global.cache.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 영화 카드(포스터, 제목, 평점, 좋아요/한줄평 수) 캐시
+ * - 영화/한줄평 변경 이벤트로 무효화, 좋아요 수는 버퍼 flush로 바뀌므로 짧은 TTL로 오래된 정도를 제한
+ */
+@Component
+public class MovieCardCacheManager {
+    private final LruCache<Long, CachedCard> cards;
+    private final long ttlMillis;
+
+    public MovieCardCacheManager(@Value("${picky.cache.movie-card.max-size:10000}") int maxSize,
+                                 @Value("${picky.cache.movie-card.ttl-ms:60000}") long ttlMillis) {
+        this.cards = new LruCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * when: 여러 영화 카드를 한 번에 조회할 때
+     * what: 캐시에 없거나 만료된 영화만 loader로 한 번에 읽어 채우고, 찾은 카드를 movieId별로 반환
+     */
+    public Map<Long, GetSimpleMovieResp> getCards(Collection<Long> movieIds,
+                                                  Function<List<Long>, List<GetSimpleMovieResp>> loader) {
+        long now = System.currentTimeMillis();
+        Map<Long, GetSimpleMovieResp> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long movieId : movieIds) {
+            CachedCard cached = cards.get(movieId);
+            if (cached != null && cached.expiresAt() > now) {
+                result.put(movieId, cached.card());
+            } else {
+                misses.add(movieId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 로딩 중 무효화된 영화만 빼고 채움 (다른 영화의 무효화로 묶음 전체를 버리지 않음)
+        long stamp = cards.invalidationStamp();
+        Map<Long, CachedCard> loaded = new HashMap<>();
+        for (GetSimpleMovieResp card : loader.apply(misses)) {
+            result.put(card.movieId(), card);
+            loaded.put(card.movieId(), new CachedCard(card, now + ttlMillis));
+        }
+        cards.putAllIfNotInvalidatedSince(stamp, loaded);
+        return result;
+    }
+
+    /**
+     * when: 영화 정보나 한줄평이 변경되어 커밋된 후
+     * what: 해당 영화의 카드 제거
+     */
+    public void evict(Long movieId) {
+        cards.invalidate(movieId);
+    }
+
+    private record CachedCard(GetSimpleMovieResp card, long expiresAt) {
+    }
+}
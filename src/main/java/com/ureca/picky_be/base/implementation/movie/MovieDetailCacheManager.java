@@ -0,0 +1,33 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.MovieDetailSnapshot;
+import com.ureca.picky_be.global.cache.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class MovieDetailCacheManager {
+    private final LruCache<Long, MovieDetailSnapshot> snapshots;
+
+    public MovieDetailCacheManager(@Value("${picky.cache.movie-detail.max-size:1000}") int maxSize) {
+        this.snapshots = new LruCache<>(maxSize);
+    }
+
+    /**
+     * when: 영화 상세 조회시
+     * what: 캐시된 스냅샷 반환, 없으면 loader로 만들어서 캐싱
+     */
+    public MovieDetailSnapshot getSnapshot(Long movieId, Function<Long, MovieDetailSnapshot> loader) {
+        return snapshots.getOrLoad(movieId, loader);
+    }
+
+    /**
+     * when: 영화 정보나 한줄평이 변경되어 커밋된 후
+     * what: 해당 영화의 스냅샷 제거
+     */
+    public void evict(Long movieId) {
+        snapshots.invalidate(movieId);
+    }
+}
@@ -0,0 +1,380 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.GetMovieFilterReq;
+import com.ureca.picky_be.base.business.movie.dto.MovieFacetSearchResult;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.jpa.entity.platform.PlatformType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 영화 다중 조건 필터용 인메모리 비트셋 인덱스
+ * - 영화마다 ordinal을 배정하고 조건 값(장르, 플랫폼, 언어, 개봉연도, 평점 구간)마다 BitSet 하나
+ * - 전체 재구성 시 인기순으로 ordinal을 배정해 비트 순서가 곧 인기순
+ * - 재구성 이후 바뀐 영화는 기존 ordinal을 끄고 뒤쪽(tail)에 새 ordinal로 추가, 조회 시 인기순으로 병합
+ * - 인덱스는 불변 스냅샷이고 변경은 복사본을 만들어 교체 (조회는 락 없음)
+ */
+@Slf4j
+@Component
+public class MovieFacetIndexManager {
+    private static final int RATING_BUCKETS = 11; // 0.0, 0.5, ... 5.0
+
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final double tailRebuildRatio;
+    private final AtomicReference<FacetIndex> index = new AtomicReference<>(FacetIndex.EMPTY);
+    private final Set<Long> pendingMovieIds = ConcurrentHashMap.newKeySet();
+
+    public MovieFacetIndexManager(MovieJdbcRepository movieJdbcRepository,
+                                  @Value("${picky.movie-facet.tail-rebuild-ratio:0.1}") double tailRebuildRatio) {
+        this.movieJdbcRepository = movieJdbcRepository;
+        this.tailRebuildRatio = tailRebuildRatio;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${picky.movie-facet.rebuild-interval-ms:600000}",
+            initialDelayString = "${picky.movie-facet.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * when: 영화 등록/수정 커밋 이후
+     * what: 다음 반영 주기에 해당 영화만 인덱스에 다시 반영
+     */
+    public void markChanged(Long movieId) {
+        pendingMovieIds.add(movieId);
+    }
+
+    public synchronized void rebuild() {
+        // 스캔 시작 전에 들어온 변경은 스캔 결과에 포함됨. 스캔 중 들어온 변경은 다시 표시되어 다음 반영 주기에 처리
+        Set<Long> pendingBefore = new HashSet<>(pendingMovieIds);
+        pendingMovieIds.removeAll(pendingBefore);
+        try {
+            Collection<FacetRow> rows = loadRows(null).values();
+            FacetIndex rebuilt = FacetIndex.build(rows);
+            index.set(rebuilt);
+            log.info("Movie facet index rebuilt. movies={}", rebuilt.alive.cardinality());
+        } catch (Exception e) {
+            pendingMovieIds.addAll(pendingBefore);
+            log.error("Movie facet index rebuild failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${picky.movie-facet.apply-interval-ms:1000}")
+    public synchronized void applyPending() {
+        if (pendingMovieIds.isEmpty()) {
+            return;
+        }
+        List<Long> movieIds = new ArrayList<>(pendingMovieIds);
+        FacetIndex current = index.get();
+        if (current.tailSize() + movieIds.size() > Math.max(1000, current.baseSize * tailRebuildRatio)) {
+            rebuild();
+            return;
+        }
+        // 읽기 전에 지워야 읽는 도중 다시 들어온 변경 표시가 남음
+        pendingMovieIds.removeAll(movieIds);
+        try {
+            Map<Long, FacetRow> rows = loadRows(movieIds);
+            index.set(current.withChanges(movieIds, rows));
+        } catch (Exception e) {
+            pendingMovieIds.addAll(movieIds);
+            log.warn("Movie facet index update failed. movies={}, reason={}", movieIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * when: 사용자가 장르/플랫폼/언어/개봉연도/평점 조건으로 영화를 찾을 때
+     * what: 조건 비트셋 교집합 -> 인기순 한 페이지의 movieId, 전체 개수, 결과 안에서의 조건별 개수
+     */
+    public MovieFacetSearchResult search(GetMovieFilterReq req) {
+        FacetIndex current = index.get();
+        BitSet result = (BitSet) current.alive.clone();
+
+        andAny(result, current.genres, req.genreIds());
+        andAny(result, current.platforms, req.platforms());
+        andAny(result, current.languages, req.languages() == null ? null
+                : req.languages().stream().map(language -> language.toLowerCase(Locale.ROOT)).toList());
+
+        if (req.yearFrom() != null || req.yearTo() != null) {
+            int from = req.yearFrom() == null ? Integer.MIN_VALUE : req.yearFrom();
+            int to = req.yearTo() == null ? Integer.MAX_VALUE : req.yearTo();
+            BitSet union = new BitSet();
+            current.years.forEach((year, bits) -> {
+                if (year >= from && year <= to) {
+                    union.or(bits);
+                }
+            });
+            result.and(union);
+        }
+
+        if (req.minRating() != null || req.maxRating() != null) {
+            double min = req.minRating() == null ? 0.0 : req.minRating();
+            double max = req.maxRating() == null ? 5.0 : req.maxRating();
+            int lo = ratingBucket(min);
+            int hi = ratingBucket(max);
+            BitSet union = new BitSet();
+            for (int bucket = lo; bucket <= hi; bucket++) {
+                union.or(current.ratingBuckets[bucket]);
+            }
+            result.and(union);
+
+            // 양 끝 구간만 실제 평점으로 다시 확인
+            BitSet boundary = (BitSet) current.ratingBuckets[lo].clone();
+            boundary.or(current.ratingBuckets[hi]);
+            boundary.and(result);
+            for (int ordinal = boundary.nextSetBit(0); ordinal >= 0; ordinal = boundary.nextSetBit(ordinal + 1)) {
+                double rating = current.ratings[ordinal];
+                if (rating < min || rating > max) {
+                    result.clear(ordinal);
+                }
+            }
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("genre", countFacet(result, current.genres, String::valueOf));
+        facets.put("platform", countFacet(result, current.platforms, PlatformType::name));
+        facets.put("language", countFacet(result, current.languages, Function.identity()));
+        facets.put("year", countFacet(result, current.years, String::valueOf));
+        Map<Integer, BitSet> ratingBuckets = new TreeMap<>();
+        for (int bucket = 0; bucket < RATING_BUCKETS; bucket++) {
+            ratingBuckets.put(bucket, current.ratingBuckets[bucket]);
+        }
+        facets.put("rating", countFacet(result, ratingBuckets, bucket -> String.valueOf(bucket / 2.0)));
+
+        return new MovieFacetSearchResult(
+                current.page(result, (long) req.page() * req.size(), req.size()),
+                result.cardinality(),
+                facets
+        );
+    }
+
+    private <K> void andAny(BitSet result, Map<K, BitSet> facet, List<K> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        BitSet union = new BitSet();
+        values.forEach(value -> {
+            BitSet bits = facet.get(value);
+            if (bits != null) {
+                union.or(bits);
+            }
+        });
+        result.and(union);
+    }
+
+    private <K> Map<String, Long> countFacet(BitSet result, Map<K, BitSet> facet, Function<K, String> keyName) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        facet.forEach((key, bits) -> {
+            BitSet intersection = (BitSet) bits.clone();
+            intersection.and(result);
+            long count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(keyName.apply(key), count);
+            }
+        });
+        return counts;
+    }
+
+    private static int ratingBucket(double rating) {
+        return Math.max(0, Math.min(RATING_BUCKETS - 1, (int) Math.floor(rating * 2)));
+    }
+
+    private Map<Long, FacetRow> loadRows(Collection<Long> movieIds) {
+        Map<Long, FacetRow> rows = new HashMap<>();
+        movieJdbcRepository.scanMovieFacets(movieIds, rs -> {
+            FacetRow row = new FacetRow(rs.getLong("id"));
+            row.popularity = rs.getDouble("popularity");
+            row.rating = rs.getDouble("total_rating");
+            Timestamp releaseDate = rs.getTimestamp("release_date");
+            row.year = releaseDate == null ? null : releaseDate.toLocalDateTime().getYear();
+            String language = rs.getString("original_language");
+            row.language = language == null ? null : language.toLowerCase(Locale.ROOT);
+            row.deleted = "TRUE".equals(rs.getString("is_deleted"));
+            rows.put(row.movieId, row);
+        });
+        movieJdbcRepository.scanMovieGenres(movieIds, rs -> {
+            FacetRow row = rows.get(rs.getLong("movie_id"));
+            if (row != null) {
+                row.genreIds.add(rs.getLong("genre_id"));
+            }
+        });
+        movieJdbcRepository.scanPlatforms(movieIds, rs -> {
+            FacetRow row = rows.get(rs.getLong("movie_id"));
+            String platformType = rs.getString("platform_type");
+            if (row != null && platformType != null) {
+                try {
+                    row.platforms.add(PlatformType.valueOf(platformType));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        });
+        return rows;
+    }
+
+    private static class FacetRow {
+        final long movieId;
+        double popularity;
+        double rating;
+        Integer year;
+        String language;
+        boolean deleted;
+        final List<Long> genreIds = new ArrayList<>();
+        final EnumSet<PlatformType> platforms = EnumSet.noneOf(PlatformType.class);
+
+        FacetRow(long movieId) {
+            this.movieId = movieId;
+        }
+    }
+
+    private static final class FacetIndex {
+        static final FacetIndex EMPTY = build(List.of());
+
+        long[] movieIds;
+        double[] popularity;
+        double[] ratings;
+        int size;
+        int baseSize;
+        BitSet alive;
+        Map<Long, Integer> ordinalByMovieId;
+        Map<Long, BitSet> genres;
+        Map<PlatformType, BitSet> platforms;
+        Map<String, BitSet> languages;
+        Map<Integer, BitSet> years;
+        BitSet[] ratingBuckets;
+
+        static FacetIndex build(Collection<FacetRow> rows) {
+            List<FacetRow> sorted = rows.stream()
+                    .filter(row -> !row.deleted)
+                    .sorted(Comparator.comparingDouble((FacetRow row) -> row.popularity).reversed()
+                            .thenComparingLong(row -> row.movieId))
+                    .toList();
+            FacetIndex built = new FacetIndex();
+            built.movieIds = new long[Math.max(sorted.size(), 16)];
+            built.popularity = new double[built.movieIds.length];
+            built.ratings = new double[built.movieIds.length];
+            built.alive = new BitSet(sorted.size());
+            built.ordinalByMovieId = new HashMap<>(sorted.size() * 2);
+            built.genres = new TreeMap<>();
+            built.platforms = new EnumMap<>(PlatformType.class);
+            built.languages = new TreeMap<>();
+            built.years = new TreeMap<>();
+            built.ratingBuckets = new BitSet[RATING_BUCKETS];
+            for (int bucket = 0; bucket < RATING_BUCKETS; bucket++) {
+                built.ratingBuckets[bucket] = new BitSet();
+            }
+            sorted.forEach(built::append);
+            built.baseSize = built.size;
+            return built;
+        }
+
+        FacetIndex withChanges(Collection<Long> changedMovieIds, Map<Long, FacetRow> rows) {
+            FacetIndex copy = new FacetIndex();
+            copy.movieIds = Arrays.copyOf(movieIds, Math.max(movieIds.length, size + changedMovieIds.size()));
+            copy.popularity = Arrays.copyOf(popularity, copy.movieIds.length);
+            copy.ratings = Arrays.copyOf(ratings, copy.movieIds.length);
+            copy.size = size;
+            copy.baseSize = baseSize;
+            copy.alive = (BitSet) alive.clone();
+            copy.ordinalByMovieId = new HashMap<>(ordinalByMovieId);
+            copy.genres = cloneAll(genres, new TreeMap<>());
+            copy.platforms = cloneAll(platforms, new EnumMap<>(PlatformType.class));
+            copy.languages = cloneAll(languages, new TreeMap<>());
+            copy.years = cloneAll(years, new TreeMap<>());
+            copy.ratingBuckets = new BitSet[RATING_BUCKETS];
+            for (int bucket = 0; bucket < RATING_BUCKETS; bucket++) {
+                copy.ratingBuckets[bucket] = (BitSet) ratingBuckets[bucket].clone();
+            }
+
+            for (Long movieId : changedMovieIds) {
+                Integer previous = copy.ordinalByMovieId.remove(movieId);
+                if (previous != null) {
+                    copy.alive.clear(previous);
+                }
+                FacetRow row = rows.get(movieId);
+                if (row != null && !row.deleted) {
+                    copy.append(row);
+                }
+            }
+            return copy;
+        }
+
+        private static <K> Map<K, BitSet> cloneAll(Map<K, BitSet> source, Map<K, BitSet> target) {
+            source.forEach((key, bits) -> target.put(key, (BitSet) bits.clone()));
+            return target;
+        }
+
+        private void append(FacetRow row) {
+            int ordinal = size++;
+            movieIds[ordinal] = row.movieId;
+            popularity[ordinal] = row.popularity;
+            ratings[ordinal] = row.rating;
+            alive.set(ordinal);
+            ordinalByMovieId.put(row.movieId, ordinal);
+            row.genreIds.forEach(genreId -> genres.computeIfAbsent(genreId, key -> new BitSet()).set(ordinal));
+            row.platforms.forEach(platform -> platforms.computeIfAbsent(platform, key -> new BitSet()).set(ordinal));
+            if (row.language != null) {
+                languages.computeIfAbsent(row.language, key -> new BitSet()).set(ordinal);
+            }
+            if (row.year != null) {
+                years.computeIfAbsent(row.year, key -> new BitSet()).set(ordinal);
+            }
+            ratingBuckets[ratingBucket(row.rating)].set(ordinal);
+        }
+
+        int tailSize() {
+            return size - baseSize;
+        }
+
+        /**
+         * base 구간은 비트 순서가 인기순, tail 구간은 정렬 후 병합
+         */
+        List<Long> page(BitSet result, long offset, int limit) {
+            List<Integer> tail = new ArrayList<>();
+            for (int ordinal = result.nextSetBit(baseSize); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+                tail.add(ordinal);
+            }
+            tail.sort(Comparator.comparingDouble((Integer ordinal) -> popularity[ordinal]).reversed()
+                    .thenComparingLong(ordinal -> movieIds[ordinal]));
+
+            List<Long> page = new ArrayList<>(limit);
+            long skipped = 0;
+            int tailPosition = 0;
+            int baseOrdinal = nextBase(result, 0);
+            while (page.size() < limit && (baseOrdinal >= 0 || tailPosition < tail.size())) {
+                int ordinal;
+                if (tailPosition >= tail.size()
+                        || (baseOrdinal >= 0 && popularity[baseOrdinal] >= popularity[tail.get(tailPosition)])) {
+                    ordinal = baseOrdinal;
+                    baseOrdinal = nextBase(result, baseOrdinal + 1);
+                } else {
+                    ordinal = tail.get(tailPosition++);
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    page.add(movieIds[ordinal]);
+                }
+            }
+            return page;
+        }
+
+        private int nextBase(BitSet result, int from) {
+            int ordinal = result.nextSetBit(from);
+            return ordinal >= 0 && ordinal < baseSize ? ordinal : -1;
+        }
+    }
+}
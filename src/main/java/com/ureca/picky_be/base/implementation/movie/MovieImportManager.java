@@ -0,0 +1,209 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.AddMovieReq;
+import com.ureca.picky_be.base.business.movie.dto.MovieChangedEvent;
+import com.ureca.picky_be.base.persistence.movie.MovieImportJobRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.base.implementation.search.SearchOutboxManager;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import com.ureca.picky_be.jpa.entity.config.IsDeleted;
+import com.ureca.picky_be.jpa.entity.movie.*;
+import com.ureca.picky_be.jpa.entity.movieworker.MovieWorker;
+import com.ureca.picky_be.jpa.entity.platform.Platform;
+import com.ureca.picky_be.jpa.entity.platform.PlatformType;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class MovieImportManager {
+    private final MovieImportJobRepository movieImportJobRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final SearchOutboxManager searchOutboxManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${picky.movie-import.dir:./import}")
+    private String importDir;
+
+    /**
+     * when: 관리자가 NDJSON 파일로 영화 대량 등록을 시작할 때
+     * what: 재개할 수 있도록 요청 본문을 그대로 스트리밍해 디스크에 보관하고 작업 생성
+     * 업로드가 끝날 때까지 커넥션을 잡지 않도록 트랜잭션 없이 복사하고, 작업 행은 save의 짧은 트랜잭션으로 저장
+     */
+    public MovieImportJob createJob(InputStream ndjson, int chunkSize) {
+        Path target;
+        try (InputStream in = ndjson) {
+            Path dir = Paths.get(importDir);
+            Files.createDirectories(dir);
+            target = dir.resolve(UUID.randomUUID() + ".ndjson");
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_FILE_FAILED);
+        }
+        return movieImportJobRepository.save(MovieImportJob.of(target.toString(), chunkSize));
+    }
+
+    public MovieImportJob getJob(Long jobId) {
+        return movieImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_IMPORT_JOB_NOT_FOUND));
+    }
+
+    @Transactional
+    public MovieImportJob resumeJob(Long jobId) {
+        MovieImportJob job = getJob(jobId);
+        if (job.getStatus() == MovieImportStatus.COMPLETED) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_ALREADY_COMPLETED);
+        }
+        if (!Files.exists(Paths.get(job.getFilePath()))) {
+            throw new CustomException(ErrorCode.MOVIE_IMPORT_FILE_FAILED);
+        }
+        job.resume();
+        return job;
+    }
+
+    @Transactional
+    public void completeJob(Long jobId) {
+        getJob(jobId).complete();
+    }
+
+    @Transactional
+    public void failJob(Long jobId, String reason) {
+        getJob(jobId).fail(reason);
+    }
+
+    /**
+     * when: 대량 등록 작업이 한 청크를 읽었을 때
+     * what: 영화/배우/장르/출연진/비하인드 영상/플랫폼을 batch insert하고 같은 트랜잭션에서 진행 위치를 커밋
+     * knownWorkerIds: 이번 작업에서 이미 insert한 MovieWorker id (청크마다 같은 배우를 다시 보내지 않음)
+     */
+    @Transactional
+    public List<AddMovieReq> importChunk(Long jobId, List<AddMovieReq> records, int lineCount, Set<Long> knownWorkerIds) {
+        MovieImportJob job = getJob(jobId);
+
+        Map<Long, AddMovieReq> candidates = new LinkedHashMap<>();
+        records.forEach(record -> candidates.putIfAbsent(record.movieInfo().id(), record));
+        // 잠금 조회로 걸러야 다른 작업/추천 저장과 겹쳐도 하위 데이터가 중복되지 않음 (batch 행별 결과는 믿을 수 없음)
+        movieJdbcRepository.lockExistingMovieIds(candidates.keySet()).forEach(candidates::remove);
+
+        List<Movie> movies = candidates.values().stream()
+                .map(this::toMovie)
+                .toList();
+        if (!movies.isEmpty()) {
+            movieJdbcRepository.batchInsertMovies(movies);
+        }
+
+        List<AddMovieReq> imported = new ArrayList<>();
+        List<MovieWorker> movieWorkers = new ArrayList<>();
+        List<MovieGenre> movieGenres = new ArrayList<>();
+        List<FilmCrew> filmCrews = new ArrayList<>();
+        List<MovieBehindVideo> movieBehindVideos = new ArrayList<>();
+        List<Platform> platforms = new ArrayList<>();
+        for (Movie movie : movies) {
+            AddMovieReq record = candidates.get(movie.getId());
+            imported.add(record);
+
+            if (record.movieInfo().genres() != null) {
+                record.movieInfo().genres().forEach(genre -> movieGenres.add(MovieGenre.of(movie, genre.id())));
+            }
+            AddMovieReq.MovieInfo.Credits credits = record.movieInfo().credits();
+            if (credits != null && credits.cast() != null) {
+                credits.cast().stream()
+                        .limit(10)
+                        .forEach(cast -> filmCrews.add(toFilmCrew(movieWorkers, knownWorkerIds, movie,
+                                cast.id(), cast.name(), cast.profileUrl(), cast.role(), FilmCrewPosition.ACTOR)));
+            }
+            if (credits != null && credits.crew() != null) {
+                credits.getDirectingCrew().stream()
+                        .limit(10)
+                        .forEach(crew -> filmCrews.add(toFilmCrew(movieWorkers, knownWorkerIds, movie,
+                                crew.id(), crew.name(), crew.profileUrl(), "감독감독~!", FilmCrewPosition.DIRECTOR)));
+            }
+            if (record.movieBehindVideos() != null) {
+                record.movieBehindVideos().forEach(url -> movieBehindVideos.add(MovieBehindVideo.builder()
+                        .url(url)
+                        .movie(movie)
+                        .build()));
+            }
+            platforms.addAll(toPlatforms(record.streamingPlatform(), movie));
+        }
+
+        movieJdbcRepository.batchInsertMovieWorkers(movieWorkers);
+        movieJdbcRepository.batchInsertMovieGenres(movieGenres);
+        movieJdbcRepository.batchInsertFilmCrews(filmCrews);
+        movieJdbcRepository.batchInsertMovieBehindVideos(movieBehindVideos);
+        movieJdbcRepository.batchInsertPlatforms(platforms);
+
+        job.commitChunk(lineCount, imported.size(), lineCount - imported.size());
+        searchOutboxManager.enqueueAll(SearchIndexTarget.MOVIE, imported.stream().map(record -> record.movieInfo().id()).toList());
+        imported.forEach(record -> eventPublisher.publishEvent(new MovieChangedEvent(record.movieInfo().id())));
+        return imported;
+    }
+
+    private Movie toMovie(AddMovieReq record) {
+        return Movie.builder()
+                .id(record.movieInfo().id())
+                .title(record.movieInfo().title())
+                .releaseDate(record.movieInfo().releaseDate())
+                .posterUrl(record.movieInfo().posterUrl())
+                .backdropUrl(record.movieInfo().backdropUrl())
+                .totalRating(0.0)
+                .plot(record.movieInfo().plot())
+                .runningTime(record.movieInfo().runtime())
+                .trailerUrl(record.trailer())
+                .ostUrl(record.ost())
+                .isDeleted(IsDeleted.FALSE)
+                .originalLanguage(record.movieInfo().originalLanguage())
+                .popularity(record.movieInfo().popularity())
+                .build();
+    }
+
+    private FilmCrew toFilmCrew(List<MovieWorker> newWorkers, Set<Long> knownWorkerIds, Movie movie, Long workerId,
+                                String name, String profileUrl, String role, FilmCrewPosition position) {
+        MovieWorker movieWorker = MovieWorker.builder()
+                .id(workerId)
+                .name(name)
+                .profileUrl(profileUrl)
+                .build();
+        if (knownWorkerIds.add(workerId)) {
+            newWorkers.add(movieWorker);
+        }
+        return FilmCrew.builder()
+                .movieWorker(movieWorker)
+                .movie(movie)
+                .role(role)
+                .filmCrewPosition(position)
+                .build();
+    }
+
+    private List<Platform> toPlatforms(AddMovieReq.StreamingPlatform streamingPlatform, Movie movie) {
+        if (streamingPlatform == null) {
+            return List.of();
+        }
+        List<PlatformType> platformTypes = new ArrayList<>();
+        if (streamingPlatform.coupang()) platformTypes.add(PlatformType.COUPANG);
+        if (streamingPlatform.disney()) platformTypes.add(PlatformType.DISNEY);
+        if (streamingPlatform.netflix()) platformTypes.add(PlatformType.NETFLIX);
+        if (streamingPlatform.tving()) platformTypes.add(PlatformType.TVING);
+        if (streamingPlatform.wavve()) platformTypes.add(PlatformType.WAVVE);
+        if (streamingPlatform.watcha()) platformTypes.add(PlatformType.WATCHA);
+        return platformTypes.stream()
+                .map(platformType -> Platform.builder()
+                        .platformType(platformType)
+                        .movie(movie)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp;
+import com.ureca.picky_be.base.persistence.movie.MovieRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Top10 / Top30 랭킹을 메모리에 불변 스냅샷으로 들고 있는 컴포넌트
+ * 주기적으로, 그리고 영화가 변경되었을 때 다시 계산해서 통째로 교체한다.
+ */
+@Slf4j
+@Component
+public class MovieLeaderboardManager {
+    private static final int TOP10_SIZE = 10;
+    private static final int TOP30_SIZE = 30;
+
+    private final MovieRepository movieRepository;
+    private final AtomicReference<Leaderboard> leaderboard = new AtomicReference<>(Leaderboard.EMPTY);
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final Timer refreshTimer;
+    private final Counter refreshFailures;
+
+    public MovieLeaderboardManager(MovieRepository movieRepository, MeterRegistry meterRegistry) {
+        this.movieRepository = movieRepository;
+        this.refreshTimer = Timer.builder("picky.leaderboard.refresh")
+                .description("Top10/Top30 랭킹 재계산 시간")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("picky.leaderboard.refresh.failures")
+                .register(meterRegistry);
+        Gauge.builder("picky.leaderboard.age.seconds", leaderboard,
+                        ref -> ref.get().refreshedAt() == null
+                                ? -1
+                                : Instant.now().getEpochSecond() - ref.get().refreshedAt().getEpochSecond())
+                .register(meterRegistry);
+    }
+
+    /**
+     * when: 영화 메인페이지
+     * what: 메모리에 있는 top 10 스냅샷 반환 (아직 계산 전이면 빈 목록, 요청 스레드에서 DB를 읽지 않음)
+     */
+    public List<GetSimpleMovieResp> getTop10() {
+        return current().top10();
+    }
+
+    /**
+     * when: AI 추천 목록이 아직 생성되지 않았을 때
+     * what: 메모리에 있는 top 30 스냅샷 반환
+     */
+    public List<GetSimpleMovieResp> getTop30() {
+        return current().top30();
+    }
+
+    public Instant getRefreshedAt() {
+        return leaderboard.get().refreshedAt();
+    }
+
+    /**
+     * when: top10 조건부 조회시
+     * what: top10 내용이 마지막으로 바뀐 시각 (아직 계산 전이면 null)
+     */
+    public Instant getTop10ChangedAt() {
+        return leaderboard.get().top10ChangedAt();
+    }
+
+    /**
+     * when: 영화가 추가/수정되어 커밋된 후
+     * what: 다음 체크 주기에 재계산하도록 표시 (여러 변경을 한 번의 재계산으로 합침)
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${picky.leaderboard.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        dirty.set(false);
+        refresh();
+    }
+
+    // 기동 시 계산이 실패했으면 긴 주기를 기다리지 않고 여기서 다시 시도
+    @Scheduled(fixedDelayString = "${picky.leaderboard.dirty-check-interval-ms:1000}")
+    public void refreshIfDirty() {
+        if (dirty.compareAndSet(true, false) || leaderboard.get().refreshedAt() == null) {
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        Timer.Sample sample = Timer.start();
+        try {
+            List<GetSimpleMovieResp> top10 = movieRepository.findTop10MoviesWithLikes(PageRequest.of(0, TOP10_SIZE));
+            List<GetSimpleMovieResp> top30 = movieRepository.findTop30MoviesWithLikes(PageRequest.of(0, TOP30_SIZE));
+            Leaderboard previous = leaderboard.get();
+            Instant now = Instant.now();
+            // 재계산 결과가 같으면 변경 시각을 유지해서 클라이언트가 304를 받을 수 있게 함
+            Instant top10ChangedAt = previous.top10().equals(top10) && previous.top10ChangedAt() != null
+                    ? previous.top10ChangedAt()
+                    : now;
+            leaderboard.set(new Leaderboard(List.copyOf(top10), List.copyOf(top30), now, top10ChangedAt));
+        } catch (Exception e) {
+            refreshFailures.increment();
+            log.warn("leaderboard refresh failed: {}", e.getMessage());
+        } finally {
+            sample.stop(refreshTimer);
+        }
+    }
+
+    private Leaderboard current() {
+        return leaderboard.get();
+    }
+
+    private record Leaderboard(
+            List<GetSimpleMovieResp> top10,
+            List<GetSimpleMovieResp> top30,
+            Instant refreshedAt,
+            Instant top10ChangedAt
+    ) {
+        private static final Leaderboard EMPTY = new Leaderboard(List.of(), List.of(), null, null);
+    }
+}
@@ -0,0 +1,233 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.business.movie.dto.MovieLikesFlushedEvent;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 영화 좋아요 write-behind 버퍼
+ * - (userId, movieId)별 최종 상태만 보관 (연속 토글은 하나로 합쳐짐)
+ * - 짧은 주기로 movie_like에 INSERT IGNORE / DELETE batch, movie_stats 좋아요 수는 같은 트랜잭션에서 바뀐 영화만 다시 세어 반영
+ * - 커밋 후 바뀐 영화 id로 MovieLikesFlushedEvent를 발행해 좋아요 수가 들어간 캐시/버전을 갱신
+ * - 락 경합을 줄이기 위해 키 해시로 나눈 stripe마다 따로 락
+ */
+@Slf4j
+@Component
+public class MovieLikeBuffer {
+    private static final int STRIPES = 16;
+
+    private final MovieLikeRepository movieLikeRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    public MovieLikeBuffer(MovieLikeRepository movieLikeRepository,
+                           MovieJdbcRepository movieJdbcRepository,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.movieLikeRepository = movieLikeRepository;
+        this.movieJdbcRepository = movieJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.flushTimer = Timer.builder("picky.movie-like.flush")
+                .description("좋아요 버퍼 flush 시간")
+                .register(meterRegistry);
+        this.flushFailures = meterRegistry.counter("picky.movie-like.flush.failures");
+        Gauge.builder("picky.movie-like.buffer.depth", depth, AtomicInteger::get)
+                .description("아직 DB에 반영되지 않은 좋아요 변경 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * when: 사용자가 좋아요 버튼을 눌렀을 때
+     * what: 현재 상태(버퍼 -> flush 중 -> DB 순)를 뒤집어 버퍼에 기록하고 바뀐 상태를 바로 반환
+     */
+    public boolean toggle(Long userId, Long movieId) {
+        LikeKey key = new LikeKey(userId, movieId);
+        Stripe stripe = stripeOf(key);
+        while (true) {
+            long version;
+            synchronized (stripe) {
+                LikeChange change = stripe.lookup(key);
+                if (change != null) {
+                    return stripe.record(key, change, !change.desired(), depth);
+                }
+                version = stripe.version;
+            }
+
+            boolean persisted = movieLikeRepository.existsByMovieIdAndUserId(movieId, userId);
+
+            synchronized (stripe) {
+                LikeChange change = stripe.lookup(key);
+                if (change != null) {
+                    return stripe.record(key, change, !change.desired(), depth);
+                }
+                // DB를 읽는 사이에 flush가 끝났다면 방금 읽은 값이 이미 낡았을 수 있음 -> 다시 읽음
+                if (stripe.version == version) {
+                    return stripe.record(key, new LikeChange(persisted, persisted), !persisted, depth);
+                }
+            }
+        }
+    }
+
+    /**
+     * when: 영화 상세 조회처럼 좋아요 여부를 보여줄 때
+     * what: 아직 DB에 반영되지 않은 변경이 있으면 그 값을 반환 (read-your-writes)
+     */
+    public Optional<Boolean> pendingState(Long userId, Long movieId) {
+        LikeKey key = new LikeKey(userId, movieId);
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            LikeChange change = stripe.lookup(key);
+            return change == null ? Optional.empty() : Optional.of(change.desired());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${picky.movie-like.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        Map<LikeKey, LikeChange> batch = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.drain(batch, depth);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<long[]> inserts = new ArrayList<>();
+        List<long[]> deletes = new ArrayList<>();
+        Set<Long> touchedMovieIds = new HashSet<>();
+        batch.forEach((key, change) -> {
+            if (change.desired() == change.persisted()) {
+                return;
+            }
+            long[] row = {key.movieId(), key.userId()};
+            (change.desired() ? inserts : deletes).add(row);
+            touchedMovieIds.add(key.movieId());
+        });
+
+        Timer.Sample sample = Timer.start();
+        boolean committed = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                movieJdbcRepository.batchInsertMovieLikes(inserts);
+                movieJdbcRepository.batchDeleteMovieLikes(deletes);
+                // 다른 인스턴스가 같은 좋아요를 반영했거나 INSERT IGNORE가 건너뛴 행이 있어도 어긋나지 않도록 증감 대신 다시 셈
+                movieJdbcRepository.refreshLikeCounts(touchedMovieIds);
+            });
+            committed = true;
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.error("Movie like flush failed. changes={}", batch.size(), e);
+        } finally {
+            sample.stop(flushTimer);
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.complete(committed, depth);
+                }
+            }
+        }
+        if (committed && !touchedMovieIds.isEmpty()) {
+            publishFlushed(touchedMovieIds);
+        }
+    }
+
+    // 토글 시점에 올린 버전으로 flush 전의 좋아요 수가 캐시될 수 있으므로 커밋 후 한 번 더 무효화
+    private void publishFlushed(Set<Long> movieIds) {
+        try {
+            eventPublisher.publishEvent(new MovieLikesFlushedEvent(movieIds));
+        } catch (Exception e) {
+            log.warn("Movie like flushed event failed. movies={}", movieIds.size(), e);
+        }
+    }
+
+    private Stripe stripeOf(LikeKey key) {
+        return stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    private record LikeKey(long userId, long movieId) {}
+
+    /**
+     * persisted: 버퍼에 처음 들어올 때의 DB 상태, desired: 사용자가 마지막으로 만든 상태
+     */
+    private record LikeChange(boolean persisted, boolean desired) {}
+
+    private static class Stripe {
+        private Map<LikeKey, LikeChange> pending = new HashMap<>();
+        private Map<LikeKey, LikeChange> inFlight = Map.of();
+        private long version = 0L;
+
+        LikeChange lookup(LikeKey key) {
+            LikeChange change = pending.get(key);
+            if (change != null) {
+                return change;
+            }
+            change = inFlight.get(key);
+            // flush 중인 변경은 반영될 예정이므로 그 결과를 DB 상태로 보고 새 변경을 시작
+            return change == null ? null : new LikeChange(change.desired(), change.desired());
+        }
+
+        boolean record(LikeKey key, LikeChange base, boolean desired, AtomicInteger depth) {
+            if (pending.put(key, new LikeChange(base.persisted(), desired)) == null) {
+                depth.incrementAndGet();
+            }
+            return desired;
+        }
+
+        void drain(Map<LikeKey, LikeChange> batch, AtomicInteger depth) {
+            batch.putAll(pending);
+            depth.addAndGet(-pending.size());
+            inFlight = pending;
+            pending = new HashMap<>();
+        }
+
+        void complete(boolean committed, AtomicInteger depth) {
+            if (!committed) {
+                // 실패: flush 중이던 변경을 되돌려 놓음. 그 사이 새 변경이 있으면 기준 DB 상태만 실패 전으로 맞춤
+                inFlight.forEach((key, change) -> {
+                    LikeChange newer = pending.get(key);
+                    if (newer == null) {
+                        pending.put(key, change);
+                        depth.incrementAndGet();
+                    } else {
+                        pending.put(key, new LikeChange(change.persisted(), newer.desired()));
+                    }
+                });
+            }
+            inFlight = Map.of();
+            version++;
+        }
+    }
+}
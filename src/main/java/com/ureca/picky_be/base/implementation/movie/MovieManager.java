@@ -7,7 +7,8 @@ import com.ureca.picky_be.base.business.user.dto.GetMoviesForRegisResp;
 import com.ureca.picky_be.base.persistence.movie.*;
 import com.ureca.picky_be.base.persistence.movieworker.MovieWorkerRepository;
 import com.ureca.picky_be.base.persistence.user.UserRepository;
-import com.ureca.picky_be.elasticsearch.document.movie.MovieDocument;
+import com.ureca.picky_be.base.implementation.search.SearchOutboxManager;
+import com.ureca.picky_be.global.cache.LruCache;
 import com.ureca.picky_be.global.exception.CustomException;
 import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.global.success.SuccessCode;
@@ -17,21 +18,22 @@ import com.ureca.picky_be.jpa.entity.movie.*;
 import com.ureca.picky_be.jpa.entity.movieworker.MovieWorker;
 import com.ureca.picky_be.jpa.entity.platform.Platform;
 import com.ureca.picky_be.jpa.entity.platform.PlatformType;
-import com.ureca.picky_be.jpa.entity.user.User;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 @Component
@@ -45,20 +47,34 @@ public class MovieManager {
     private final FilmCrewRepository filmCrewRepository;
     private final GenreRepository genreRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final MovieStatsRepository movieStatsRepository;
     private final UserRepository userRepository;
     private final PlatformRepository platformRepository;
     private final RecommendRepository recommendRepository;
-    private final MovieSearchRepository movieSearchRepository;
     private final ElasticsearchClient elasticsearchClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MovieJdbcRepository movieJdbcRepository;
+    @Qualifier("tmdbExecutor")
+    private final Executor tmdbExecutor;
+    private final TmdbGateway tmdbGateway;
+    private final GenreIndexManager genreIndexManager;
+    private final MovieLikeBuffer movieLikeBuffer;
+    private final SearchOutboxManager searchOutboxManager;
+    private final MovieCardCacheManager movieCardCacheManager;
 
+    // 좋아요 요청마다 영화/사용자 존재 확인 쿼리를 보내지 않도록 확인된 id만 기억 (영화는 삭제되지 않고 사용자는 JWT로 이미 확인됨)
+    private final LruCache<Long, Boolean> knownMovieIds = new LruCache<>(50_000);
+    private final LruCache<Long, Boolean> knownUserIds = new LruCache<>(50_000);
 
-    RestClient restClient = RestClient.create();
+    // 필터 결과는 앞에서부터 세어 건너뛰므로 너무 뒤 페이지는 막음
+    private static final long MAX_FILTER_OFFSET = 10_000;
 
-    @Value("${tmdb.token}")
-    private String tmdbToken;
+    @Value("${picky.movie.cards.max-ids:100}")
+    private int maxCardIds;
+
+    @Value("${picky.tmdb.fetch-budget-ms:1500}")
+    private long tmdbFetchBudgetMillis;
 
-    @Value("${tmdb.url}")
-    private String tmdbUrl;
     // -------------------------- 메서드 --------------------------
     // <editor-fold desc="영화 조회">
     /**
@@ -85,43 +101,32 @@ public class MovieManager {
      * when: 사용자가 AI 영화 추천 목록 조회시 (step2)
      * what: AI로 추천된 영화를 DtoProjection으로 반환
      */
-    public List<GetRecommendMovieProjection> getRecommendsAi(List<Movie> movies){
-        List<Long> movieIds = movies.stream()
-                .map(Movie::getId) // ID 추출
-                .collect(Collectors.toList());
+    public List<GetRecommendMovieProjection> getRecommendsAi(List<Long> movieIds){
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
         return movieRepository.findMoviesWithGenresAndPlatforms(movieIds);
     }
 
     /**
-     * when: 사용자가 AI 영화 추천 목록 조회시 (etc) - 아직 추천 목록이 생성되지 않았을 때
-     * what: 높은 좋아요 순으로 영화 반환
-     */
-    public List<GetSimpleMovieResp> getRecommends(){
-        Pageable pageable = PageRequest.of(0, 30);
-        return movieRepository.findTop30MoviesWithLikes(pageable);
-    }
-
-    /**
-     * when: 영화 메인페이지
-     * what: top 10 영화 리스트 반환
+     * when: 장르별 영화 조회
+     * what: 12개씩 장르별로 (popularity, createdAt, id) 내림차순 keyset 조회
      */
-    public List<GetSimpleMovieResp> getTop10(){
-        Pageable pageable = PageRequest.of(0, 10);
-        return movieRepository.findTop10MoviesWithLikes(pageable);
+    public Slice<GetGenreMovieProjection> getMoviesByGenre(Long genreId, GenreMovieCursor cursor){
+        if (cursor == null) {
+            return movieRepository.findMoviesByGenreIdFirstPage(genreId, PageRequest.ofSize(12));
+        }
+        return movieRepository.findMoviesByGenreIdUsingCursor(
+                genreId, cursor.popularity(), cursor.createdAt(), cursor.movieId(), PageRequest.ofSize(12));
     }
 
     /**
-     * when: 장르별 영화 조회
-     * what: 12개씩 장르별로 높은 좋아요 순으로 조회
+     * when: 서버 시작시
+     * what: 정렬 키가 비어있는 movie_genre 행에 movie의 popularity, createdAt 복사
      */
-    public Slice<GetSimpleMovieResp> getMoviesByGenre(Long genreId, Long lastMovieId, LocalDateTime createdAt){
-/*        // 영화 존재 여부 확인
-        if (lastMovieId != null && !movieRepository.existsById(lastMovieId)) {
-            throw new CustomException(ErrorCode.MOVIE_NOT_FOUND);
-        }*/
-
-        //validateCursor(genreId, lastMovieId);
-        return movieRepository.findMoviesByGenreIdWithLikesUsingCursor(genreId, createdAt, lastMovieId, PageRequest.ofSize(12));
+    @Transactional
+    public int backfillMovieGenreSortKeys() {
+        return movieGenreRepository.backfillSortKeys();
     }
     // </editor-fold>
     // <editor-fold desc="영화 조회에 필요한 메서드">
@@ -135,14 +140,54 @@ public class MovieManager {
     }
 
     public List<Genre> getGenre(Long movieId) {
-        List<Long> genreIds = movieGenreRepository.getGenreIdsByMovieId(movieId);
-        List<Genre> genres = genreRepository.findAllByIdIn(genreIds);
+        List<Genre> genres = genreIndexManager.getGenresOfMovie(movieId);
         if (genres.isEmpty()) {
             throw new CustomException(ErrorCode.GENRE_NOT_FOUND);
         }
         return genres;
     }
 
+    /**
+     * when: 게시글 목록처럼 여러 영화의 장르가 한 번에 필요할 때
+     * what: 장르 인덱스에서 조회 (인덱스에 없는 영화만 한 번의 쿼리로 보충)
+     */
+    public Map<Long, List<Genre>> getGenresByMovieIds(Collection<Long> movieIds) {
+        return genreIndexManager.getGenresOfMovies(movieIds);
+    }
+
+    /**
+     * when: 필터 인덱스에서 찾은 한 페이지를 응답으로 만들 때
+     * what: movieId 순서를 유지한 채 한 번의 쿼리로 조회
+     */
+    public List<GetSimpleMovieResp> getSimpleMoviesByIds(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, GetSimpleMovieResp> moviesById = movieRepository.findSimpleMoviesByIds(movieIds).stream()
+                .collect(Collectors.toMap(GetSimpleMovieResp::movieId, movie -> movie));
+        return movieIds.stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * when: 목록 화면에서 여러 영화 카드를 한 번에 조회할 때
+     * what: 카드 캐시에서 찾고 없는 영화만 한 번의 IN 쿼리로 보충, 요청한 순서 유지 (중복 id는 한 번만, 삭제된 영화는 빠짐)
+     */
+    public List<GetSimpleMovieResp> getMovieCards(List<Long> movieIds) {
+        if (movieIds == null || movieIds.isEmpty() || movieIds.size() > maxCardIds
+                || movieIds.stream().anyMatch(movieId -> movieId == null || movieId <= 0)) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_CARD_IDS);
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(movieIds);
+        Map<Long, GetSimpleMovieResp> cards = movieCardCacheManager.getCards(distinctIds, movieRepository::findSimpleMoviesByIds);
+        return distinctIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public List<FilmCrew> getActors(Movie movie) {
         List<FilmCrew> actors = filmCrewRepository.findByMovieAndFilmCrewPosition(movie, FilmCrewPosition.ACTOR);
         if (actors.isEmpty()) {
@@ -160,7 +205,8 @@ public class MovieManager {
     }
 
     public boolean getMovieLike(Long movieId, Long userId){
-        return movieLikeRepository.existsByMovieIdAndUserId(movieId, userId);
+        return movieLikeBuffer.pendingState(userId, movieId)
+                .orElseGet(() -> movieLikeRepository.existsByMovieIdAndUserId(movieId, userId));
     }
 
     public List<Platform> getStreamingPlatform(Movie movie) {
@@ -172,6 +218,7 @@ public class MovieManager {
      * when: 관리자가 영화 등록시
      * what: 프론트에서 받아온 정보들로 영화 등록
      */
+    @Transactional
     public Movie addMovie(AddMovieReq addMovieReq) {
         if(movieRepository.existsById(addMovieReq.movieInfo().id())){
             throw new CustomException(ErrorCode.MOVIE_EXISTS);
@@ -183,6 +230,8 @@ public class MovieManager {
         List<FilmCrew> actors = addActors(addMovieReq.movieInfo().credits(), movie);
         List<FilmCrew> directors = addDirectors(addMovieReq.movieInfo().credits(), movie);
 
+        searchOutboxManager.enqueue(SearchIndexTarget.MOVIE, movie.getId());
+        eventPublisher.publishEvent(new MovieChangedEvent(movie.getId()));
         return movie;
     }
 
@@ -191,103 +240,122 @@ public class MovieManager {
      * what: 우리 DB에 없는 영화를 외부 API를 통해 정보 불러옴
      */
     public AddMovieAuto saveMovieAuto(Long movieId){
-        try{
-            return restClient
-                    .get()
-                    .uri(buildTmdbUrl(movieId))
-                    .headers(headers -> headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + tmdbToken))
-                    .retrieve()
-                    .body(AddMovieAuto.class);
-        } catch (Exception e) {
-            return null;
-            //throw new CustomException(ErrorCode.VALIDATION_ERROR);
+        return tmdbGateway.getMovie(movieId).orElse(null);
+    }
+
+    /**
+     * when: 사용자가 AI추천 영화 목록 조회시
+     * what: DB에 없는 영화를 TMDB에서 비동기로 불러옴 (tmdbExecutor 스레드 수만큼만 동시 호출)
+     */
+    public CompletableFuture<AddMovieAuto> fetchMovieAutoAsync(Long movieId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> saveMovieAuto(movieId), tmdbExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(null);
         }
     }
 
     /**
      * when: 사용자가 AI추천 영화 목록 조회시
-     * what: 외부 API를 통해 가져온 정보를 우리 DB에 래핑
+     * what: 정해진 시간까지만 TMDB 응답을 기다림 (가장 느린 호출 때문에 응답 전체가 늦어지지 않도록)
      */
+    public void awaitMovieAutoFetches(Collection<CompletableFuture<AddMovieAuto>> fetches) {
+        if (fetches.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0]))
+                    .get(tmdbFetchBudgetMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 시간 안에 도착한 응답만 사용
+        }
+    }
+
     /**
      * when: 사용자가 AI추천 영화 목록 조회시
-     * what: 외부 API를 통해 가져온 정보를 우리 DB에 래핑
+     * what: 외부 API를 통해 가져온 영화들을 batch insert로 한 번에 저장, 새로 저장된 영화만 반환
      */
-    public Movie addMovieAuto(AddMovieAuto addMovieAuto) {
-        Movie movie = Movie.builder()
+    @Transactional
+    public List<Movie> addMoviesAuto(List<AddMovieAuto> addMovieAutos) {
+        Map<Long, AddMovieAuto> candidates = new LinkedHashMap<>();
+        addMovieAutos.forEach(addMovieAuto -> candidates.putIfAbsent(addMovieAuto.id(), addMovieAuto));
+        // 잠금 조회로 걸러야 동시에 같은 영화를 저장한 요청과 하위 데이터(장르/출연진)가 중복되지 않음
+        movieJdbcRepository.lockExistingMovieIds(candidates.keySet()).forEach(candidates::remove);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Movie> newMovies = candidates.values().stream()
+                .map(this::toMovie)
+                .toList();
+        movieJdbcRepository.batchInsertMovies(newMovies);
+
+        Map<Long, MovieWorker> movieWorkers = new LinkedHashMap<>();
+        List<MovieGenre> movieGenres = new ArrayList<>();
+        List<FilmCrew> filmCrews = new ArrayList<>();
+        for (Movie movie : newMovies) {
+            AddMovieAuto addMovieAuto = candidates.get(movie.getId());
+            if (addMovieAuto.genres() != null) {
+                addMovieAuto.genres().forEach(genre -> movieGenres.add(MovieGenre.of(movie, genre.id())));
+            }
+            if (addMovieAuto.credits() == null) {
+                continue;
+            }
+            if (addMovieAuto.credits().cast() != null) {
+                addMovieAuto.credits().cast().stream()
+                        .limit(10)
+                        .forEach(cast -> filmCrews.add(toFilmCrew(movieWorkers, movie, cast.id(), cast.name(), cast.profileUrl(), cast.role(), FilmCrewPosition.ACTOR)));
+            }
+            if (addMovieAuto.credits().crew() != null) {
+                addMovieAuto.credits().getDirectingCrew().stream()
+                        .limit(10)
+                        .forEach(crew -> filmCrews.add(toFilmCrew(movieWorkers, movie, crew.id(), crew.name(), crew.profileUrl(), "감독감독~!", FilmCrewPosition.DIRECTOR)));
+            }
+        }
+
+        movieJdbcRepository.batchInsertMovieWorkers(new ArrayList<>(movieWorkers.values()));
+        movieJdbcRepository.batchInsertMovieGenres(movieGenres);
+        movieJdbcRepository.batchInsertFilmCrews(filmCrews);
+
+        searchOutboxManager.enqueueAll(SearchIndexTarget.MOVIE, newMovies.stream().map(Movie::getId).toList());
+        newMovies.forEach(movie -> eventPublisher.publishEvent(new MovieChangedEvent(movie.getId())));
+        return newMovies;
+    }
+
+    private Movie toMovie(AddMovieAuto addMovieAuto) {
+        return Movie.builder()
                 .id(addMovieAuto.id())
                 .title(addMovieAuto.title())
                 .releaseDate(addMovieAuto.releaseDate())
                 .posterUrl(addMovieAuto.posterUrl())
                 .backdropUrl(addMovieAuto.backdropUrl())
-                .totalRating(3.0 + (Math.random() * 2.0))
+                .totalRating(0.0)
                 .plot(addMovieAuto.plot())
                 .runningTime(addMovieAuto.runtime())
                 .isDeleted(IsDeleted.FALSE)
                 .originalLanguage(addMovieAuto.originalLanguage())
                 .popularity(addMovieAuto.popularity())
                 .build();
-        return movieRepository.save(movie);
-    }
-    // </editor-fold>
-    // <editor-fold desc="영화 추가에 필요한 메서드">
-    public List<MovieGenre> addMovieGenresAuto(List<AddMovieReq.MovieInfo.GenreInfo> genres, Movie movie) {
-        List<MovieGenre> movieGenres = genres.stream()
-                .map(genre -> MovieGenre.builder()
-                        .movie(movie)
-                        .genreId(genre.id())
-                        .build())
-                .toList();
-        return movieGenreRepository.saveAll(movieGenres);
-    }
-
-    public List<FilmCrew> addActorsAuto(AddMovieReq.MovieInfo.Credits credits, Movie movie) {
-        List<FilmCrew> filmCrews = credits.cast().stream()
-                .limit(10)
-                .map(cast -> {
-                    MovieWorker movieWorker = movieWorkerRepository.findById(cast.id())
-                            .orElseGet(() -> movieWorkerRepository.save(
-                                    MovieWorker.builder()
-                                            .id(cast.id())
-                                            .name(cast.name())
-                                            .profileUrl(cast.profileUrl())
-                                            .build()
-                            ));
-
-                    return FilmCrew.builder()
-                            .movieWorker(movieWorker)
-                            .movie(movie)
-                            .role(cast.role())
-                            .filmCrewPosition(FilmCrewPosition.ACTOR)
-                            .build();
-                })
-                .toList();
-        return filmCrewRepository.saveAll(filmCrews);
     }
 
-    public List<FilmCrew> addDirectorsAuto(AddMovieReq.MovieInfo.Credits credits, Movie movie) {
-        List<FilmCrew> filmCrews = credits.getDirectingCrew().stream()
-                .limit(10)
-                .map(cast -> {
-                    MovieWorker movieWorker = movieWorkerRepository.findById(cast.id())
-                            .orElseGet(() -> movieWorkerRepository.save(
-                                    MovieWorker.builder()
-                                            .id(cast.id())
-                                            .name(cast.name())
-                                            .profileUrl(cast.profileUrl())
-                                            .build()
-                            ));
-
-                    return FilmCrew.builder()
-                            .movieWorker(movieWorker)
-                            .movie(movie)
-                            .role("감독감독~!")
-                            .filmCrewPosition(FilmCrewPosition.DIRECTOR)
-                            .build();
-                })
-                .toList();
-        return filmCrewRepository.saveAll(filmCrews);
+    private FilmCrew toFilmCrew(Map<Long, MovieWorker> movieWorkers, Movie movie, Long workerId, String name,
+                                String profileUrl, String role, FilmCrewPosition position) {
+        MovieWorker movieWorker = movieWorkers.computeIfAbsent(workerId, id -> MovieWorker.builder()
+                .id(id)
+                .name(name)
+                .profileUrl(profileUrl)
+                .build());
+        return FilmCrew.builder()
+                .movieWorker(movieWorker)
+                .movie(movie)
+                .role(role)
+                .filmCrewPosition(position)
+                .build();
     }
-
+    // </editor-fold>
+    // <editor-fold desc="영화 추가에 필요한 메서드">
     private Movie addMovieInfo(AddMovieReq addMovieReq) {
         Movie movie = Movie.builder()
                 .id(addMovieReq.movieInfo().id())
@@ -295,7 +363,7 @@ public class MovieManager {
                 .releaseDate(addMovieReq.movieInfo().releaseDate())
                 .posterUrl(addMovieReq.movieInfo().posterUrl())
                 .backdropUrl(addMovieReq.movieInfo().backdropUrl())
-                .totalRating(3.0 + (Math.random() * 2.0))
+                .totalRating(0.0)
                 .plot(addMovieReq.movieInfo().plot())
                 .runningTime(addMovieReq.movieInfo().runtime())
                 .trailerUrl(addMovieReq.trailer())
@@ -319,10 +387,7 @@ public class MovieManager {
 
     private List<MovieGenre> addMovieGenres(List<AddMovieReq.MovieInfo.GenreInfo> genres, Movie movie) {
         List<MovieGenre> movieGenres = genres.stream()
-                .map(genre -> MovieGenre.builder()
-                        .movie(movie)
-                        .genreId(genre.id())
-                        .build())
+                .map(genre -> MovieGenre.of(movie, genre.id()))
                 .toList();
         return movieGenreRepository.saveAll(movieGenres);
     }
@@ -418,6 +483,8 @@ public class MovieManager {
                     .build();
             platformRepository.save(platform);
         }
+        // 플랫폼은 영화 저장 이후에 따로 저장되므로 한 번 더 알림 (필터 인덱스 반영)
+        eventPublisher.publishEvent(new MovieChangedEvent(movie.getId()));
     }
     // </editor-fold>
     // <editor-fold desc="영화 수정">
@@ -452,6 +519,8 @@ public class MovieManager {
         if(updateMovieReq.movieBehindVideos() != null){
             updateBehindVideo(updateMovieReq.movieBehindVideos(), movie);
         }
+        searchOutboxManager.enqueue(SearchIndexTarget.MOVIE, movieId);
+        eventPublisher.publishEvent(new MovieChangedEvent(movieId));
         return SuccessCode.UPDATE_MOVIE_SUCCESS;
     }
     // </editor-fold>
@@ -529,10 +598,7 @@ public class MovieManager {
     private List<MovieGenre> updateMovieGenre(Movie movie, List<UpdateMovieReq.MovieInfo.GenreInfo> genres){
         movieGenreRepository.deleteMovieGenreByMovieId(movie.getId());
         List<MovieGenre> movieGenres = genres.stream()
-                .map(genre -> MovieGenre.builder()
-                        .movie(movie)
-                        .genreId(genre.id())
-                        .build())
+                .map(genre -> MovieGenre.of(movie, genre.id()))
                 .toList();
         return movieGenreRepository.saveAll(movieGenres);
     }
@@ -593,20 +659,41 @@ public class MovieManager {
      * what: 입력받은 영화 장르의 유효성 검사
      */
     private void validateGenreIds(List<Long> genreIds) {
-        List<Long> invalidGenreIds = genreIds.stream()
-                .filter(id -> !genreRepository.existsById(id))
-                .toList();
-        if (!invalidGenreIds.isEmpty()) {
+        if (!genreIndexManager.containsAllGenres(genreIds)) {
             throw new CustomException(ErrorCode.GENRE_NOT_FOUND);
         }
     }
 
+    /**
+     * when: 영화 필터 조회시
+     * what: 페이지 크기, 개봉연도 범위, 평점 범위의 유효성 검사
+     */
+    public void validateFilter(GetMovieFilterReq req) {
+        if (req.page() < 0 || req.size() <= 0 || req.size() > 50) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_FILTER);
+        }
+        if ((long) req.page() * req.size() > MAX_FILTER_OFFSET) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_FILTER);
+        }
+        if (req.yearFrom() != null && req.yearTo() != null && req.yearFrom() > req.yearTo()) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_FILTER);
+        }
+        double minRating = req.minRating() == null ? 0.0 : req.minRating();
+        double maxRating = req.maxRating() == null ? 5.0 : req.maxRating();
+        if (minRating < 0 || maxRating > 5 || minRating > maxRating) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_FILTER);
+        }
+    }
+
     /**
      * when: whenever
      * what: movieId를 통해 해당 영화가 우리 DB에 존재 여부 확인
      */
-    public boolean isExists(Long movieId){
-        return movieRepository.existsById(movieId);
+    public Set<Long> findExistingMovieIds(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(movieRepository.findExistingIds(movieIds));
     }
 
     /**
@@ -618,15 +705,6 @@ public class MovieManager {
                 .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
     }
 
-    private void validateCursor(Long genreId, Long movieId) {
-        // 첫 요청일 경우
-        if (movieId == null) return;
-
-        // genreId 유효성 검사
-        Genre genre = genreRepository.findById(genreId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GENRE_NOT_FOUND));
-    }
-
     private void lastMovieLikeIdValidation(Long lastMovieLikeId) {
         if(lastMovieLikeId == null) return;
         if(lastMovieLikeId <= 0) {
@@ -634,55 +712,56 @@ public class MovieManager {
         }
     }
     // </editor-fold>
-    // <editor-fold desc="기타">
+
     /**
-     * when: 사용자가 AI추천 영화 목록 조회시
-     * what: 외부 API 호출을 위한 url build
+     * when: 사용자가 영화 좋아요/취소 시
+     * what: 버퍼에 토글을 기록하고 바뀐 상태를 바로 반환 (DB 반영은 MovieLikeBuffer가 주기적으로 batch 처리)
      */
-    private String buildTmdbUrl(Long movieId){
-        String sd = UriComponentsBuilder
-                .fromHttpUrl(tmdbUrl + movieId)
-                .queryParam("append_to_response", "credits")
-                .queryParam("language", "ko-KR")
-                .build()
-                .toUriString();
-        System.out.println(sd);
-        return sd;
-    }
-
-    // </editor-fold>
-
-    @Transactional
     public boolean movieLike(Long movieId, Long userId) {
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MOVIE_NOT_FOUND));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        return movieLikeRepository.findByMovieIdAndUserId(movieId, userId)
-                .map(movieLike -> {
-                    movieLikeRepository.delete(movieLike);
-                    return false;
-                })
-                .orElseGet(() -> {
-                    createNewMovieLike(movie, user);
-                    return true;
-                });
+        if (knownMovieIds.get(movieId) == null) {
+            if (!movieRepository.existsById(movieId)) {
+                throw new CustomException(ErrorCode.MOVIE_NOT_FOUND);
+            }
+            knownMovieIds.put(movieId, Boolean.TRUE);
+        }
+        if (knownUserIds.get(userId) == null) {
+            if (!userRepository.existsById(userId)) {
+                throw new CustomException(ErrorCode.USER_NOT_FOUND);
+            }
+            knownUserIds.put(userId, Boolean.TRUE);
+        }
+        return movieLikeBuffer.toggle(userId, movieId);
     }
 
-    private void createNewMovieLike(Movie movie, User user){
-        try{
-            MovieLike newMovieLike = MovieLike.builder()
-                    .movie(movie)
-                    .user(user)
-                    .build();
-            movieLikeRepository.save(newMovieLike);
-        } catch (Exception e){
-            throw new CustomException(ErrorCode.MOVIE_LIKE_FAILED);
+    /**
+     * when: 회원 탈퇴시
+     * what: 좋아요 요청에서 존재 확인을 건너뛰던 사용자 id를 지움 (커밋 전 사이에 다시 들어오는 것까지 커밋 후 한 번 더)
+     */
+    public void forgetUser(Long userId) {
+        knownUserIds.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownUserIds.invalidate(userId);
+                }
+            });
         }
     }
 
+    /**
+     * when: 관리자가 영화 통계 재집계 요청시
+     * what: movie_like, line_review 원본 테이블로부터 movie_stats 전체 재계산 후 movie.total_rating을 평균 평점으로 맞춤
+     */
+    @Transactional
+    public int rebuildMovieStats() {
+        int rebuilt = movieStatsRepository.rebuildAll();
+        movieStatsRepository.syncAllTotalRatings();
+        return rebuilt;
+    }
+
     public List<Genre> getGenres(){
-        return genreRepository.findAll();
+        return genreIndexManager.getGenres();
     }
 
     public List<GetSimpleMovieProjection> getMoviesOrderByCreatedAt(Long lastMovieId, LocalDateTime createdAt, int size){
@@ -693,35 +772,6 @@ public class MovieManager {
         Long lastMovieLikeId = req.lastMovieLikeId();
         lastMovieLikeIdValidation(lastMovieLikeId);
         return movieLikeRepository.findByUserId(userId, lastMovieLikeId, pageRequest);
-    }
-
-    @Transactional(readOnly = true)
-    public List<MovieDocument> getSearchMovies(String keyword) {
-        return movieSearchRepository.findByTitle(keyword);
-    }
-
-    public void addMovieElastic(Movie movie, List<Genre> genres) {
-        try {
-
-            List<GetGenres> getGenres = genres.stream()
-                    .map(genre -> new GetGenres(genre.getId(), genre.getName())) // GetGenres 객체 생성
-                    .toList();
-
-            MovieDocument newMovieDocument = MovieDocument.builder()
-                    .id(movie.getId())
-                    .title(movie.getTitle())
-                    .releaseDate(movie.getReleaseDate())
-                    .posterUrl(movie.getPosterUrl())
-                    .isDeleted(movie.getIsDeleted())
-                    .genre(getGenres) // 변환된 장르 리스트 추가
-                    .originalLanguage(movie.getOriginalLanguage())
-                    .build();
-
-            movieSearchRepository.save(newMovieDocument);
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.ELASTIC_MOVIE_CREATE_FAILED);
-        }
-    }
 
 
 }
@@ -0,0 +1,234 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.ureca.picky_be.base.business.movie.dto.GetMovieSuggestResp;
+import com.ureca.picky_be.base.business.movie.dto.MovieSearchCursor;
+import com.ureca.picky_be.base.business.movie.dto.MovieSearchPage;
+import com.ureca.picky_be.base.implementation.search.LocalSearchIndexManager;
+import com.ureca.picky_be.base.implementation.search.SearchFallbackGuard;
+import com.ureca.picky_be.elasticsearch.document.movie.MovieDocument;
+import com.ureca.picky_be.global.cache.LruCache;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 영화 제목 검색
+ * - (score desc, movieId asc) 정렬 + search_after 커서로 페이지 이동
+ * - 응답에 필요한 필드만 _source로 받아오고, 전체 개수는 track_total_hits 상한까지만 센다
+ * - 첫 페이지는 정규화한 검색어 기준으로 짧은 TTL 동안 캐싱
+ * - 첫 페이지는 Elasticsearch가 실패하거나 시간 예산을 넘기면 로컬 제목 색인으로 대체 (대체 결과는 캐싱하지 않음)
+ * - 자동완성은 title.suggest(search_as_you_type) 접두어 매칭을 인기순으로 정렬, 자주 입력되는 접두어는 LRU 캐싱
+ */
+@Slf4j
+@Component
+public class MovieSearchManager {
+    private static final String INDEX = "connector-movie";
+    private static final List<String> SOURCE_FIELDS = List.of(
+            "movieId", "title", "poster_url", "release_date", "genre", "original_language"
+    );
+
+    private static final List<String> SUGGEST_FIELDS = List.of(
+            "title.suggest", "title.suggest._2gram", "title.suggest._3gram"
+    );
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final LocalSearchIndexManager localSearchIndexManager;
+    private final SearchFallbackGuard searchFallbackGuard;
+    private final LruCache<String, CachedPage> firstPages;
+    private final long firstPageTtlMillis;
+    private final int trackTotalHitsCap;
+    private final int maxSize;
+    private final LruCache<String, CachedSuggestions> suggestions;
+    private final long suggestTtlMillis;
+    private final int suggestMaxSize;
+
+    public MovieSearchManager(ElasticsearchClient elasticsearchClient,
+                              LocalSearchIndexManager localSearchIndexManager,
+                              SearchFallbackGuard searchFallbackGuard,
+                              @Value("${picky.search.first-page-cache.max-size:500}") int firstPageCacheSize,
+                              @Value("${picky.search.first-page-cache.ttl-ms:30000}") long firstPageTtlMillis,
+                              @Value("${picky.search.track-total-hits:1000}") int trackTotalHitsCap,
+                              @Value("${picky.search.max-size:50}") int maxSize,
+                              @Value("${picky.search.suggest-cache.max-size:5000}") int suggestCacheSize,
+                              @Value("${picky.search.suggest-cache.ttl-ms:300000}") long suggestTtlMillis,
+                              @Value("${picky.search.suggest-max-size:20}") int suggestMaxSize) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.localSearchIndexManager = localSearchIndexManager;
+        this.searchFallbackGuard = searchFallbackGuard;
+        this.firstPages = new LruCache<>(firstPageCacheSize);
+        this.firstPageTtlMillis = firstPageTtlMillis;
+        this.trackTotalHitsCap = trackTotalHitsCap;
+        this.maxSize = maxSize;
+        this.suggestions = new LruCache<>(suggestCacheSize);
+        this.suggestTtlMillis = suggestTtlMillis;
+        this.suggestMaxSize = suggestMaxSize;
+    }
+
+    /**
+     * when: 영화 검색시
+     * what: 커서 다음의 size개 검색 결과 반환, 첫 페이지는 캐시 우선
+     */
+    public MovieSearchPage search(String keyword, MovieSearchCursor cursor, int size) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            throw new CustomException(ErrorCode.MOVIE_INVALID_SEARCH_KEYWORD);
+        }
+        int pageSize = Math.min(Math.max(size, 1), maxSize);
+        if (cursor != null) {
+            return fetch(normalized, cursor, pageSize);
+        }
+
+        String cacheKey = normalized + "|" + pageSize;
+        CachedPage cached = firstPages.get(cacheKey);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.page();
+        }
+        boolean[] degraded = {false};
+        MovieSearchPage page = searchFallbackGuard.call(
+                () -> fetch(normalized, null, pageSize),
+                () -> {
+                    degraded[0] = true;
+                    List<MovieDocument> movies = localSearchIndexManager.searchMovies(normalized, pageSize);
+                    return new MovieSearchPage(movies, null, movies.size(), false);
+                });
+        if (!degraded[0]) {
+            firstPages.put(cacheKey, new CachedPage(page, now + firstPageTtlMillis));
+        }
+        return page;
+    }
+
+    /**
+     * when: 검색창에 입력할 때마다
+     * what: 접두어로 시작하는 영화 제목 상위 size개를 인기순으로 반환, 캐시 우선
+     */
+    public List<GetMovieSuggestResp> suggest(String prefix, int size) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int suggestSize = Math.min(Math.max(size, 1), suggestMaxSize);
+
+        String cacheKey = normalized + "|" + suggestSize;
+        CachedSuggestions cached = suggestions.get(cacheKey);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.movies();
+        }
+        List<GetMovieSuggestResp> movies = fetchSuggestions(normalized, suggestSize);
+        suggestions.put(cacheKey, new CachedSuggestions(movies, now + suggestTtlMillis));
+        return movies;
+    }
+
+    /**
+     * when: 검색어를 캐시 키나 쿼리로 쓰기 전
+     * what: 앞뒤 공백 제거, 연속 공백 하나로, 소문자 (색인 analyzer가 lowercase 필터를 쓰므로 결과는 같음)
+     */
+    static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private MovieSearchPage fetch(String keyword, MovieSearchCursor cursor, int size) {
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .index(INDEX)
+                // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+                .size(size + 1)
+                .query(q -> q.bool(b -> b
+                        .must(m -> m.match(mt -> mt
+                                .field("title")
+                                .query(keyword)
+                                .analyzer("mixed_ngram_analyzer")))
+                        .mustNot(mn -> mn.match(mt -> mt
+                                .field("is_deleted")
+                                .query("TRUE")))))
+                .sort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .sort(s -> s.field(f -> f.field("movieId").order(SortOrder.Asc)))
+                .source(src -> src.filter(f -> f.includes(SOURCE_FIELDS)))
+                .trackTotalHits(t -> t.count(trackTotalHitsCap));
+        if (cursor != null) {
+            builder.searchAfter(List.of(FieldValue.of(cursor.score()), FieldValue.of(cursor.movieId())));
+        }
+
+        SearchResponse<MovieDocument> response;
+        try {
+            response = elasticsearchClient.search(builder.build(), MovieDocument.class);
+        } catch (Exception e) {
+            log.warn("Movie search failed. keyword={}, reason={}", keyword, e.getMessage());
+            throw new CustomException(ErrorCode.ELASTIC_MOVIE_SEARCH_FAILED);
+        }
+
+        List<Hit<MovieDocument>> hits = response.hits().hits();
+        boolean hasNext = hits.size() > size;
+        List<Hit<MovieDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+        List<MovieDocument> movies = pageHits.stream()
+                .map(Hit::source)
+                .toList();
+
+        MovieSearchCursor nextCursor = null;
+        if (hasNext) {
+            List<FieldValue> sortValues = pageHits.get(pageHits.size() - 1).sort();
+            nextCursor = new MovieSearchCursor(sortValues.get(0).doubleValue(), sortValues.get(1).longValue());
+        }
+
+        TotalHits total = response.hits().total();
+        long totalHits = total == null ? movies.size() : total.value();
+        boolean exact = total == null || total.relation() == TotalHitsRelation.Eq;
+        return new MovieSearchPage(movies, nextCursor, totalHits, exact);
+    }
+
+    private List<GetMovieSuggestResp> fetchSuggestions(String prefix, int size) {
+        SearchRequest request = new SearchRequest.Builder()
+                .index(INDEX)
+                .size(size)
+                .query(q -> q.bool(b -> b
+                        .must(m -> m.multiMatch(mm -> mm
+                                .query(prefix)
+                                .type(TextQueryType.BoolPrefix)
+                                .operator(Operator.And)
+                                .fields(SUGGEST_FIELDS)))
+                        .mustNot(mn -> mn.match(mt -> mt
+                                .field("is_deleted")
+                                .query("TRUE")))))
+                .sort(s -> s.field(f -> f.field("popularity").order(SortOrder.Desc).missing(FieldValue.of("_last"))))
+                .sort(s -> s.field(f -> f.field("movieId").order(SortOrder.Asc)))
+                .source(src -> src.filter(f -> f.includes("movieId", "title")))
+                .trackTotalHits(t -> t.enabled(false))
+                .build();
+
+        try {
+            return elasticsearchClient.search(request, MovieDocument.class).hits().hits().stream()
+                    .map(Hit::source)
+                    .filter(Objects::nonNull)
+                    .map(movie -> new GetMovieSuggestResp(movie.getId(), movie.getTitle()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("Movie suggest failed. prefix={}, reason={}", prefix, e.getMessage());
+            throw new CustomException(ErrorCode.ELASTIC_MOVIE_SEARCH_FAILED);
+        }
+    }
+
+    private record CachedSuggestions(List<GetMovieSuggestResp> movies, long expiresAt) {
+    }
+
+    private record CachedPage(MovieSearchPage page, long expiresAt) {
+    }
+}
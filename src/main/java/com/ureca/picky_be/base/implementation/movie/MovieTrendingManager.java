@@ -0,0 +1,160 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.global.cache.LruCache;
+import com.ureca.picky_be.global.trending.DecayingWindowCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 좋아요 / 한줄평 / 무비로그 작성으로 계산하는 실시간 트렌딩
+ * - 영화별 시간 버킷(기본 5분 x 24시간) 카운터에 가중치를 더하고, 점수는 반감기로 감쇠
+ * - 상위 K개는 주기적으로 다시 뽑아 불변 스냅샷으로 교체
+ * - 좋아요는 같은 사용자가 창 안에서 같은 영화에 처음 누른 것만 셈 (좋아요/취소 반복으로 점수를 올리지 못하게)
+ * - 바뀐 버킷만 주기적으로 movie_trending_bucket에 증가량으로 저장, 시작할 때 창 안의 버킷을 읽어 복원
+ */
+@Slf4j
+@Component
+public class MovieTrendingManager {
+    public enum Signal {
+        LIKE(1),
+        LINE_REVIEW(3),
+        BOARD(5);
+
+        private final long weight;
+
+        Signal(long weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final DecayingWindowCounters counters;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int topK;
+    private final AtomicReference<List<Long>> trending = new AtomicReference<>(List.of());
+    private final LruCache<LikeKey, Long> recordedLikes;
+    private final Counter checkpointFailures;
+
+    public MovieTrendingManager(MovieJdbcRepository movieJdbcRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${picky.trending.bucket-minutes:5}") int bucketMinutes,
+                                @Value("${picky.trending.window-hours:24}") int windowHours,
+                                @Value("${picky.trending.half-life-minutes:360}") int halfLifeMinutes,
+                                @Value("${picky.trending.top-k:50}") int topK,
+                                @Value("${picky.trending.recorded-likes-max-size:200000}") int recordedLikesMaxSize) {
+        this.movieJdbcRepository = movieJdbcRepository;
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.bucketCount = windowHours * 60 / bucketMinutes;
+        this.topK = topK;
+        this.recordedLikes = new LruCache<>(recordedLikesMaxSize);
+        this.counters = new DecayingWindowCounters(bucketCount, (double) halfLifeMinutes / bucketMinutes);
+        this.checkpointFailures = meterRegistry.counter("picky.trending.checkpoint.failures");
+        Gauge.builder("picky.trending.movies", counters, DecayingWindowCounters::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * when: 영화 좋아요, 한줄평 작성, 무비로그 작성 후
+     * what: 현재 버킷에 신호 가중치만큼 더함
+     */
+    public void record(Long movieId, Signal signal) {
+        counters.add(movieId, currentBucket(), signal.weight);
+    }
+
+    /**
+     * when: 영화 좋아요 후
+     * what: 이 사용자가 창 안에서 이 영화에 처음 누른 좋아요만 LIKE 신호로 더함
+     */
+    public void recordLike(Long movieId, Long userId) {
+        long current = currentBucket();
+        LikeKey key = new LikeKey(userId, movieId);
+        synchronized (recordedLikes) {
+            Long recordedBucket = recordedLikes.get(key);
+            if (recordedBucket != null && recordedBucket > current - bucketCount) {
+                return;
+            }
+            recordedLikes.put(key, current);
+        }
+        record(movieId, Signal.LIKE);
+    }
+
+    /**
+     * when: 트렌딩 영화 조회시
+     * what: 마지막으로 계산한 상위 영화 id를 점수순으로 최대 size개
+     */
+    public List<Long> getTrending(int size) {
+        List<Long> snapshot = trending.get();
+        return snapshot.size() > size ? snapshot.subList(0, size) : snapshot;
+    }
+
+    public int getMaxSize() {
+        return topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        long current = currentBucket();
+        try {
+            movieJdbcRepository.scanTrendingBuckets(current - bucketCount + 1, rs ->
+                    counters.restore(rs.getLong("movie_id"), rs.getLong("bucket"), rs.getLong("engagement"), current));
+            log.info("Trending counters restored. movies={}", counters.size());
+        } catch (Exception e) {
+            log.warn("Trending restore failed, starting empty: {}", e.getMessage());
+        }
+        recompute();
+    }
+
+    @Scheduled(fixedDelayString = "${picky.trending.recompute-interval-ms:10000}")
+    public void recompute() {
+        long current = currentBucket();
+        trending.set(counters.topK(topK, current).stream()
+                .map(DecayingWindowCounters.Scored::key)
+                .toList());
+        counters.evictIdle(current);
+    }
+
+    @Scheduled(fixedDelayString = "${picky.trending.checkpoint-interval-ms:60000}")
+    public synchronized void checkpoint() {
+        long current = currentBucket();
+        DecayingWindowCounters.Checkpoint checkpoint = counters.checkpoint(current);
+        List<long[]> rows = checkpoint.rows().stream()
+                .map(row -> new long[]{row.key(), row.bucket(), row.delta()})
+                .toList();
+        try {
+            if (!rows.isEmpty()) {
+                movieJdbcRepository.batchAddTrendingEngagements(rows);
+            }
+            checkpoint.commit();
+            movieJdbcRepository.deleteTrendingBucketsBefore(current - bucketCount + 1);
+        } catch (Exception e) {
+            // 커밋하지 않았으므로 다음 체크포인트에서 다시 내보냄 (배치 일부만 반영됐다면 그만큼 중복될 수 있음)
+            checkpointFailures.increment();
+            log.error("Trending checkpoint failed. rows={}", rows.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private record LikeKey(Long userId, Long movieId) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureca.picky_be.base.business.movie.dto.AddMovieAuto;
+import com.ureca.picky_be.global.cache.LruCache;
+import com.ureca.picky_be.global.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * TMDB 영화 상세 조회 게이트웨이
+ * - 커넥션 풀을 쓰는 JDK HttpClient + connect/read timeout
+ * - movieId 기준 메모리(LRU) + 디스크 캐시 (재시작 후에도 유지)
+ * - 같은 movieId 동시 요청은 한 번만 호출 (single-flight)
+ * - 연속 실패시 서킷 브레이커로 호출 차단
+ */
+@Slf4j
+@Component
+public class TmdbGateway {
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String tmdbUrl;
+    private final String tmdbToken;
+    private final Path cacheDir;
+    private final Duration diskTtl;
+    private final LruCache<Long, AddMovieAuto> memoryCache;
+    private final ConcurrentHashMap<Long, CompletableFuture<AddMovieAuto>> inFlight = new ConcurrentHashMap<>();
+    private final CircuitBreaker circuitBreaker;
+    private final long sharedWaitMillis;
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter sharedFetches;
+    private final Counter notFound;
+    private final Counter failures;
+    private final Counter rejected;
+    private final Timer fetchTimer;
+
+    public TmdbGateway(
+            @Value("${tmdb.url}") String tmdbUrl,
+            @Value("${tmdb.token}") String tmdbToken,
+            @Value("${picky.tmdb.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${picky.tmdb.read-timeout-ms:3000}") long readTimeoutMillis,
+            @Value("${picky.tmdb.cache.max-size:2000}") int memoryCacheSize,
+            @Value("${picky.tmdb.cache.dir:./cache/tmdb}") String cacheDir,
+            @Value("${picky.tmdb.cache.disk-ttl-hours:168}") long diskTtlHours,
+            @Value("${picky.tmdb.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${picky.tmdb.circuit.open-duration-ms:30000}") long openDurationMillis,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+        this.objectMapper = objectMapper;
+        this.tmdbUrl = tmdbUrl;
+        this.tmdbToken = tmdbToken;
+        this.cacheDir = Paths.get(cacheDir);
+        this.diskTtl = Duration.ofHours(diskTtlHours);
+        this.memoryCache = new LruCache<>(memoryCacheSize);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+        // 먼저 호출한 요청이 timeout까지 걸리는 시간만큼만 기다림
+        this.sharedWaitMillis = connectTimeoutMillis + readTimeoutMillis;
+
+        this.memoryHits = meterRegistry.counter("picky.tmdb.cache", "tier", "memory");
+        this.diskHits = meterRegistry.counter("picky.tmdb.cache", "tier", "disk");
+        this.sharedFetches = meterRegistry.counter("picky.tmdb.fetch.shared");
+        this.notFound = meterRegistry.counter("picky.tmdb.fetch.not-found");
+        this.failures = meterRegistry.counter("picky.tmdb.fetch.failures");
+        this.rejected = meterRegistry.counter("picky.tmdb.circuit.rejected");
+        this.fetchTimer = Timer.builder("picky.tmdb.fetch")
+                .description("TMDB 영화 상세 호출 시간")
+                .register(meterRegistry);
+        Gauge.builder("picky.tmdb.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * when: DB에 없는 영화를 TMDB에서 불러올 때
+     * what: 캐시 -> 진행 중인 동일 요청 -> TMDB 순으로 조회, 없거나 실패하면 empty
+     */
+    public Optional<AddMovieAuto> getMovie(Long movieId) {
+        AddMovieAuto cached = memoryCache.get(movieId);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<AddMovieAuto> flight = new CompletableFuture<>();
+        CompletableFuture<AddMovieAuto> existing = inFlight.putIfAbsent(movieId, flight);
+        if (existing != null) {
+            sharedFetches.increment();
+            return awaitShared(movieId, existing);
+        }
+
+        AddMovieAuto loaded = null;
+        try {
+            loaded = load(movieId);
+            return Optional.ofNullable(loaded);
+        } finally {
+            flight.complete(loaded);
+            inFlight.remove(movieId, flight);
+        }
+    }
+
+    // 먼저 호출한 요청이 멈춰도 기다리는 요청이 timeout 없이 묶이지 않도록 (시간이 지나면 실패와 같이 empty)
+    private Optional<AddMovieAuto> awaitShared(Long movieId, CompletableFuture<AddMovieAuto> existing) {
+        try {
+            return Optional.ofNullable(existing.get(sharedWaitMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            failures.increment();
+            log.warn("TMDB shared fetch timed out. movieId={}", movieId);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private AddMovieAuto load(Long movieId) {
+        AddMovieAuto fromDisk = readDisk(movieId);
+        if (fromDisk != null) {
+            diskHits.increment();
+            memoryCache.put(movieId, fromDisk);
+            return fromDisk;
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.increment();
+            return null;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            String body = restClient.get()
+                    .uri(buildTmdbUrl(movieId))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tmdbToken)
+                    .retrieve()
+                    .body(String.class);
+            AddMovieAuto movie = objectMapper.readValue(body, AddMovieAuto.class);
+            circuitBreaker.onSuccess();
+            memoryCache.put(movieId, movie);
+            writeDisk(movieId, body);
+            return movie;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 TMDB가 정상 응답한 것 (429 제외) -> 서킷 실패로 세지 않음
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                circuitBreaker.onFailure();
+                failures.increment();
+            } else {
+                circuitBreaker.onSuccess();
+                notFound.increment();
+            }
+            return null;
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            log.warn("TMDB fetch failed. movieId={}, reason={}", movieId, e.getMessage());
+            return null;
+        } finally {
+            sample.stop(fetchTimer);
+        }
+    }
+
+    private AddMovieAuto readDisk(Long movieId) {
+        Path file = cacheFile(movieId);
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            Instant modifiedAt = Files.getLastModifiedTime(file).toInstant();
+            if (modifiedAt.plus(diskTtl).isBefore(Instant.now())) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return objectMapper.readValue(file.toFile(), AddMovieAuto.class);
+        } catch (IOException e) {
+            // 깨진 파일은 지우고 다시 받아옴
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    private void writeDisk(Long movieId, String body) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, movieId + "-", ".tmp");
+            Files.writeString(temp, body);
+            Files.move(temp, cacheFile(movieId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("TMDB disk cache write failed. movieId={}, reason={}", movieId, e.getMessage());
+        }
+    }
+
+    private Path cacheFile(Long movieId) {
+        return cacheDir.resolve(movieId + ".json");
+    }
+
+    private String buildTmdbUrl(Long movieId) {
+        return UriComponentsBuilder
+                .fromHttpUrl(tmdbUrl + movieId)
+                .queryParam("append_to_response", "credits")
+                .queryParam("language", "ko-KR")
+                .build()
+                .toUriString();
+    }
+}
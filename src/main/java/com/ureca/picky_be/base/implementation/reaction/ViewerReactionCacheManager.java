@@ -0,0 +1,157 @@
+package com.ureca.picky_be.base.implementation.reaction;
+
+import com.ureca.picky_be.global.cache.LruCache;
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 로그인 사용자의 게시글 좋아요 / 한줄평 좋아요·싫어요 여부 캐시
+ * - 목록 쿼리에서 사용자별 조인을 빼고, 페이지의 id들에 대해 한 번에 조회한 결과를 (사용자, 대상 id) 단위로 보관
+ * - 반응이 없는 것도 캐시해야 다음 페이지 조회 때 다시 묻지 않음
+ * - 좋아요/취소는 커밋 후 캐시 값을 바로 바꿔서 TTL 동안 본인 반응이 어긋나지 않도록
+ */
+@Component
+public class ViewerReactionCacheManager {
+    private final LruCache<ReactionKey, Cached> reactions;
+    private final long ttlMillis;
+
+    public ViewerReactionCacheManager(@Value("${picky.cache.viewer-reaction.max-size:200000}") int maxSize,
+                                      @Value("${picky.cache.viewer-reaction.ttl-ms:300000}") long ttlMillis) {
+        this.reactions = new LruCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * when: 게시글 목록을 로그인 사용자가 조회할 때
+     * what: 사용자가 좋아요한 게시글 id 집합 (캐시에 없는 id만 loader로 한 번에 조회)
+     */
+    public Set<Long> getLikedBoardIds(Long userId, Collection<Long> boardIds,
+                                      Function<List<Long>, Collection<Long>> loader) {
+        Map<Long, Reaction> found = lookup(userId, Target.BOARD, boardIds, misses -> {
+            Map<Long, Reaction> loaded = new HashMap<>();
+            for (Long boardId : loader.apply(misses)) {
+                loaded.put(boardId, Reaction.LIKE);
+            }
+            return loaded;
+        });
+        Set<Long> liked = new HashSet<>();
+        found.forEach((boardId, reaction) -> {
+            if (reaction == Reaction.LIKE) liked.add(boardId);
+        });
+        return liked;
+    }
+
+    /**
+     * when: 한줄평 목록을 로그인 사용자가 조회할 때
+     * what: 한줄평 id별 사용자의 좋아요/싫어요 (반응이 없는 한줄평은 결과에 없음)
+     */
+    public Map<Long, Preference> getLineReviewPreferences(Long userId, Collection<Long> lineReviewIds,
+                                                          Function<List<Long>, Map<Long, Preference>> loader) {
+        Map<Long, Reaction> found = lookup(userId, Target.LINE_REVIEW, lineReviewIds, misses -> {
+            Map<Long, Reaction> loaded = new HashMap<>();
+            loader.apply(misses).forEach((lineReviewId, preference) -> loaded.put(lineReviewId, Reaction.of(preference)));
+            return loaded;
+        });
+        Map<Long, Preference> preferences = new HashMap<>();
+        found.forEach((lineReviewId, reaction) -> {
+            if (reaction != Reaction.NONE) preferences.put(lineReviewId, reaction.preference);
+        });
+        return preferences;
+    }
+
+    /**
+     * when: 게시글 좋아요를 누르거나 취소할 때
+     * what: 커밋 후 캐시 값을 새 상태로 교체
+     */
+    public void putBoardLike(Long userId, Long boardId, boolean liked) {
+        putAfterCommit(new ReactionKey(userId, Target.BOARD, boardId), liked ? Reaction.LIKE : Reaction.NONE);
+    }
+
+    /**
+     * when: 한줄평 좋아요/싫어요를 누르거나 취소할 때
+     * what: 커밋 후 캐시 값을 새 상태로 교체 (취소면 preference null)
+     */
+    public void putLineReviewPreference(Long userId, Long lineReviewId, Preference preference) {
+        putAfterCommit(new ReactionKey(userId, Target.LINE_REVIEW, lineReviewId), Reaction.of(preference));
+    }
+
+    private Map<Long, Reaction> lookup(Long userId, Target target, Collection<Long> ids,
+                                       Function<List<Long>, Map<Long, Reaction>> loader) {
+        long now = System.currentTimeMillis();
+        Map<Long, Reaction> result = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            Cached cached = reactions.get(new ReactionKey(userId, target, id));
+            if (cached != null && cached.expiresAt() > now) {
+                result.put(id, cached.reaction());
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // 조회 중 좋아요/취소로 무효화된 (사용자, 대상)만 빼고 채움 (다른 사용자의 반응 변경으로 페이지 전체를 버리지 않음)
+        long stamp = reactions.invalidationStamp();
+        Map<Long, Reaction> loaded = loader.apply(new ArrayList<>(misses));
+        Map<ReactionKey, Cached> entries = new HashMap<>();
+        for (Long id : misses) {
+            Reaction reaction = loaded.getOrDefault(id, Reaction.NONE);
+            result.put(id, reaction);
+            entries.put(new ReactionKey(userId, target, id), new Cached(reaction, now + ttlMillis));
+        }
+        reactions.putAllIfNotInvalidatedSince(stamp, entries);
+        return result;
+    }
+
+    private void putAfterCommit(ReactionKey key, Reaction reaction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에는 기존 값만 지워 롤백돼도 틀린 값이 남지 않게
+            reactions.invalidate(key);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(key, reaction);
+                }
+            });
+            return;
+        }
+        put(key, reaction);
+    }
+
+    // invalidate로 이 키의 무효화 시점을 남겨 같은 시점에 진행 중인 조회가 이전 값을 덮어쓰지 못하게
+    private void put(ReactionKey key, Reaction reaction) {
+        reactions.invalidate(key);
+        reactions.put(key, new Cached(reaction, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private enum Target { BOARD, LINE_REVIEW }
+
+    private enum Reaction {
+        NONE(null), LIKE(Preference.LIKE), DISLIKE(Preference.DISLIKE);
+
+        private final Preference preference;
+
+        Reaction(Preference preference) {
+            this.preference = preference;
+        }
+
+        static Reaction of(Preference preference) {
+            if (preference == null) return NONE;
+            return preference == Preference.LIKE ? LIKE : DISLIKE;
+        }
+    }
+
+    private record ReactionKey(Long userId, Target target, Long id) {
+    }
+
+    private record Cached(Reaction reaction, long expiresAt) {
+    }
+}
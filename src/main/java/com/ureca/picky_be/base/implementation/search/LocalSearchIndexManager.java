@@ -0,0 +1,191 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import com.ureca.picky_be.base.business.movie.dto.GetGenres;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.base.persistence.user.UserJdbcRepository;
+import com.ureca.picky_be.elasticsearch.document.movie.MovieDocument;
+import com.ureca.picky_be.elasticsearch.document.user.UserDocument;
+import com.ureca.picky_be.global.search.NgramIndex;
+import com.ureca.picky_be.jpa.entity.config.IsDeleted;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Elasticsearch 장애 시 쓰는 프로세스 내 제목/닉네임 색인
+ * - 영화는 인기순 maxMovies개, 사용자는 최근 가입 maxUsers개만 NgramIndex로 보관 (메모리 상한)
+ * - 시작 시와 주기적으로 MySQL에서 다시 만들고, 그 사이 변경은 outbox relay가 overrides에 반영
+ * - overrides의 text가 null이면 검색에서 빠져야 하는 문서(삭제, 정지, 관리자)
+ */
+@Slf4j
+@Component
+public class LocalSearchIndexManager {
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final SearchDocumentAssembler searchDocumentAssembler;
+    private final int maxMovies;
+    private final int maxUsers;
+    private final int userResultLimit;
+
+    private final Map<SearchIndexTarget, AtomicReference<NgramIndex>> indexes = new EnumMap<>(SearchIndexTarget.class);
+    private final Map<SearchIndexTarget, ConcurrentHashMap<Long, Entry>> overrides = new EnumMap<>(SearchIndexTarget.class);
+
+    public LocalSearchIndexManager(MovieJdbcRepository movieJdbcRepository,
+                                   UserJdbcRepository userJdbcRepository,
+                                   SearchDocumentAssembler searchDocumentAssembler,
+                                   @Value("${picky.search.local-index.max-movies:200000}") int maxMovies,
+                                   @Value("${picky.search.local-index.max-users:200000}") int maxUsers,
+                                   @Value("${picky.search.local-index.user-result-limit:50}") int userResultLimit) {
+        this.movieJdbcRepository = movieJdbcRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.searchDocumentAssembler = searchDocumentAssembler;
+        this.maxMovies = maxMovies;
+        this.maxUsers = maxUsers;
+        this.userResultLimit = userResultLimit;
+        for (SearchIndexTarget target : SearchIndexTarget.values()) {
+            indexes.put(target, new AtomicReference<>(NgramIndex.EMPTY));
+            overrides.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${picky.search.local-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${picky.search.local-index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * when: 시작 시, 주기적으로
+     * what: MySQL에서 영화 제목, 사용자 닉네임 색인을 다시 만듦
+     */
+    public synchronized void rebuild() {
+        for (SearchIndexTarget target : SearchIndexTarget.values()) {
+            try {
+                // 스캔 도중 바뀐 문서는 overrides에 남겨 새 색인보다 우선하도록 함
+                Map<Long, Entry> overridesBefore = new HashMap<>(overrides.get(target));
+                NgramIndex.Builder builder = new NgramIndex.Builder();
+                if (target == SearchIndexTarget.MOVIE) {
+                    movieJdbcRepository.scanMovieTitles(maxMovies, rs ->
+                            builder.add(rs.getLong("id"), rs.getString("title"), rs.getDouble("popularity")));
+                } else {
+                    // 사용자는 최근 가입순으로 정렬
+                    userJdbcRepository.scanSearchableNicknames(maxUsers, rs ->
+                            builder.add(rs.getLong("id"), rs.getString("nickname"), rs.getLong("id")));
+                }
+                indexes.get(target).set(builder.build());
+                overridesBefore.forEach(overrides.get(target)::remove);
+                log.info("Local search index rebuilt. target={}, documents={}", target, indexes.get(target).get().size());
+            } catch (Exception e) {
+                log.warn("Local search index rebuild failed. target={}, reason={}", target, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * when: outbox relay가 변경된 문서를 읽은 후
+     * what: 현재 상태로 덮어씀 (documents에 없는 id는 삭제된 문서)
+     */
+    public void apply(SearchIndexTarget target, Collection<Long> ids, Map<Long, Map<String, Object>> documents) {
+        Map<Long, Entry> changed = overrides.get(target);
+        for (Long id : ids) {
+            changed.put(id, toEntry(target, id, documents.get(id)));
+        }
+    }
+
+    /**
+     * when: 영화 검색에서 Elasticsearch를 쓸 수 없을 때
+     * what: 제목에 검색어가 들어있는 영화를 인기순으로 limit개, 응답에 필요한 나머지 필드는 MySQL에서 채움
+     */
+    public List<MovieDocument> searchMovies(String keyword, int limit) {
+        List<Long> ids = search(SearchIndexTarget.MOVIE, keyword, limit).stream()
+                .map(NgramIndex.Hit::id)
+                .toList();
+        Map<Long, Map<String, Object>> documents = searchDocumentAssembler.readByIds(SearchIndexTarget.MOVIE, ids);
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .filter(document -> !IsDeleted.TRUE.name().equals(document.get("is_deleted")))
+                .map(this::toMovieDocument)
+                .toList();
+    }
+
+    /**
+     * when: 사용자 검색에서 Elasticsearch를 쓸 수 없을 때
+     * what: 닉네임에 검색어가 들어있는 사용자를 최근 가입순으로
+     */
+    public List<UserDocument> searchUsers(String keyword) {
+        return search(SearchIndexTarget.USER, keyword, userResultLimit).stream()
+                .map(hit -> UserDocument.builder()
+                        .id(hit.id())
+                        .nickname(hit.text())
+                        .build())
+                .toList();
+    }
+
+    private List<NgramIndex.Hit> search(SearchIndexTarget target, String keyword, int limit) {
+        Map<Long, Entry> changed = overrides.get(target);
+        List<NgramIndex.Hit> hits = new ArrayList<>(indexes.get(target).get().search(keyword, limit, changed::containsKey));
+
+        String normalized = NgramIndex.normalize(keyword);
+        if (!normalized.isEmpty()) {
+            changed.forEach((id, entry) -> {
+                if (entry.text() != null && NgramIndex.normalize(entry.text()).contains(normalized)) {
+                    hits.add(new NgramIndex.Hit(id, entry.text(), entry.rank()));
+                }
+            });
+        }
+        hits.sort(NgramIndex.Hit.BY_RANK);
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    private Entry toEntry(SearchIndexTarget target, Long id, Map<String, Object> document) {
+        if (document == null) {
+            return Entry.REMOVED;
+        }
+        if (target == SearchIndexTarget.MOVIE) {
+            if (IsDeleted.TRUE.name().equals(document.get("is_deleted"))) {
+                return Entry.REMOVED;
+            }
+            return new Entry((String) document.get("title"), ((Number) document.get("popularity")).doubleValue());
+        }
+        if ("ADMIN".equals(document.get("role")) || "SUSPENDED".equals(document.get("status"))) {
+            return Entry.REMOVED;
+        }
+        return new Entry((String) document.get("nickname"), id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MovieDocument toMovieDocument(Map<String, Object> document) {
+        Object releaseDate = document.get("release_date");
+        List<Map<String, Object>> genres = (List<Map<String, Object>>) document.get("genre");
+        return MovieDocument.builder()
+                .id(((Number) document.get("movieId")).longValue())
+                .title((String) document.get("title"))
+                .popularity(((Number) document.get("popularity")).doubleValue())
+                .releaseDate(releaseDate == null ? null : new Date(((Number) releaseDate).longValue()))
+                .posterUrl((String) document.get("poster_url"))
+                .originalLanguage((String) document.get("original_language"))
+                .genre(genres.stream()
+                        .map(genre -> new GetGenres(((Number) genre.get("id")).longValue(), (String) genre.get("name")))
+                        .toList())
+                .isDeleted(IsDeleted.FALSE)
+                .build();
+    }
+
+    private record Entry(String text, double rank) {
+        static final Entry REMOVED = new Entry(null, 0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import com.ureca.picky_be.base.implementation.movie.GenreIndexManager;
+import com.ureca.picky_be.base.persistence.movie.MovieJdbcRepository;
+import com.ureca.picky_be.base.persistence.user.UserJdbcRepository;
+import com.ureca.picky_be.jpa.entity.genre.Genre;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL 행을 검색 문서(JSON 필드 이름은 resources/elasticsearch 매핑 파일 그대로)로 변환
+ * 재색인과 outbox relay가 같은 문서 모양을 쓰도록 한 곳에서 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentAssembler {
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final GenreIndexManager genreIndexManager;
+
+    /**
+     * when: 재색인시
+     * what: id > afterId 순으로 limit개 문서 (updatedSince가 있으면 그 이후 수정된 행만)
+     */
+    public Map<Long, Map<String, Object>> readAfter(SearchIndexTarget target, long afterId, LocalDateTime updatedSince, int limit) {
+        return switch (target) {
+            case MOVIE -> readMovies(handler -> movieJdbcRepository.scanMoviesForSearch(afterId, updatedSince, limit, handler));
+            case USER -> readUsers(handler -> userJdbcRepository.scanUsersForSearch(afterId, updatedSince, limit, handler));
+        };
+    }
+
+    /**
+     * when: outbox relay가 변경된 문서를 색인할 때
+     * what: 현재 DB 상태의 문서. 결과에 없는 id는 색인에서 지워야 하는 문서
+     */
+    public Map<Long, Map<String, Object>> readByIds(SearchIndexTarget target, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return switch (target) {
+            case MOVIE -> readMovies(handler -> movieJdbcRepository.scanMoviesForSearch(ids, handler));
+            case USER -> readUsers(handler -> userJdbcRepository.scanUsersForSearch(ids, handler));
+        };
+    }
+
+    /**
+     * when: 재색인 후 삭제를 대조할 때
+     * what: ids 중 아직 문서가 되는 id (문서 본문은 읽지 않음)
+     */
+    public Set<Long> findExistingIds(SearchIndexTarget target, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(switch (target) {
+            case MOVIE -> movieJdbcRepository.findExistingMovieIds(ids);
+            case USER -> userJdbcRepository.findSearchableUserIds(ids);
+        });
+    }
+
+    private Map<Long, Map<String, Object>> readMovies(Consumer<RowCallbackHandler> scan) {
+        Map<Long, Map<String, Object>> documents = new LinkedHashMap<>();
+        scan.accept(rs -> {
+            long movieId = rs.getLong("id");
+            Timestamp releaseDate = rs.getTimestamp("release_date");
+            Map<String, Object> document = new HashMap<>();
+            document.put("movieId", movieId);
+            document.put("title", rs.getString("title"));
+            document.put("popularity", rs.getDouble("popularity"));
+            document.put("release_date", releaseDate == null ? null : releaseDate.getTime());
+            document.put("poster_url", rs.getString("poster_url"));
+            document.put("original_language", rs.getString("original_language"));
+            document.put("is_deleted", rs.getString("is_deleted"));
+            document.put("genre", new ArrayList<Map<String, Object>>());
+            documents.put(movieId, document);
+        });
+        if (documents.isEmpty()) {
+            return documents;
+        }
+
+        Map<Long, String> genreNames = genreIndexManager.getGenres().stream()
+                .collect(Collectors.toMap(Genre::getId, Genre::getName));
+        movieJdbcRepository.scanMovieGenres(documents.keySet(), rs -> {
+            long genreId = rs.getLong("genre_id");
+            String name = genreNames.get(genreId);
+            if (name == null) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> genres = (List<Map<String, Object>>) documents.get(rs.getLong("movie_id")).get("genre");
+            genres.add(Map.of("id", genreId, "name", name));
+        });
+        return documents;
+    }
+
+    private Map<Long, Map<String, Object>> readUsers(Consumer<RowCallbackHandler> scan) {
+        Map<Long, Map<String, Object>> documents = new LinkedHashMap<>();
+        scan.accept(rs -> {
+            long userId = rs.getLong("id");
+            Map<String, Object> document = new HashMap<>();
+            document.put("id", userId);
+            document.put("email", rs.getString("email"));
+            document.put("nickname", rs.getString("nickname"));
+            document.put("role", rs.getString("role"));
+            document.put("status", rs.getString("status"));
+            documents.put(userId, document);
+        });
+        return documents;
+    }
+}
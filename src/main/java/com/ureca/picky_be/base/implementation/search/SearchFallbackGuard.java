@@ -0,0 +1,79 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import com.ureca.picky_be.global.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Elasticsearch 조회를 시간 예산 안에서만 기다리고, 실패하거나 늦으면 로컬 색인 결과로 대신함
+ * 연속으로 실패하면 서킷을 열어 한동안 Elasticsearch를 호출하지 않고 바로 대체 결과 반환
+ */
+@Slf4j
+@Component
+public class SearchFallbackGuard {
+    private final Executor searchExecutor;
+    private final long budgetMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter fallbackCounter;
+
+    public SearchFallbackGuard(@Qualifier("searchExecutor") Executor searchExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${picky.search.fallback.budget-ms:300}") long budgetMillis,
+                               @Value("${picky.search.fallback.failure-threshold:5}") int failureThreshold,
+                               @Value("${picky.search.fallback.open-ms:10000}") long openDurationMillis) {
+        this.searchExecutor = searchExecutor;
+        this.budgetMillis = budgetMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+        this.fallbackCounter = Counter.builder("picky.search.fallback").register(meterRegistry);
+        Gauge.builder("picky.search.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * when: 영화/사용자 검색시
+     * what: primary(Elasticsearch) 결과, 안 되면 fallback(로컬 색인) 결과
+     */
+    public <T> T call(Supplier<T> primary, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquire()) {
+            fallbackCounter.increment();
+            return fallback.get();
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(primary, searchExecutor);
+        } catch (RejectedExecutionException e) {
+            // 검색 스레드가 모두 Elasticsearch 응답을 기다리는 중 -> 느려진 것으로 봄
+            return fail(fallback, "search executor saturated");
+        }
+
+        try {
+            T result = future.get(budgetMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return fail(fallback, "timed out after " + budgetMillis + "ms");
+        } catch (ExecutionException e) {
+            return fail(fallback, e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fail(fallback, "interrupted");
+        }
+    }
+
+    private <T> T fail(Supplier<T> fallback, String reason) {
+        circuitBreaker.onFailure();
+        fallbackCounter.increment();
+        log.warn("Elasticsearch search fell back to local index. reason={}", reason);
+        return fallback.get();
+    }
+}
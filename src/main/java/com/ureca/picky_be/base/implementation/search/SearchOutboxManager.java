@@ -0,0 +1,39 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import com.ureca.picky_be.base.persistence.search.SearchOutboxJdbcRepository;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 검색 색인 요청을 outbox에 기록
+ * 엔티티 변경과 같은 트랜잭션에서만 호출 가능 (롤백되면 색인 요청도 같이 사라짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchOutboxManager {
+    private final SearchOutboxJdbcRepository searchOutboxJdbcRepository;
+
+    /**
+     * when: 영화/사용자 생성, 수정, 삭제 트랜잭션 안에서
+     * what: 커밋 후 relay가 해당 문서를 다시 색인하도록 기록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(SearchIndexTarget target, Long documentId) {
+        searchOutboxJdbcRepository.batchInsert(target, List.of(documentId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(SearchIndexTarget target, Collection<Long> documentIds) {
+        if (documentIds.isEmpty()) {
+            return;
+        }
+        searchOutboxJdbcRepository.batchInsert(target, new LinkedHashSet<>(documentIds));
+    }
+}
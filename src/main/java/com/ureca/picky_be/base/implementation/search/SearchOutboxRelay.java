@@ -0,0 +1,188 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.ureca.picky_be.base.persistence.search.SearchOutboxJdbcRepository;
+import com.ureca.picky_be.base.persistence.search.SearchOutboxJdbcRepository.Backlog;
+import com.ureca.picky_be.base.persistence.search.SearchOutboxJdbcRepository.PendingRow;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * search_outbox → Elasticsearch relay
+ * - 처리할 차례가 된 행을 batchSize개씩 읽어 (대상, 문서 id)별로 최신 DB 상태를 한 번의 bulk 요청으로 반영
+ * - 읽은 최신 상태는 로컬 검색 색인(LocalSearchIndexManager)에도 반영
+ * - DB에 없는 문서는 delete, 실패한 행은 지수 백오프로 다시 시도 (포기하지 않음)
+ * - 행은 SKIP LOCKED로 잠가 lease 시각까지 미뤄 두고 처리하므로 여러 인스턴스가 같은 행을 중복 처리하지 않음
+ * - 단, 같은 문서의 서로 다른 행을 두 인스턴스가 동시에 처리하면 먼저 읽은 상태가 나중에 쓰일 수 있음
+ *   (다음 변경의 outbox 행이 처리될 때 바로잡힘)
+ */
+@Slf4j
+@Component
+public class SearchOutboxRelay {
+    private final ElasticsearchClient elasticsearchClient;
+    private final SearchOutboxJdbcRepository searchOutboxJdbcRepository;
+    private final SearchDocumentAssembler searchDocumentAssembler;
+    private final LocalSearchIndexManager localSearchIndexManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter indexedCounter;
+    private final Counter failureCounter;
+
+    public SearchOutboxRelay(ElasticsearchClient elasticsearchClient,
+                             SearchOutboxJdbcRepository searchOutboxJdbcRepository,
+                             SearchDocumentAssembler searchDocumentAssembler,
+                             LocalSearchIndexManager localSearchIndexManager,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${picky.search.outbox.batch-size:500}") int batchSize,
+                             @Value("${picky.search.outbox.lease-ms:60000}") long leaseMillis,
+                             @Value("${picky.search.outbox.backoff-base-ms:1000}") long backoffBaseMillis,
+                             @Value("${picky.search.outbox.backoff-max-ms:300000}") long backoffMaxMillis) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.searchOutboxJdbcRepository = searchOutboxJdbcRepository;
+        this.searchDocumentAssembler = searchDocumentAssembler;
+        this.localSearchIndexManager = localSearchIndexManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        Gauge.builder("picky.search.outbox.pending", pending, AtomicLong::get)
+                .description("outbox rows not yet applied to Elasticsearch")
+                .register(meterRegistry);
+        Gauge.builder("picky.search.outbox.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("age of the oldest unapplied outbox row")
+                .register(meterRegistry);
+        this.indexedCounter = Counter.builder("picky.search.outbox.applied").register(meterRegistry);
+        this.failureCounter = Counter.builder("picky.search.outbox.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${picky.search.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            // 한 번에 batchSize개를 다 채웠으면 밀린 것이므로 바로 이어서 처리 (실패가 있으면 다음 주기로)
+            boolean hasMore;
+            do {
+                hasMore = relayBatch();
+            } while (hasMore);
+        } catch (Exception e) {
+            log.warn("Search outbox relay failed. reason={}", e.getMessage());
+        } finally {
+            updateBacklog();
+        }
+    }
+
+    /**
+     * 바로 이어서 처리할 행이 더 있을 수 있으면 true
+     */
+    private boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingRow> rows = claim(now);
+        if (rows.isEmpty()) {
+            return false;
+        }
+
+        // 같은 문서에 대한 여러 행은 bulk 작업 하나로 합침
+        Map<SearchIndexTarget, Map<Long, List<PendingRow>>> grouped = rows.stream()
+                .collect(Collectors.groupingBy(PendingRow::target,
+                        () -> new EnumMap<>(SearchIndexTarget.class),
+                        Collectors.groupingBy(PendingRow::documentId, LinkedHashMap::new, Collectors.toList())));
+
+        List<BulkOperation> operations = new ArrayList<>();
+        List<List<PendingRow>> operationRows = new ArrayList<>();
+        grouped.forEach((target, byDocument) -> {
+            Map<Long, Map<String, Object>> documents = searchDocumentAssembler.readByIds(target, byDocument.keySet());
+            localSearchIndexManager.apply(target, byDocument.keySet(), documents);
+            byDocument.forEach((documentId, documentRows) -> {
+                Map<String, Object> document = documents.get(documentId);
+                String id = String.valueOf(documentId);
+                operations.add(document == null
+                        ? BulkOperation.of(op -> op.delete(d -> d.index(target.getAlias()).id(id)))
+                        : BulkOperation.of(op -> op.index(idx -> idx.index(target.getAlias()).id(id).document(document))));
+                operationRows.add(documentRows);
+            });
+        });
+
+        List<Long> doneIds = new ArrayList<>();
+        List<PendingRow> failedRows = new ArrayList<>();
+        String lastError = null;
+        try {
+            BulkResponse response = elasticsearchClient.bulk(b -> b.operations(operations));
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                // 이미 없는 문서의 delete(404)는 성공으로 봄
+                if (item.error() == null || item.status() == 404) {
+                    operationRows.get(i).forEach(row -> doneIds.add(row.id()));
+                } else {
+                    failedRows.addAll(operationRows.get(i));
+                    lastError = item.error().reason();
+                }
+            }
+        } catch (Exception e) {
+            operationRows.forEach(failedRows::addAll);
+            lastError = e.getMessage();
+        }
+
+        searchOutboxJdbcRepository.deleteByIds(doneIds);
+        indexedCounter.increment(doneIds.size());
+        if (!failedRows.isEmpty()) {
+            List<LocalDateTime> nextAttemptAts = failedRows.stream()
+                    .map(row -> now.plus(backoff(row.attempts())))
+                    .toList();
+            searchOutboxJdbcRepository.markRetry(failedRows, nextAttemptAts, lastError);
+            failureCounter.increment(failedRows.size());
+            log.warn("Search outbox rows will be retried. count={}, reason={}", failedRows.size(), lastError);
+        }
+        return rows.size() == batchSize && failedRows.isEmpty();
+    }
+
+    // 잠금은 lease를 기록하는 짧은 트랜잭션 동안만 잡고, Elasticsearch 요청은 트랜잭션 밖에서 보냄
+    private List<PendingRow> claim(LocalDateTime now) {
+        List<PendingRow> rows = transactionTemplate.execute(status -> {
+            List<PendingRow> locked = searchOutboxJdbcRepository.lockDue(now, batchSize);
+            searchOutboxJdbcRepository.lease(locked.stream().map(PendingRow::id).toList(),
+                    now.plus(Duration.ofMillis(leaseMillis)));
+            return locked;
+        });
+        return rows == null ? List.of() : rows;
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = backoffBaseMillis << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(millis, backoffMaxMillis));
+    }
+
+    private void updateBacklog() {
+        try {
+            Backlog backlog = searchOutboxJdbcRepository.getBacklog();
+            pending.set(backlog.pending());
+            lagSeconds.set(backlog.oldestCreatedAt() == null ? 0L
+                    : Math.max(Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now()).toSeconds(), 0L));
+        } catch (Exception e) {
+            log.warn("Search outbox backlog check failed. reason={}", e.getMessage());
+        }
+    }
+}
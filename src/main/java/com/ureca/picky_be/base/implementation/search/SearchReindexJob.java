@@ -0,0 +1,52 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재색인 작업 진행 상황 (메모리에만 보관, 대상별 마지막 작업 하나)
+ * 카운터는 bulk 응답 스레드에서 갱신되므로 Atomic
+ */
+@Getter
+public class SearchReindexJob {
+    private final SearchIndexTarget target;
+    private final String indexName;
+    private final int batchSize;
+    private final int concurrency;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile SearchReindexStatus status = SearchReindexStatus.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failedReason;
+
+    public SearchReindexJob(SearchIndexTarget target, String indexName, int batchSize, int concurrency) {
+        this.target = target;
+        this.indexName = indexName;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+    public boolean isRunning() {
+        return status == SearchReindexStatus.RUNNING;
+    }
+
+    void complete() {
+        this.status = SearchReindexStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String reason) {
+        this.status = SearchReindexStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+        this.failedReason = reason;
+    }
+
+    void recordFailure(String reason) {
+        this.failedReason = reason;
+    }
+}
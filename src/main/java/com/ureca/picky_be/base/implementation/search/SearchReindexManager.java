@@ -0,0 +1,268 @@
+package com.ureca.picky_be.base.implementation.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.ureca.picky_be.base.persistence.search.SearchOutboxJdbcRepository;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 인덱스 무중단 재색인
+ * 1. alias_v{시각} 새 인덱스를 매핑 파일로 생성 (적재 중에는 refresh 끔)
+ * 2. MySQL을 id keyset으로 batchSize씩 읽어 BulkIngester로 적재 (동시 요청 concurrency개)
+ * 3. 적재 도중 수정된 행을 updated_at 기준으로 한 번 더 적재
+ * 4. 실패 비율이 허용치 이하면 alias를 새 인덱스로 한 번에 교체하고 이전 인덱스 삭제
+ * 5. 교체 전까지 relay는 alias(이전 인덱스)에 썼으므로, 3번 이후 수정된 행과 적재 후 사라진 행을 outbox에 다시 넣어
+ *    relay가 새 인덱스에 반영하게 함 (relay와 같은 경로라 실패해도 재시도됨)
+ */
+@Slf4j
+@Component
+public class SearchReindexManager {
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    // 스캔 시작 직전에 커밋된 변경까지 포함하기 위한 여유
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final SearchDocumentAssembler searchDocumentAssembler;
+    private final SearchOutboxJdbcRepository searchOutboxJdbcRepository;
+    private final double maxFailureRatio;
+    private final Map<SearchIndexTarget, SearchReindexJob> jobs = new ConcurrentHashMap<>();
+
+    public SearchReindexManager(ElasticsearchClient elasticsearchClient,
+                                SearchDocumentAssembler searchDocumentAssembler,
+                                SearchOutboxJdbcRepository searchOutboxJdbcRepository,
+                                @Value("${picky.search.reindex.max-failure-ratio:0.001}") double maxFailureRatio) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.searchDocumentAssembler = searchDocumentAssembler;
+        this.searchOutboxJdbcRepository = searchOutboxJdbcRepository;
+        this.maxFailureRatio = maxFailureRatio;
+    }
+
+    /**
+     * when: 관리자가 재색인을 요청했을 때
+     * what: 대상별로 하나만 실행되도록 새 작업 등록
+     */
+    public synchronized SearchReindexJob createJob(SearchIndexTarget target, int batchSize, int concurrency) {
+        SearchReindexJob current = jobs.get(target);
+        if (current != null && current.isRunning()) {
+            throw new CustomException(ErrorCode.SEARCH_REINDEX_ALREADY_RUNNING);
+        }
+        String indexName = target.getAlias() + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+        SearchReindexJob job = new SearchReindexJob(target, indexName, batchSize, concurrency);
+        jobs.put(target, job);
+        return job;
+    }
+
+    public SearchReindexJob getJob(SearchIndexTarget target) {
+        SearchReindexJob job = jobs.get(target);
+        if (job == null) {
+            throw new CustomException(ErrorCode.SEARCH_REINDEX_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    public void failJob(SearchReindexJob job, String reason) {
+        job.fail(reason);
+    }
+
+    /**
+     * when: 재색인 전용 스레드에서
+     * what: 새 인덱스 생성 → 적재 → alias 교체 → 교체 전 변경 재요청, 교체 전에 실패하면 새 인덱스를 지우고 기존 alias는 그대로 둠
+     */
+    public void run(SearchReindexJob job) {
+        try {
+            createIndex(job);
+            // 적재한 문서 id (교체 후 DB에서 사라진 문서를 찾는 데 사용)
+            BitSet indexedIds = new BitSet();
+            LocalDateTime catchUpFrom;
+            try (BulkIngester<Void> ingester = newIngester(job)) {
+                scan(job, ingester, null, indexedIds);
+                catchUpFrom = LocalDateTime.now();
+                scan(job, ingester, job.getStartedAt().minus(CATCH_UP_MARGIN), indexedIds);
+            }
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(job.getIndexName())
+                    .settings(s -> s.refreshInterval(t -> t.time("1s"))));
+            elasticsearchClient.indices().refresh(r -> r.index(job.getIndexName()));
+
+            long scanned = job.getScanned().get();
+            long failed = job.getFailed().get();
+            if (failed > scanned * maxFailureRatio) {
+                throw new IllegalStateException("too many failed documents: " + failed + "/" + scanned
+                        + " (last: " + job.getFailedReason() + ")");
+            }
+
+            swapAlias(job);
+            reconcileAfterSwap(job, catchUpFrom.minus(CATCH_UP_MARGIN), indexedIds);
+            job.complete();
+            log.info("Search reindex completed. index={}, indexed={}, failed={}",
+                    job.getIndexName(), job.getIndexed().get(), failed);
+        } catch (Exception e) {
+            log.warn("Search reindex failed. index={}, reason={}", job.getIndexName(), e.getMessage());
+            job.fail(e.getMessage());
+            deleteIndexQuietly(List.of(job.getIndexName()));
+        }
+    }
+
+    private void createIndex(SearchReindexJob job) throws IOException {
+        try (InputStream definition = new ClassPathResource(job.getTarget().getDefinitionPath()).getInputStream()) {
+            elasticsearchClient.indices().create(c -> c.index(job.getIndexName()).withJson(definition));
+        }
+        // 적재가 끝날 때까지 refresh를 끄면 segment 생성이 줄어 적재가 빨라짐
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(job.getIndexName())
+                .settings(s -> s.refreshInterval(t -> t.time("-1"))));
+    }
+
+    private BulkIngester<Void> newIngester(SearchReindexJob job) {
+        BulkListener<Void> listener = new BulkListener<>() {
+            @Override
+            public void beforeBulk(long executionId, BulkRequest request, List<Void> contexts) {
+            }
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, BulkResponse response) {
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() == null) {
+                        job.getIndexed().incrementAndGet();
+                    } else {
+                        job.getFailed().incrementAndGet();
+                        job.recordFailure(item.error().reason());
+                    }
+                }
+            }
+
+            @Override
+            public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, Throwable failure) {
+                job.getFailed().addAndGet(request.operations().size());
+                job.recordFailure(failure.getMessage());
+            }
+        };
+        return BulkIngester.of(b -> b
+                .client(elasticsearchClient)
+                .maxOperations(job.getBatchSize())
+                .maxConcurrentRequests(job.getConcurrency())
+                .flushInterval(1, TimeUnit.SECONDS)
+                .listener(listener));
+    }
+
+    private void scan(SearchReindexJob job, BulkIngester<Void> ingester, LocalDateTime updatedSince, BitSet indexedIds) {
+        long afterId = 0L;
+        while (true) {
+            Map<Long, Map<String, Object>> documents =
+                    searchDocumentAssembler.readAfter(job.getTarget(), afterId, updatedSince, job.getBatchSize());
+            if (documents.isEmpty()) {
+                return;
+            }
+            documents.forEach((id, document) -> {
+                job.getScanned().incrementAndGet();
+                indexedIds.set(Math.toIntExact(id));
+                // 애플리케이션의 Repository 저장과 같은 _id (findById로 조회 가능)
+                ingester.add(op -> op.index(idx -> idx
+                        .index(job.getIndexName())
+                        .id(String.valueOf(id))
+                        .document(document)));
+            });
+            afterId = Collections.max(documents.keySet());
+        }
+    }
+
+    /**
+     * alias 교체 후 호출. 이미 새 인덱스가 서비스 중이므로 실패해도 인덱스는 지우지 않고 기록만 남김
+     * - updatedSince 이후 수정된 행: 교체 직전에 relay가 이전 인덱스에만 반영했을 수 있음
+     * - 적재했지만 지금 DB에 없는 행: 적재 도중의 hard delete는 updated_at 스캔으로 찾을 수 없음
+     */
+    private void reconcileAfterSwap(SearchReindexJob job, LocalDateTime updatedSince, BitSet indexedIds) {
+        SearchIndexTarget target = job.getTarget();
+        try {
+            long changed = 0;
+            long afterId = 0L;
+            while (true) {
+                Set<Long> ids = searchDocumentAssembler.readAfter(target, afterId, updatedSince, job.getBatchSize()).keySet();
+                if (ids.isEmpty()) {
+                    break;
+                }
+                searchOutboxJdbcRepository.batchInsert(target, ids);
+                changed += ids.size();
+                afterId = Collections.max(ids);
+            }
+
+            long deleted = 0;
+            List<Long> chunk = new ArrayList<>(job.getBatchSize());
+            for (int id = indexedIds.nextSetBit(0); id >= 0; id = indexedIds.nextSetBit(id + 1)) {
+                chunk.add((long) id);
+                if (chunk.size() == job.getBatchSize() || indexedIds.nextSetBit(id + 1) < 0) {
+                    Set<Long> existing = searchDocumentAssembler.findExistingIds(target, chunk);
+                    List<Long> missing = chunk.stream().filter(chunkId -> !existing.contains(chunkId)).toList();
+                    if (!missing.isEmpty()) {
+                        searchOutboxJdbcRepository.batchInsert(target, missing);
+                        deleted += missing.size();
+                    }
+                    chunk.clear();
+                }
+            }
+            log.info("Search reindex reconciled. index={}, changed={}, deleted={}", job.getIndexName(), changed, deleted);
+        } catch (Exception e) {
+            job.recordFailure("reconcile after swap failed: " + e.getMessage());
+            log.warn("Search reindex reconcile failed. index={}, reason={}", job.getIndexName(), e.getMessage());
+        }
+    }
+
+    /**
+     * alias가 가리키던 인덱스를 새 인덱스로 한 번의 요청에서 교체
+     * alias 이름이 예전 방식의 실제 인덱스라면(최초 전환) 그 인덱스를 지우면서 alias를 건다
+     */
+    private void swapAlias(SearchReindexJob job) throws IOException {
+        String alias = job.getTarget().getAlias();
+        List<String> oldIndices = new ArrayList<>();
+        boolean concreteIndex = false;
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            oldIndices.addAll(elasticsearchClient.indices().getAlias(g -> g.name(alias)).result().keySet());
+        } else {
+            concreteIndex = elasticsearchClient.indices().exists(e -> e.index(alias)).value();
+        }
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(job.getIndexName()).alias(alias))));
+        for (String oldIndex : oldIndices) {
+            actions.add(Action.of(a -> a.remove(remove -> remove.index(oldIndex).alias(alias))));
+        }
+        if (concreteIndex) {
+            actions.add(Action.of(a -> a.removeIndex(remove -> remove.index(alias))));
+        }
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+
+        oldIndices.remove(job.getIndexName());
+        deleteIndexQuietly(oldIndices);
+    }
+
+    private void deleteIndexQuietly(List<String> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchClient.indices().delete(d -> d.index(indices).ignoreUnavailable(true));
+        } catch (Exception e) {
+            log.warn("Search index delete failed. indices={}, reason={}", indices, e.getMessage());
+        }
+    }
+}
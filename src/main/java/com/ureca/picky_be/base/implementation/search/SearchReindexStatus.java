@@ -0,0 +1,7 @@
+package com.ureca.picky_be.base.implementation.search;
+
+public enum SearchReindexStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
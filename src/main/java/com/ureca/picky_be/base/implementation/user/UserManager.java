@@ -3,9 +3,13 @@ package com.ureca.picky_be.base.implementation.user;
 import com.ureca.picky_be.base.business.user.dto.RegisterUserReq;
 import com.ureca.picky_be.base.business.user.dto.UserInfoProjection;
 import com.ureca.picky_be.base.implementation.content.ProfileManager;
+import com.ureca.picky_be.base.implementation.search.LocalSearchIndexManager;
+import com.ureca.picky_be.base.implementation.search.SearchFallbackGuard;
+import com.ureca.picky_be.base.implementation.search.SearchOutboxManager;
 import com.ureca.picky_be.base.persistence.follow.FollowRepository;
 import com.ureca.picky_be.base.persistence.movie.GenreRepository;
 import com.ureca.picky_be.base.persistence.movie.MovieLikeRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieStatsRepository;
 import com.ureca.picky_be.base.persistence.movie.MovieRepository;
 import com.ureca.picky_be.base.persistence.user.UserGenrePreferenceRepository;
 import com.ureca.picky_be.base.persistence.user.UserRepository;
@@ -16,6 +20,7 @@ import com.ureca.picky_be.global.exception.ErrorCode;
 import com.ureca.picky_be.global.success.SuccessCode;
 import com.ureca.picky_be.jpa.entity.genre.Genre;
 import com.ureca.picky_be.jpa.entity.movie.MovieLike;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
 import com.ureca.picky_be.jpa.entity.user.Status;
 import com.ureca.picky_be.jpa.entity.user.User;
 import com.ureca.picky_be.jpa.entity.user.UserGenrePreference;
@@ -34,10 +39,14 @@ public class UserManager {
     private final UserGenrePreferenceRepository userGenrePreferenceRepository;
     private final GenreRepository genreRepository;
     private final MovieLikeRepository movieLikeRepository;
+    private final MovieStatsRepository movieStatsRepository;
     private final MovieRepository movieRepository;
     private final FollowRepository followRepository;
     private final ProfileManager profileManager;
     private final UserSearchRepository userSearchRepository;
+    private final SearchOutboxManager searchOutboxManager;
+    private final SearchFallbackGuard searchFallbackGuard;
+    private final LocalSearchIndexManager localSearchIndexManager;
 
 
     @Transactional
@@ -72,6 +81,7 @@ public class UserManager {
             }
         }
         user.registerUser(req);
+        searchOutboxManager.enqueue(SearchIndexTarget.USER, userId);
         return user;
     }
 
@@ -81,20 +91,13 @@ public class UserManager {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         try {
             user.updateNickname(nickname);
+            searchOutboxManager.enqueue(SearchIndexTarget.USER, userId);
             return SuccessCode.UPDATE_USER_SUCCESS;
         } catch (Exception e) {
             throw new CustomException(ErrorCode.ALREADY_EXIST_NICKNAME);
         }
     }
 
-    private void updateElasticsearchUserNickname(Long userId, String nickname) {
-        UserDocument userDocument = userSearchRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        userDocument.setNickname(nickname);
-        userSearchRepository.save(userDocument);
-    }
-
     private void validateUpdateUserReq(RegisterUserReq req) {
         if (req.name() == null
                 || req.nickname() == null
@@ -138,6 +141,7 @@ public class UserManager {
                         .build())
                 .toList();
         movieLikeRepository.saveAll(movieLikes);
+        movieIds.forEach(movieId -> movieStatsRepository.addLikeCount(movieId, 1));
     }
 
     // 선택한 영화 기반으로 선호 장르 추출 후 저장
@@ -231,23 +235,9 @@ public class UserManager {
 
     @Transactional(readOnly = true)
     public List<UserDocument> getSearchUsers(String keyword) {
-        return userSearchRepository.findByNicknameExcludingAdminAndSuspended(keyword);
-    }
-
-    public void addUserElastic(User user) {
-        try{
-            UserDocument newUserDocument = UserDocument.builder()
-                    .id(user.getId())
-                    .email(user.getEmail())
-                    .nickname(user.getNickname())
-                    .role(user.getRole())
-                    .status(user.getStatus())
-                    .build();
-            userSearchRepository.save(newUserDocument);
-            System.out.println(user.getNickname());
-        }catch (Exception e){
-            throw new CustomException(ErrorCode.ELASTIC_USER_CREATE_FAILED);
-        }
+        return searchFallbackGuard.call(
+                () -> userSearchRepository.findByNicknameExcludingAdminAndSuspended(keyword),
+                () -> localSearchIndexManager.searchUsers(keyword));
     }
 
     @Transactional(readOnly = true)
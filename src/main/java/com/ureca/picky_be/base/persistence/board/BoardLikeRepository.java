@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,5 +26,27 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
     @Query("DELETE FROM BoardLike bl WHERE bl.board.id = :boardId AND bl.userId= :userId")
     void deleteByBoardIdAndUserId(Long boardId, Long userId);
 
+    // 삭제된 게시글의 좋아요는 지우지 않음
+    @Modifying
+    @Query(value = """
+    DELETE bl FROM board_like bl
+    JOIN board b ON b.id = bl.board_id
+    WHERE bl.board_id = :boardId AND bl.user_id = :userId AND b.is_deleted = 'FALSE'
+    """, nativeQuery = true)
+    int deleteLikeOfActiveBoard(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    // (user_id, board_id) 유니크 제약으로 중복은 무시, 없거나 삭제된 게시글이면 SELECT 결과가 없어 0
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO board_like (user_id, board_id, created_at, updated_at)
+    SELECT :userId, b.id, NOW(), NOW()
+    FROM board b
+    WHERE b.id = :boardId AND b.is_deleted = 'FALSE'
+    """, nativeQuery = true)
+    int insertLikeOfActiveBoard(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    @Query("SELECT bl.board.id FROM BoardLike bl WHERE bl.userId = :userId AND bl.board.id IN :boardIds")
+    List<Long> findLikedBoardIds(@Param("userId") Long userId, @Param("boardIds") Collection<Long> boardIds);
+
 
 }
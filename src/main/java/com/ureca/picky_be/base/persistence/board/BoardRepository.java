@@ -14,6 +14,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -32,23 +34,24 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     """)
     IsDeleted findIsDeleted(@Param("boardId") Long boardId);
 
+    @Query("SELECT b.movie.id FROM Board b WHERE b.id = :boardId")
+    Long findMovieIdById(@Param("boardId") Long boardId);
+
     @Query("""
     SELECT b.id AS boardId, b.userId AS writerId, u.nickname AS writerNickname, u.profileUrl AS writerProfileUrl, u.role AS writerRole, b.context AS context, b.isSpoiler AS isSpoiler,
         b.createdAt AS createdAt, b.updatedAt AS updatedAt,
         (SELECT COUNT(l) FROM BoardLike l WHERE l.board.id = b.id) AS likeCount,
         (SELECT COUNT(c) FROM BoardComment c WHERE c.board.id = b.id) AS commentCount,
-        (CASE WHEN EXISTS (SELECT 1 FROM BoardLike bl WHERE bl.board.id = b.id AND bl.userId = :userId) THEN true ELSE false END) AS isLike,
         m.id AS movieId,
         m.title AS movieName,
-        m.releaseDate AS releaseDate,
-        (CASE WHEN b.userId = :userId THEN true ELSE false END) AS isAuthor
+        m.releaseDate AS releaseDate
     FROM Board b
     JOIN User u ON b.userId = u.id
     JOIN Movie m ON b.movie.id = m.id
     WHERE b.movie.id = :movieId AND b.isDeleted = 'FALSE' AND (:lastBoardId IS NULL OR b.id < :lastBoardId)
     ORDER BY b.createdAt DESC
     """)
-    Slice<BoardProjection> getRecentMovieRelatedBoards(@Param("userId") Long userId, @Param("movieId") Long movieId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+    Slice<BoardProjection> getRecentMovieRelatedBoards(@Param("movieId") Long movieId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
 
 
     @Query("""
@@ -56,7 +59,6 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
         b.createdAt AS createdAt, b.updatedAt AS updatedAt,
         (SELECT COUNT(l) FROM BoardLike l WHERE l.board.id = b.id) AS likeCount,
         (SELECT COUNT(c) FROM BoardComment c WHERE c.board.id = b.id) AS commentCount,
-        (CASE WHEN EXISTS (SELECT 1 FROM BoardLike bl WHERE bl.board.id = b.id AND bl.userId = :userId) THEN true ELSE false END) AS isLike,
         (SELECT COALESCE(JSON_ARRAYAGG(
                     JSON_OBJECT(
                         'contentUrl', bc.contentUrl,
@@ -67,15 +69,14 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
             WHERE bc.board.id = b.id) AS contents,
         m.id AS movieId,
         m.title AS movieName,
-        m.releaseDate AS releaseDate,
-        (CASE WHEN b.userId = :userId THEN true ELSE false END) AS isAuthor
+        m.releaseDate AS releaseDate
     FROM Board b
     JOIN User u ON b.userId = u.id
     JOIN Movie m ON b.movie.id = m.id
     WHERE b.isDeleted = 'FALSE' AND (:lastBoardId IS NULL OR b.id < :lastBoardId)
     ORDER BY b.createdAt DESC
     """)
-    Slice<BoardProjection> getRecentBoards(@Param("userId") Long userId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+    Slice<BoardProjection> getRecentBoards(@Param("lastBoardId") Long lastBoardId, Pageable pageable);
 
     @Query("""
     SELECT bc.id as commentId, bc.userId AS writerId, u.nickname AS writerNickname, u.profileUrl AS writerProfileUrl, bc.context AS context,
@@ -93,21 +94,46 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
         b.createdAt AS createdAt, b.updatedAt AS updatedAt,
         (SELECT COUNT(l) FROM BoardLike l WHERE l.board.id = b.id) AS likeCount,
         (SELECT COUNT(c) FROM BoardComment c WHERE c.board.id = b.id) AS commentCount,
-        (CASE WHEN EXISTS (SELECT 1 FROM BoardLike bl WHERE bl.board.id = b.id AND bl.userId = :currentId) THEN true ELSE false END) AS isLike,
         m.id AS movieId,
         m.title AS movieName,
-        m.releaseDate AS releaseDate,
-        (CASE WHEN b.userId = :currentId THEN true ELSE false END) AS isAuthor
+        m.releaseDate AS releaseDate
     FROM Board b
     JOIN User u ON b.userId = u.id
     JOIN Movie m ON b.movie.id = m.id
     WHERE b.userId = :searchUserId AND b.isDeleted = 'FALSE' AND (:lastBoardId IS NULL OR b.id < :lastBoardId)
     ORDER BY b.createdAt DESC
     """)
-    Slice<BoardProjection> findByIdAndCursor(@Param("searchUserId") Long searchUserId, @Param("currentId") Long currentId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+    Slice<BoardProjection> findByIdAndCursor(@Param("searchUserId") Long searchUserId, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
 
     Integer countByUserId(Long userId);
 
+    // 팔로워가 많아 팬아웃하지 않는 작성자의 게시글은 피드 조회 때 직접 읽어서 합침
+    @Query("""
+    SELECT b.id
+    FROM Board b
+    WHERE b.userId IN :writerIds AND b.isDeleted = 'FALSE' AND (:lastBoardId IS NULL OR b.id < :lastBoardId)
+    ORDER BY b.id DESC
+    """)
+    List<Long> findBoardIdsByWriterIds(@Param("writerIds") Collection<Long> writerIds, @Param("lastBoardId") Long lastBoardId, Pageable pageable);
+
+    // 타임라인에 남아 있어도 삭제됐거나 언팔로우한 작성자의 게시글은 제외
+    @Query("""
+    SELECT b.id AS boardId, b.userId AS writerId, u.nickname AS writerNickname, u.profileUrl AS writerProfileUrl, u.role AS writerRole, b.context AS context, b.isSpoiler AS isSpoiler,
+        b.createdAt AS createdAt, b.updatedAt AS updatedAt,
+        (SELECT COUNT(l) FROM BoardLike l WHERE l.board.id = b.id) AS likeCount,
+        (SELECT COUNT(c) FROM BoardComment c WHERE c.board.id = b.id) AS commentCount,
+        m.id AS movieId,
+        m.title AS movieName,
+        m.releaseDate AS releaseDate
+    FROM Board b
+    JOIN User u ON b.userId = u.id
+    JOIN Movie m ON b.movie.id = m.id
+    WHERE b.id IN :boardIds AND b.isDeleted = 'FALSE'
+        AND (b.userId = :viewerId OR EXISTS (SELECT 1 FROM Follow f WHERE f.followerId = :viewerId AND f.followingId = b.userId))
+    ORDER BY b.id DESC
+    """)
+    List<BoardProjection> findFeedBoards(@Param("viewerId") Long viewerId, @Param("boardIds") Collection<Long> boardIds);
+
 
 
 }
@@ -0,0 +1,130 @@
+package com.ureca.picky_be.base.persistence.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 팔로워 홈 피드 타임라인(board_timeline)과 팬아웃 outbox(board_timeline_outbox) JDBC 문장들
+ * (user_id, board_id) 유니크 인덱스가 사용자별 id 커서 조회와 중복 팬아웃 무시를 같이 맡음
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardTimelineJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 게시글을 여러 사용자 타임라인에 한 번의 배치로 추가 (재시도로 다시 들어와도 무시)
+     */
+    public void insertForUsers(List<Long> userIds, Long boardId) {
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO board_timeline (user_id, board_id, created_at, updated_at)
+                VALUES (?, ?, NOW(), NOW())
+                """, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, boardId);
+        });
+    }
+
+    public List<Long> findBoardIds(Long userId, Long lastBoardId, int limit) {
+        if (lastBoardId == null) {
+            return jdbcTemplate.queryForList("""
+                    SELECT board_id FROM board_timeline
+                    WHERE user_id = ?
+                    ORDER BY board_id DESC
+                    LIMIT ?
+                    """, Long.class, userId, limit);
+        }
+        return jdbcTemplate.queryForList("""
+                SELECT board_id FROM board_timeline
+                WHERE user_id = ? AND board_id < ?
+                ORDER BY board_id DESC
+                LIMIT ?
+                """, Long.class, userId, lastBoardId, limit);
+    }
+
+    /**
+     * 언팔로우한 작성자의 게시글 항목을 팔로워 타임라인에서 삭제
+     */
+    public int deleteByUserAndWriter(Long userId, Long writerId) {
+        return jdbcTemplate.update("""
+                DELETE bt FROM board_timeline bt
+                JOIN board b ON b.id = bt.board_id
+                WHERE bt.user_id = ? AND b.user_id = ?
+                """, userId, writerId);
+    }
+
+    public int deleteByBoardId(Long boardId) {
+        return jdbcTemplate.update("DELETE FROM board_timeline WHERE board_id = ?", boardId);
+    }
+
+    /**
+     * 보관 기간이 지난 항목을 limit개씩 삭제 (한 번에 큰 삭제로 잠금을 오래 잡지 않도록)
+     */
+    public int deleteCreatedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM board_timeline WHERE created_at < ? LIMIT ?", before, limit);
+    }
+
+    public record PendingFanOut(long id, long boardId, long writerId, int attempts) {
+    }
+
+    public void insertFanOut(Long writerId, Long boardId, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO board_timeline_outbox (board_id, writer_id, attempts, next_attempt_at, created_at, updated_at)
+                VALUES (?, ?, 0, ?, NOW(), NOW())
+                """, boardId, writerId, Timestamp.valueOf(nextAttemptAt));
+    }
+
+    /**
+     * 처리할 차례가 된 팬아웃을 먼저 들어온 순서로 limit개 잠금
+     * 여러 인스턴스가 동시에 돌아도 같은 행을 잡지 않도록 SKIP LOCKED (트랜잭션 안에서 호출)
+     */
+    public List<PendingFanOut> lockDueFanOuts(LocalDateTime now, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, board_id, writer_id, attempts FROM board_timeline_outbox
+                WHERE next_attempt_at <= ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new PendingFanOut(
+                        rs.getLong("id"),
+                        rs.getLong("board_id"),
+                        rs.getLong("writer_id"),
+                        rs.getInt("attempts")
+                ),
+                Timestamp.valueOf(now), limit);
+    }
+
+    public int leaseFanOuts(Collection<Long> ids, LocalDateTime leaseUntil) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.addAll(ids);
+        return jdbcTemplate.update("UPDATE board_timeline_outbox SET next_attempt_at = ? WHERE id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    public int deleteFanOut(Long boardId) {
+        return jdbcTemplate.update("DELETE FROM board_timeline_outbox WHERE board_id = ?", boardId);
+    }
+
+    public int markFanOutRetry(long id, LocalDateTime nextAttemptAt, String lastError) {
+        String error = lastError == null ? null : lastError.substring(0, Math.min(lastError.length(), 1000));
+        return jdbcTemplate.update("""
+                UPDATE board_timeline_outbox
+                SET attempts = attempts + 1, next_attempt_at = ?, last_error = ?, updated_at = NOW()
+                WHERE id = ?
+                """, Timestamp.valueOf(nextAttemptAt), error, id);
+    }
+}
@@ -5,10 +5,13 @@ import com.ureca.picky_be.jpa.entity.follow.Follow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +24,18 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     void deleteFollowByFollowerIdAndFollowingId(Long followerId, Long followingId);
 
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.followingId = :followingId")
+    int deleteRelationship(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // (follower_id, following_id) 유니크 제약으로 동시에 같은 팔로우가 들어오면 무시
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO follow (follower_id, following_id, created_at, updated_at)
+    VALUES (:followerId, :followingId, NOW(), NOW())
+    """, nativeQuery = true)
+    int insertRelationship(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
     @Query("""
         SELECT f.id AS id,
                f.followerId AS userId,
@@ -47,6 +62,14 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     """)
     Slice<FollowProjection> findFollowingsByFollowerId(@Param("userId") Long userId, Pageable pageable, @Param("lastFollowId") Long lastFollowId);
 
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followingId = :followingId")
+    List<Long> findFollowerIds(@Param("followingId") Long followingId, Pageable pageable);
+
+    @Query("SELECT f.followingId FROM Follow f GROUP BY f.followingId HAVING COUNT(f) > :followerCount")
+    List<Long> findFollowingIdsWithMoreFollowersThan(@Param("followerCount") long followerCount);
+
+    @Query("SELECT f.followingId FROM Follow f WHERE f.followerId = :followerId AND f.followingId IN :followingIds")
+    List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId, @Param("followingIds") Collection<Long> followingIds);
 
     boolean existsByFollowerIdAndFollowingId(Long currentUserId, Long userId);
 }
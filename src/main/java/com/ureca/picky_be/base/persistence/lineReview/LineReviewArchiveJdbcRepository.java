@@ -0,0 +1,78 @@
+package com.ureca.picky_be.base.persistence.lineReview;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제 표시된 한줄평을 보관 테이블로 옮기는 JDBC 문장들
+ * 한 묶음(id 목록) 단위로 호출하며 트랜잭션은 호출하는 쪽에서 잡는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LineReviewArchiveJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 인스턴스가 동시에 돌아도 같은 행을 잡지 않도록 SKIP LOCKED
+     */
+    public List<Long> lockTombstoneIds(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM line_review
+                WHERE is_deleted = 'TRUE'
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """, Long.class, limit);
+    }
+
+    public int archiveLineReviews(List<Long> lineReviewIds) {
+        return jdbcTemplate.update("""
+                INSERT IGNORE INTO line_review_soft_delete
+                    (id, user_id, movie_id, rating, context, is_spoiler, writer_nickname, is_deleted, created_at, updated_at)
+                SELECT id, user_id, movie_id, rating, context, is_spoiler, writer_nickname, true, created_at, NOW()
+                FROM line_review
+                WHERE is_deleted = 'TRUE' AND id IN (%s)
+                """.formatted(placeholders(lineReviewIds)), lineReviewIds.toArray());
+    }
+
+    public int archiveLikes(List<Long> lineReviewIds) {
+        return jdbcTemplate.update("""
+                INSERT IGNORE INTO line_review_like_soft_delete
+                    (id, line_review_id, user_id, preference, created_at, updated_at)
+                SELECT id, line_review_id, user_id, preference, created_at, NOW()
+                FROM line_review_like
+                WHERE line_review_id IN (%s)
+                """.formatted(placeholders(lineReviewIds)), lineReviewIds.toArray());
+    }
+
+    public int deleteLikes(List<Long> lineReviewIds) {
+        return jdbcTemplate.update(
+                "DELETE FROM line_review_like WHERE line_review_id IN (%s)".formatted(placeholders(lineReviewIds)),
+                lineReviewIds.toArray());
+    }
+
+    public int deleteLineReviews(List<Long> lineReviewIds) {
+        return jdbcTemplate.update(
+                "DELETE FROM line_review WHERE is_deleted = 'TRUE' AND id IN (%s)".formatted(placeholders(lineReviewIds)),
+                lineReviewIds.toArray());
+    }
+
+    /**
+     * 한줄평 작성이 (movie_id, user_id) 유니크 제약에 걸렸을 때 기존 행이 보관 대기 중인지 확인
+     * JPA 세션을 거치지 않아 실패한 INSERT 이후에도 조회 가능
+     */
+    public boolean hasTombstone(Long movieId, Long userId) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM line_review WHERE movie_id = ? AND user_id = ? AND is_deleted = 'TRUE'",
+                Long.class, movieId, userId);
+        return !ids.isEmpty();
+    }
+
+    private String placeholders(List<Long> ids) {
+        return String.join(",", Collections.nCopies(ids.size(), "?"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.ureca.picky_be.base.persistence.lineReview;
 
+import com.ureca.picky_be.base.business.lineReview.dto.LineReviewPreferenceProjection;
 import com.ureca.picky_be.jpa.entity.lineReview.LineReviewLike;
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,12 +10,46 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LineReviewLikeRepository extends JpaRepository<LineReviewLike, Long> {
     Optional<LineReviewLike> findByLineReviewIdAndUserId(Long lineReviewId, Long userId);
 
+    @Query("""
+        SELECT l.lineReview.id AS lineReviewId, l.preference AS preference
+        FROM LineReviewLike l
+        WHERE l.user.id = :userId AND l.lineReview.id IN :lineReviewIds AND l.isDeleted = false
+    """)
+    List<LineReviewPreferenceProjection> findPreferences(@Param("userId") Long userId,
+                                                         @Param("lineReviewIds") Collection<Long> lineReviewIds);
+
+    @Modifying
+    @Query("DELETE FROM LineReviewLike l WHERE l.lineReview.id = :lineReviewId AND l.user.id = :userId AND l.preference = :preference")
+    int deleteByPreference(@Param("lineReviewId") Long lineReviewId,
+                           @Param("userId") Long userId,
+                           @Param("preference") Preference preference);
+
+    @Modifying
+    @Query("UPDATE LineReviewLike l SET l.preference = :preference WHERE l.lineReview.id = :lineReviewId AND l.user.id = :userId AND l.preference <> :preference")
+    int switchPreference(@Param("lineReviewId") Long lineReviewId,
+                         @Param("userId") Long userId,
+                         @Param("preference") Preference preference);
+
+    // (line_review_id, user_id) 유니크 제약으로 중복은 무시, 본인 한줄평이거나 삭제된 한줄평이면 SELECT 결과가 없어 0
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO line_review_like (line_review_id, user_id, preference, is_deleted, created_at, updated_at)
+    SELECT lr.id, :userId, :preference, false, NOW(), NOW()
+    FROM line_review lr
+    WHERE lr.id = :lineReviewId AND lr.user_id <> :userId AND lr.is_deleted = 'FALSE'
+    """, nativeQuery = true)
+    int insertIfNotAuthor(@Param("lineReviewId") Long lineReviewId,
+                          @Param("userId") Long userId,
+                          @Param("preference") String preference);
+
     @Query("SELECT COUNT(l) FROM LineReviewLike l WHERE l.lineReview.id = :lineReviewId AND l.preference = 'LIKE'")
     Integer countLikesByLineReviewId(@Param("lineReviewId") Long lineReviewId);
 
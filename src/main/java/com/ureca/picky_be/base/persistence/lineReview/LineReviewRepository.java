@@ -18,62 +18,45 @@ import java.time.LocalDateTime;
 
 @Repository
 public interface LineReviewRepository extends JpaRepository<LineReview, Long> {
-    boolean existsByMovieIdAndUserId(Long movieId, Long userId);
-
+    // (movie_id, is_deleted, like_count, id) 인덱스를 역순으로 한 번 훑음. 사용자별 반응은 LineReviewLikeManager.getPreferences로 따로 조회
     @Query("""
-    SELECT lr.id AS id, lr.userId AS userId, lr.writerNickname AS writerNickname, lr.movieId AS movieId, 
+    SELECT lr.id AS id, lr.userId AS userId, lr.writerNickname AS writerNickname, lr.movieId AS movieId,
            lr.rating AS rating, lr.context AS context, lr.isSpoiler AS isSpoiler,
-           COUNT(CASE WHEN lrl.preference = 'LIKE' AND lrl.isDeleted = false THEN lrl.id END) AS likes,
-           COUNT(CASE WHEN lrl.preference = 'DISLIKE' AND lrl.isDeleted = false THEN lrl.id END) AS dislikes,
-           lr.createdAt AS createdAt,
-           (CASE WHEN lr.userId = :userId THEN true ELSE false END) AS isAuthor,
-           CASE WHEN lrl_user.preference = 'LIKE' AND lrl_user.isDeleted = false THEN true ELSE false END AS isLiked,
-           CASE WHEN lrl_user.preference = 'DISLIKE' AND lrl_user.isDeleted = false THEN true ELSE false END AS isDisliked
+           COALESCE(lr.likeCount, 0) AS likes,
+           COALESCE(lr.dislikeCount, 0) AS dislikes,
+           lr.createdAt AS createdAt
     FROM LineReview lr
-    LEFT JOIN LineReviewLike lrl ON lrl.lineReview.id = lr.id
-    LEFT JOIN LineReviewLike lrl_user 
-           ON lrl_user.lineReview.id = lr.id AND lrl_user.user.id = :userId
-    WHERE lr.movieId = :movieId
-      AND (:lastCreatedAt IS NULL OR lr.createdAt < :lastCreatedAt
-           OR (lr.createdAt = :lastCreatedAt AND lr.id < :lastReviewId))
-    GROUP BY lr.id, lr.userId, lr.writerNickname, lr.movieId, lr.rating, lr.context, 
-             lr.isSpoiler, lr.createdAt, lrl_user.preference, lrl_user.isDeleted
-    ORDER BY likes DESC, lr.id DESC
+    WHERE lr.movieId = :movieId AND lr.isDeleted = 'FALSE'
+      AND (:lastLikeCount IS NULL
+           OR (lr.likeCount <= :lastLikeCount
+               AND (lr.likeCount < :lastLikeCount OR lr.id < :lastReviewId)))
+    ORDER BY lr.likeCount DESC, lr.id DESC
 """)
     Slice<LineReviewProjection> findByMovieAndLikesCursor(
             @Param("movieId") Long movieId,
             @Param("lastReviewId") Long lastReviewId,
-            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
-            @Param("userId") Long userId,
+            @Param("lastLikeCount") Long lastLikeCount,
             Pageable pageable
     );
 
 
+    // 좋아요 수는 비정규화된 like_count / dislike_count를 그대로 읽음 (line_review_like 조인, GROUP BY 없음)
     @Query("""
-    SELECT lr.id AS id, lr.userId AS userId, lr.writerNickname AS writerNickname, lr.movieId AS movieId, 
+    SELECT lr.id AS id, lr.userId AS userId, lr.writerNickname AS writerNickname, lr.movieId AS movieId,
            lr.rating AS rating, lr.context AS context, lr.isSpoiler AS isSpoiler,
-           COUNT(CASE WHEN lrl.preference = 'LIKE' AND lrl.isDeleted = false THEN lrl.id END) AS likes,
-           COUNT(CASE WHEN lrl.preference = 'DISLIKE' AND lrl.isDeleted = false THEN lrl.id END) AS dislikes,
-           lr.createdAt AS createdAt,
-           (CASE WHEN lr.userId = :userId THEN true ELSE false END) AS isAuthor,
-           CASE WHEN lrl_user.preference = 'LIKE' AND lrl_user.isDeleted = false THEN true ELSE false END AS isLiked,
-           CASE WHEN lrl_user.preference = 'DISLIKE' AND lrl_user.isDeleted = false THEN true ELSE false END AS isDisliked
+           COALESCE(lr.likeCount, 0) AS likes,
+           COALESCE(lr.dislikeCount, 0) AS dislikes,
+           lr.createdAt AS createdAt
     FROM LineReview lr
-    LEFT JOIN LineReviewLike lrl ON lrl.lineReview.id = lr.id
-    LEFT JOIN LineReviewLike lrl_user 
-           ON lrl_user.lineReview.id = lr.id AND lrl_user.user.id = :userId
-    WHERE lr.movieId = :movieId
+    WHERE lr.movieId = :movieId AND lr.isDeleted = 'FALSE'
       AND (:lastCreatedAt IS NULL OR lr.createdAt < :lastCreatedAt
            OR (lr.createdAt = :lastCreatedAt AND lr.id < :lastReviewId))
-    GROUP BY lr.id, lr.userId, lr.writerNickname, lr.movieId, lr.rating, lr.context, 
-             lr.isSpoiler, lr.createdAt, lrl_user.preference, lrl_user.isDeleted
     ORDER BY lr.createdAt DESC, lr.id DESC
 """)
     Slice<LineReviewProjection> findByMovieAndLatestCursor(
             @Param("movieId") Long movieId,
             @Param("lastReviewId") Long lastReviewId,
             @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
-            @Param("userId") Long userId,
             Pageable pageable
     );
 
@@ -81,15 +64,13 @@ public interface LineReviewRepository extends JpaRepository<LineReview, Long> {
     @Query("""
         SELECT lr.id AS id, lr.writerNickname AS writerNickname, lr.userId AS userId, lr.movieId AS movieId, m.title AS movieTitle, m.posterUrl AS moviePosterUrl, lr.rating AS rating,
                lr.context AS context, lr.isSpoiler AS isSpoiler,
-               COUNT(CASE WHEN lrl.preference = 'LIKE' AND lrl.isDeleted = false THEN lrl.id END) AS likes,
-               COUNT(CASE WHEN lrl.preference = 'DISLIKE' AND lrl.isDeleted = false THEN lrl.id END) AS dislikes,
+               COALESCE(lr.likeCount, 0) AS likes,
+               COALESCE(lr.dislikeCount, 0) AS dislikes,
                lr.createdAt AS createdAt,
                (CASE WHEN lr.userId = :currentId THEN true ELSE false END) AS isAuthor
         FROM LineReview lr
-        LEFT JOIN LineReviewLike lrl ON lrl.lineReview.id = lr.id
         LEFT JOIN Movie m ON lr.movieId = m.id
-        WHERE lr.userId = :requestId AND (:lastReviewId IS NULL OR lr.id < :lastReviewId)
-        GROUP BY lr.id, lr.userId, lr.movieId, lr.rating, lr.context, lr.isSpoiler, lr.createdAt
+        WHERE lr.userId = :requestId AND lr.isDeleted = 'FALSE' AND (:lastReviewId IS NULL OR lr.id < :lastReviewId)
         ORDER BY lr.createdAt DESC
 """)
     Slice<MyPageLineReviewProjection> findByUserIdAndCursor(
@@ -121,10 +102,10 @@ public interface LineReviewRepository extends JpaRepository<LineReview, Long> {
 
     @Query("""
         SELECT
-        COALESCE(AVG(CASE WHEN u.gender = 'MALE' THEN lr.rating END), 0.0) AS maleAverageRating,
-        COUNT(CASE WHEN u.gender = 'MALE' THEN 1 END) AS maleCount,
-        COALESCE(AVG(CASE WHEN u.gender = 'FEMALE' THEN lr.rating END), 0.0) AS femaleAverageRating,
-        COUNT(CASE WHEN u.gender = 'FEMALE' THEN 1 END) AS femaleCount,
+        COALESCE(AVG(CASE WHEN COALESCE(lr.writerGender, u.gender) = 'MALE' THEN lr.rating END), 0.0) AS maleAverageRating,
+        COUNT(CASE WHEN COALESCE(lr.writerGender, u.gender) = 'MALE' THEN 1 END) AS maleCount,
+        COALESCE(AVG(CASE WHEN COALESCE(lr.writerGender, u.gender) = 'FEMALE' THEN lr.rating END), 0.0) AS femaleAverageRating,
+        COUNT(CASE WHEN COALESCE(lr.writerGender, u.gender) = 'FEMALE' THEN 1 END) AS femaleCount,
         COUNT(*) AS totalCount
         FROM LineReview lr
         JOIN User u ON lr.userId = u.id
@@ -132,9 +113,48 @@ public interface LineReviewRepository extends JpaRepository<LineReview, Long> {
 """)
     GenderLineReviewProjection findGenderRatingByMovieIdAnd(@Param("movieId") Long movieId);
 
-    @Query("SELECT lr.userId FROM LineReview lr WHERE lr.id = :lineReviewId")
+    @Query("SELECT lr.userId FROM LineReview lr WHERE lr.id = :lineReviewId AND lr.isDeleted = 'FALSE'")
     Long findAuthorIdById(@Param("lineReviewId") Long lineReviewId);
 
-    @Query("SELECT COUNT(lr) FROM LineReview lr WHERE lr.movieId = :movieId")
+    @Query("SELECT COUNT(lr) FROM LineReview lr WHERE lr.movieId = :movieId AND lr.isDeleted = 'FALSE'")
     long countByMovieId(@Param("movieId") Long movieId);
+
+    // 보관 작업(LineReviewArchiveManager)이 나중에 보관 테이블로 옮김
+    @Modifying
+    @Query("UPDATE LineReview lr SET lr.isDeleted = com.ureca.picky_be.jpa.entity.config.IsDeleted.TRUE WHERE lr.id = :lineReviewId AND lr.isDeleted = 'FALSE'")
+    int tombstone(@Param("lineReviewId") Long lineReviewId);
+
+    // 아직 채워지지 않은(NULL) 행은 NULL로 남겨 backfillLikeCounts가 다시 세도록 함
+    @Modifying
+    @Query("""
+        UPDATE LineReview lr
+        SET lr.likeCount = lr.likeCount + :likeDelta,
+            lr.dislikeCount = lr.dislikeCount + :dislikeDelta
+        WHERE lr.id = :lineReviewId
+    """)
+    int addLikeCounts(@Param("lineReviewId") Long lineReviewId,
+                      @Param("likeDelta") long likeDelta,
+                      @Param("dislikeDelta") long dislikeDelta);
+
+    // 탈퇴하는 사용자의 좋아요/싫어요를 지우기 전에 호출
+    @Modifying
+    @Query(value = """
+    UPDATE line_review lr
+    JOIN line_review_like lrl ON lrl.line_review_id = lr.id
+    SET lr.like_count = GREATEST(lr.like_count - (lrl.preference = 'LIKE'), 0),
+        lr.dislike_count = GREATEST(lr.dislike_count - (lrl.preference = 'DISLIKE'), 0)
+    WHERE lrl.user_id = :userId AND lrl.is_deleted = false
+    """, nativeQuery = true)
+    void subtractLikeCountsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE line_review lr
+    SET lr.like_count = (SELECT COUNT(*) FROM line_review_like lrl
+                         WHERE lrl.line_review_id = lr.id AND lrl.preference = 'LIKE' AND lrl.is_deleted = false),
+        lr.dislike_count = (SELECT COUNT(*) FROM line_review_like lrl
+                            WHERE lrl.line_review_id = lr.id AND lrl.preference = 'DISLIKE' AND lrl.is_deleted = false)
+    WHERE lr.like_count IS NULL OR lr.dislike_count IS NULL
+    """, nativeQuery = true)
+    int backfillLikeCounts();
 }
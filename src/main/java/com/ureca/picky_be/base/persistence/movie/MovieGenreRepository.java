@@ -1,5 +1,6 @@
 package com.ureca.picky_be.base.persistence.movie;
 
+import com.ureca.picky_be.base.business.movie.dto.MovieGenreIdProjection;
 import com.ureca.picky_be.jpa.entity.movie.MovieGenre;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,8 +17,21 @@ public interface MovieGenreRepository extends JpaRepository<MovieGenre, Long> {
     @Query("SELECT mg.genreId FROM MovieGenre mg WHERE mg.movie.id = :movieId")
     List<Long> getGenreIdsByMovieId(@Param("movieId") Long movieId);
 
+    @Query("SELECT mg.movie.id AS movieId, mg.genreId AS genreId FROM MovieGenre mg WHERE mg.movie.id IN :movieIds")
+    List<MovieGenreIdProjection> findGenreIdsByMovieIdIn(@Param("movieIds") Collection<Long> movieIds);
+
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query("DELETE FROM MovieGenre mg WHERE mg.movie.id = :movieId")
     void deleteMovieGenreByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE movie_genre mg
+    JOIN movie m ON m.id = mg.movie_id
+    SET mg.popularity = m.popularity,
+        mg.movie_created_at = m.created_at
+    WHERE mg.movie_created_at IS NULL
+    """, nativeQuery = true)
+    int backfillSortKeys();
 }
@@ -0,0 +1,9 @@
+package com.ureca.picky_be.base.persistence.movie;
+
+import com.ureca.picky_be.jpa.entity.movie.MovieImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MovieImportJobRepository extends JpaRepository<MovieImportJob, Long> {
+}
@@ -0,0 +1,288 @@
+package com.ureca.picky_be.base.persistence.movie;
+
+import com.ureca.picky_be.jpa.entity.movie.FilmCrew;
+import com.ureca.picky_be.jpa.entity.movie.Movie;
+import com.ureca.picky_be.jpa.entity.movie.MovieBehindVideo;
+import com.ureca.picky_be.jpa.entity.movie.MovieGenre;
+import com.ureca.picky_be.jpa.entity.movieworker.MovieWorker;
+import com.ureca.picky_be.jpa.entity.platform.Platform;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 영화 대량 저장용 JDBC batch insert
+ * JPA saveAll은 id를 직접 지정하는 Movie, MovieWorker에서 행마다 SELECT 후 INSERT를 하기 때문에 분리
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장할 영화 id 중 이미 있는 id (잠금 조회)
+     * 없는 id 자리에도 갭 락이 걸려서 같은 id를 동시에 저장하는 트랜잭션은 커밋까지 기다렸다가 이미 있는 것으로 보거나 데드락으로 롤백됨
+     * -> 이 조회 결과만으로 새 영화를 판단 (batch insert 행별 결과는 rewriteBatchedStatements면 모두 -2라서 쓸 수 없음)
+     */
+    public Set<Long> lockExistingMovieIds(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(movieIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM movie WHERE id IN (" + placeholders + ") FOR UPDATE",
+                Long.class, movieIds.toArray()));
+    }
+
+    /**
+     * lockExistingMovieIds로 걸러낸 영화만 넘김 (IGNORE는 만일을 위한 것이고 행별 결과는 보지 않음)
+     */
+    public void batchInsertMovies(List<Movie> movies) {
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO movie
+                    (id, title, release_date, poster_url, backdrop_url, total_rating, plot, running_time,
+                     trailer_url, ost_url, original_language, popularity, is_deleted, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """,
+                movies.stream()
+                        .map(movie -> new Object[]{
+                                movie.getId(),
+                                movie.getTitle(),
+                                movie.getReleaseDate() == null ? null : new Timestamp(movie.getReleaseDate().getTime()),
+                                movie.getPosterUrl(),
+                                movie.getBackdropUrl(),
+                                movie.getTotalRating(),
+                                movie.getPlot(),
+                                movie.getRunningTime(),
+                                movie.getTrailerUrl(),
+                                movie.getOstUrl(),
+                                movie.getOriginalLanguage(),
+                                movie.getPopularity(),
+                                movie.getIsDeleted().name()
+                        })
+                        .toList());
+    }
+
+    public int[] batchInsertMovieWorkers(List<MovieWorker> movieWorkers) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO movie_worker (id, name, profile_url, created_at, updated_at)
+                VALUES (?, ?, ?, NOW(), NOW())
+                """,
+                movieWorkers.stream()
+                        .map(worker -> new Object[]{worker.getId(), worker.getName(), worker.getProfileUrl()})
+                        .toList());
+    }
+
+    public int[] batchInsertMovieGenres(List<MovieGenre> movieGenres) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO movie_genre (movie_id, genre_id, popularity, movie_created_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, NOW(), NOW())
+                """,
+                movieGenres.stream()
+                        .map(movieGenre -> new Object[]{
+                                movieGenre.getMovie().getId(),
+                                movieGenre.getGenreId(),
+                                movieGenre.getPopularity(),
+                                Timestamp.valueOf(movieGenre.getMovieCreatedAt())
+                        })
+                        .toList());
+    }
+
+    public int[] batchInsertFilmCrews(List<FilmCrew> filmCrews) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO film_crew (movie_worker_id, film_crew_position, role, movie_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, NOW(), NOW())
+                """,
+                filmCrews.stream()
+                        .map(filmCrew -> new Object[]{
+                                filmCrew.getMovieWorker().getId(),
+                                filmCrew.getFilmCrewPosition().name(),
+                                filmCrew.getRole(),
+                                filmCrew.getMovie().getId()
+                        })
+                        .toList());
+    }
+
+    public int[] batchInsertPlatforms(List<Platform> platforms) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO platform (movie_id, platform_type, url, created_at, updated_at)
+                VALUES (?, ?, ?, NOW(), NOW())
+                """,
+                platforms.stream()
+                        .map(platform -> new Object[]{
+                                platform.getMovie().getId(),
+                                platform.getPlatformType().name(),
+                                platform.getUrl()
+                        })
+                        .toList());
+    }
+
+    public int[] batchInsertMovieBehindVideos(List<MovieBehindVideo> movieBehindVideos) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO movie_behind_video (movie_id, url, created_at, updated_at)
+                VALUES (?, ?, NOW(), NOW())
+                """,
+                movieBehindVideos.stream()
+                        .map(video -> new Object[]{video.getMovie().getId(), video.getUrl()})
+                        .toList());
+    }
+
+    /**
+     * rows: {movieId, userId}. (movie_id, user_id) 유니크 키로 이미 있는 좋아요는 무시
+     */
+    public int[] batchInsertMovieLikes(List<long[]> rows) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO movie_like (movie_id, user_id, created_at, updated_at)
+                VALUES (?, ?, NOW(), NOW())
+                """,
+                rows.stream()
+                        .map(row -> new Object[]{row[0], row[1]})
+                        .toList());
+    }
+
+    public int[] batchDeleteMovieLikes(List<long[]> rows) {
+        return jdbcTemplate.batchUpdate("DELETE FROM movie_like WHERE movie_id = ? AND user_id = ?",
+                rows.stream()
+                        .map(row -> new Object[]{row[0], row[1]})
+                        .toList());
+    }
+
+    /**
+     * movie_like 행 수를 다시 세어 movie_stats.like_count에 씀 (버퍼의 의도가 아니라 실제로 남은 행 기준)
+     * INSERT ... SELECT의 원본 읽기는 잠금 읽기라 다른 인스턴스가 먼저 커밋한 좋아요도 포함됨
+     */
+    public int refreshLikeCounts(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(movieIds.size(), "?"));
+        return jdbcTemplate.update("""
+                INSERT INTO movie_stats (movie_id, like_count, line_review_count, rating_sum, rating_count, created_at, updated_at)
+                SELECT c.movie_id, c.like_count, 0, 0, 0, NOW(), NOW()
+                FROM (
+                    SELECT m.id AS movie_id, (SELECT COUNT(*) FROM movie_like ml WHERE ml.movie_id = m.id) AS like_count
+                    FROM movie m
+                    WHERE m.id IN (%s)
+                ) c
+                ON DUPLICATE KEY UPDATE
+                    like_count = c.like_count,
+                    updated_at = NOW()
+                """.formatted(placeholders), movieIds.toArray());
+    }
+
+    /**
+     * 전체 (movie_id, genre_id)를 movie_id 순으로 한 줄씩 읽음 (엔티티를 만들지 않음)
+     */
+    public void scanMovieGenres(RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT movie_id, genre_id FROM movie_genre ORDER BY movie_id", handler);
+    }
+
+    /**
+     * 영화 필터 인덱스용 컬럼만 읽음. movieIds가 null이면 전체
+     */
+    public void scanMovieFacets(Collection<Long> movieIds, RowCallbackHandler handler) {
+        queryByMovieIds("""
+                SELECT id, popularity, total_rating, release_date, original_language, is_deleted FROM movie
+                """, "id", movieIds, handler);
+    }
+
+    public void scanMovieGenres(Collection<Long> movieIds, RowCallbackHandler handler) {
+        queryByMovieIds("SELECT movie_id, genre_id FROM movie_genre", "movie_id", movieIds, handler);
+    }
+
+    public void scanPlatforms(Collection<Long> movieIds, RowCallbackHandler handler) {
+        queryByMovieIds("SELECT movie_id, platform_type FROM platform", "movie_id", movieIds, handler);
+    }
+
+    /**
+     * 검색 색인 재구성용 keyset 스캔. id > afterId 순으로 limit개, updatedSince가 있으면 그 이후 수정된 영화만
+     */
+    public void scanMoviesForSearch(long afterId, LocalDateTime updatedSince, int limit, RowCallbackHandler handler) {
+        String select = """
+                SELECT id, title, popularity, release_date, poster_url, original_language, is_deleted FROM movie
+                WHERE id > ?
+                """;
+        if (updatedSince == null) {
+            jdbcTemplate.query(select + " ORDER BY id LIMIT ?", handler, afterId, limit);
+            return;
+        }
+        jdbcTemplate.query(select + " AND updated_at >= ? ORDER BY id LIMIT ?", handler,
+                afterId, Timestamp.valueOf(updatedSince), limit);
+    }
+
+    /**
+     * 재색인 삭제 대조용. 주어진 id 중 아직 movie 행이 있는 id
+     */
+    public List<Long> findExistingMovieIds(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(movieIds.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT id FROM movie WHERE id IN (" + placeholders + ")",
+                Long.class, movieIds.toArray());
+    }
+
+    /**
+     * 로컬 제목 색인용. 삭제되지 않은 영화를 인기순으로 limit개
+     */
+    public void scanMovieTitles(int limit, RowCallbackHandler handler) {
+        jdbcTemplate.query("""
+                SELECT id, title, popularity FROM movie
+                WHERE is_deleted = 'FALSE'
+                ORDER BY popularity DESC
+                LIMIT ?
+                """, handler, limit);
+    }
+
+    public void scanMoviesForSearch(Collection<Long> movieIds, RowCallbackHandler handler) {
+        queryByMovieIds("""
+                SELECT id, title, popularity, release_date, poster_url, original_language, is_deleted FROM movie
+                """, "id", movieIds, handler);
+    }
+
+    /**
+     * rows: {movieId, bucket, delta}. 여러 인스턴스가 같은 행에 더할 수 있도록 증가량으로 반영
+     */
+    public int[] batchAddTrendingEngagements(List<long[]> rows) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO movie_trending_bucket (movie_id, bucket, engagement, created_at, updated_at)
+                VALUES (?, ?, GREATEST(?, 0), NOW(), NOW())
+                ON DUPLICATE KEY UPDATE
+                    engagement = GREATEST(engagement + ?, 0),
+                    updated_at = NOW()
+                """,
+                rows.stream()
+                        .map(row -> new Object[]{row[0], row[1], row[2], row[2]})
+                        .toList());
+    }
+
+    public void scanTrendingBuckets(long fromBucket, RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT movie_id, bucket, engagement FROM movie_trending_bucket WHERE bucket >= ?",
+                handler, fromBucket);
+    }
+
+    public int deleteTrendingBucketsBefore(long bucket) {
+        return jdbcTemplate.update("DELETE FROM movie_trending_bucket WHERE bucket < ?", bucket);
+    }
+
+    private void queryByMovieIds(String select, String idColumn, Collection<Long> movieIds, RowCallbackHandler handler) {
+        if (movieIds == null) {
+            jdbcTemplate.query(select, handler);
+            return;
+        }
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(movieIds.size(), "?"));
+        jdbcTemplate.query(select + " WHERE " + idColumn + " IN (" + placeholders + ")", handler, movieIds.toArray());
+    }
+}
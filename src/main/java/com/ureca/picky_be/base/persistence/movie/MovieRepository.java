@@ -1,5 +1,6 @@
 package com.ureca.picky_be.base.persistence.movie;
 
+import com.ureca.picky_be.base.business.movie.dto.GetGenreMovieProjection;
 import com.ureca.picky_be.base.business.movie.dto.GetRecommendMovieProjection;
 import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieProjection;
 import com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp;
@@ -13,10 +14,14 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
+    @Query("SELECT m.id FROM Movie m WHERE m.id IN :movieIds")
+    List<Long> findExistingIds(@Param("movieIds") Collection<Long> movieIds);
+
     @Query("""
     SELECT new com.ureca.picky_be.base.business.user.dto.GetMoviesForRegisResp(
         m.id,
@@ -35,17 +40,15 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     SELECT new com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp(
         m.id,
         m.title,
-        CAST(COUNT(ml) AS int),
-        CAST(COUNT(lr) AS int),
+        CAST(COALESCE(ms.likeCount, 0) AS int),
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int),
         m.createdAt,
         m.totalRating,
         m.posterUrl,
         m.backdropUrl
     )
     FROM Movie m
-    LEFT JOIN MovieLike ml ON ml.movie.id = m.id
-    LEFT JOIN LineReview lr ON lr.movieId = m.id
-    GROUP BY m.id, m.title, m.createdAt, m.totalRating, m.posterUrl, m.backdropUrl
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
     ORDER BY m.totalRating DESC
 """)
     List<GetSimpleMovieResp> findTop30MoviesWithLikes(Pageable pageable);
@@ -54,17 +57,15 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     SELECT new com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp(
         m.id,
         m.title,
-        CAST((SELECT COUNT(ml) FROM MovieLike ml WHERE ml.movie.id = m.id) AS int),
-        CAST((SELECT COUNT(lr) FROM LineReview lr WHERE lr.movieId = m.id) AS int),
+        CAST(COALESCE(ms.likeCount, 0) AS int),
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int),
         m.createdAt,
         m.totalRating,
         m.posterUrl,
         m.backdropUrl
     )
     FROM Movie m
-    LEFT JOIN MovieLike ml ON ml.movie.id = m.id
-    LEFT JOIN LineReview lr ON lr.movieId = m.id
-    GROUP BY m.id, m.title, m.createdAt, m.totalRating, m.posterUrl, m.backdropUrl
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
     ORDER BY m.popularity DESC
 """)
     List<GetSimpleMovieResp> findTop10MoviesWithLikes(Pageable pageable);
@@ -73,27 +74,67 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     SELECT new com.ureca.picky_be.base.business.movie.dto.GetSimpleMovieResp(
         m.id,
         m.title,
-        CAST(COUNT(ml) AS int),
-        CAST(COUNT(lr) AS int),
+        CAST(COALESCE(ms.likeCount, 0) AS int),
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int),
         m.createdAt,
         m.totalRating,
         m.posterUrl,
         m.backdropUrl
     )
     FROM Movie m
-    JOIN MovieGenre mg ON mg.movie = m
-    LEFT JOIN MovieLike ml ON ml.movie.id = m.id
-    LEFT JOIN LineReview lr ON lr.movieId = m.id
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
+    WHERE m.id IN :movieIds AND m.isDeleted = 'FALSE'
+""")
+    List<GetSimpleMovieResp> findSimpleMoviesByIds(@Param("movieIds") Collection<Long> movieIds);
+
+    @Query("""
+    SELECT
+        m.id AS movieId,
+        m.title AS title,
+        CAST(COALESCE(ms.likeCount, 0) AS int) AS likes,
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int) AS lineReviews,
+        m.createdAt AS createdAt,
+        m.totalRating AS totalRating,
+        m.posterUrl AS posterUrl,
+        m.backdropUrl AS backdropUrl,
+        mg.popularity AS popularity,
+        mg.movieCreatedAt AS sortCreatedAt
+    FROM MovieGenre mg
+    JOIN mg.movie m
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
+    WHERE mg.genreId = :genreId
+    ORDER BY mg.popularity DESC, mg.movieCreatedAt DESC, mg.movie.id DESC
+""")
+    Slice<GetGenreMovieProjection> findMoviesByGenreIdFirstPage(@Param("genreId") Long genreId, Pageable pageable);
+
+    // popularity <= :popularity 조건으로 (genre_id, popularity, movie_created_at, movie_id) 인덱스 range scan 시작점을 잡음
+    @Query("""
+    SELECT
+        m.id AS movieId,
+        m.title AS title,
+        CAST(COALESCE(ms.likeCount, 0) AS int) AS likes,
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int) AS lineReviews,
+        m.createdAt AS createdAt,
+        m.totalRating AS totalRating,
+        m.posterUrl AS posterUrl,
+        m.backdropUrl AS backdropUrl,
+        mg.popularity AS popularity,
+        mg.movieCreatedAt AS sortCreatedAt
+    FROM MovieGenre mg
+    JOIN mg.movie m
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
     WHERE mg.genreId = :genreId
-    GROUP BY m.id, m.title, m.createdAt, m.totalRating, m.posterUrl, m.backdropUrl
-    HAVING (
-        :lastMovieId IS NULL AND :createdAt IS NULL
-        OR (m.createdAt < :createdAt)
+    AND mg.popularity <= :popularity
+    AND (
+        mg.popularity < :popularity
+        OR mg.movieCreatedAt < :createdAt
+        OR (mg.movieCreatedAt = :createdAt AND mg.movie.id < :lastMovieId)
     )
-    ORDER BY m.popularity DESC, m.createdAt DESC
+    ORDER BY mg.popularity DESC, mg.movieCreatedAt DESC, mg.movie.id DESC
 """)
-    Slice<GetSimpleMovieResp> findMoviesByGenreIdWithLikesUsingCursor(
+    Slice<GetGenreMovieProjection> findMoviesByGenreIdUsingCursor(
             @Param("genreId") Long genreId,
+            @Param("popularity") double popularity,
             @Param("createdAt") LocalDateTime createdAt,
             @Param("lastMovieId") Long lastMovieId,
             Pageable pageable
@@ -104,17 +145,15 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
         mpl.playlist.id AS playlistId,
         m.id AS movieId,
         m.title AS title,
-        CAST(COUNT(ml) AS int) AS likes,
-        CAST(COUNT(lr) AS int) AS lineReviews,
+        CAST(COALESCE(ms.likeCount, 0) AS int) AS likes,
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int) AS lineReviews,
         m.totalRating AS totalRating,
         m.posterUrl AS posterUrl,
         m.backdropUrl AS backdropUrl
     FROM Movie m
     JOIN MoviePlaylist mpl ON mpl.movie.id = m.id
-    LEFT JOIN MovieLike ml ON ml.movie.id = m.id
-    LEFT JOIN LineReview lr ON lr.movieId = m.id
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
     WHERE mpl.playlist.id IN :playlistIds
-    GROUP BY mpl.playlist.id, m.id, m.title, m.totalRating, m.posterUrl, m.backdropUrl
     ORDER BY m.id DESC
     """)
     List<GetSimpleMovieProjection> getMoviesByPlaylistIds(@Param("playlistIds") List<Long> playlistIds);
@@ -123,16 +162,14 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     SELECT
         m.id AS movieId,
         m.title AS title,
-        CAST(COUNT(ml) AS int) AS likes,
-        CAST(COUNT(lr) AS int) AS lineReviews,
+        CAST(COALESCE(ms.likeCount, 0) AS int) AS likes,
+        CAST(COALESCE(ms.lineReviewCount, 0) AS int) AS lineReviews,
         m.totalRating AS totalRating,
         m.posterUrl AS posterUrl,
         m.backdropUrl AS backdropUrl
     FROM Movie m
-    LEFT JOIN MovieLike ml ON ml.movie.id = m.id
-    LEFT JOIN LineReview lr ON lr.movieId = m.id
+    LEFT JOIN MovieStats ms ON ms.movieId = m.id
     WHERE (:lastMovieId IS NULL OR m.id < :lastMovieId)
-    GROUP BY m.id, m.title, m.totalRating, m.posterUrl, m.backdropUrl
     ORDER BY m.id DESC, :createdAt DESC
     """)
     List<GetSimpleMovieProjection> findMoviesOrderByCreatedAtUsingCursor(Long lastMovieId, LocalDateTime createdAt, Pageable pageable);
@@ -0,0 +1,252 @@
+package com.ureca.picky_be.base.persistence.movie;
+
+import com.ureca.picky_be.base.business.lineReview.dto.GenderLineReviewProjection;
+import com.ureca.picky_be.base.business.lineReview.dto.RatingLineReviewProjection;
+import com.ureca.picky_be.jpa.entity.movie.MovieStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MovieStatsRepository extends JpaRepository<MovieStats, Long> {
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO movie_stats (movie_id, like_count, line_review_count, rating_sum, rating_count, created_at, updated_at)
+    VALUES (:movieId, GREATEST(:delta, 0), 0, 0, 0, NOW(), NOW())
+    ON DUPLICATE KEY UPDATE
+        like_count = GREATEST(like_count + :delta, 0),
+        updated_at = NOW()
+    """, nativeQuery = true)
+    void addLikeCount(@Param("movieId") Long movieId, @Param("delta") long delta);
+
+    /**
+     * star: 정수 별점(1~5)이면 해당 값, 아니면 0 (별점 분포에 넣지 않음)
+     * gender: 한줄평에 저장된 작성 시점 성별 이름 (없으면 성별 없이 반영)
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO movie_stats (movie_id, like_count, line_review_count, rating_sum, rating_count,
+                             star1_count, star2_count, star3_count, star4_count, star5_count,
+                             male_rating_sum, male_rating_count, female_rating_sum, female_rating_count,
+                             breakdown_ready, created_at, updated_at)
+    SELECT :movieId, 0, GREATEST(:countDelta, 0), GREATEST(:ratingDelta, 0), GREATEST(:countDelta, 0),
+            IF(:star = 1, GREATEST(:countDelta, 0), 0),
+            IF(:star = 2, GREATEST(:countDelta, 0), 0),
+            IF(:star = 3, GREATEST(:countDelta, 0), 0),
+            IF(:star = 4, GREATEST(:countDelta, 0), 0),
+            IF(:star = 5, GREATEST(:countDelta, 0), 0),
+            IF(:gender = 'MALE', GREATEST(:ratingDelta, 0), 0),
+            IF(:gender = 'MALE', GREATEST(:countDelta, 0), 0),
+            IF(:gender = 'FEMALE', GREATEST(:ratingDelta, 0), 0),
+            IF(:gender = 'FEMALE', GREATEST(:countDelta, 0), 0),
+            TRUE, NOW(), NOW()
+    FROM DUAL
+    ON DUPLICATE KEY UPDATE
+        line_review_count = GREATEST(line_review_count + :countDelta, 0),
+        rating_sum = GREATEST(rating_sum + :ratingDelta, 0),
+        rating_count = GREATEST(rating_count + :countDelta, 0),
+        star1_count = GREATEST(star1_count + IF(:star = 1, :countDelta, 0), 0),
+        star2_count = GREATEST(star2_count + IF(:star = 2, :countDelta, 0), 0),
+        star3_count = GREATEST(star3_count + IF(:star = 3, :countDelta, 0), 0),
+        star4_count = GREATEST(star4_count + IF(:star = 4, :countDelta, 0), 0),
+        star5_count = GREATEST(star5_count + IF(:star = 5, :countDelta, 0), 0),
+        male_rating_sum = GREATEST(male_rating_sum + IF(:gender = 'MALE', :ratingDelta, 0), 0),
+        male_rating_count = GREATEST(male_rating_count + IF(:gender = 'MALE', :countDelta, 0), 0),
+        female_rating_sum = GREATEST(female_rating_sum + IF(:gender = 'FEMALE', :ratingDelta, 0), 0),
+        female_rating_count = GREATEST(female_rating_count + IF(:gender = 'FEMALE', :countDelta, 0), 0),
+        updated_at = NOW()
+    """, nativeQuery = true)
+    void addLineReview(@Param("movieId") Long movieId,
+                       @Param("countDelta") long countDelta,
+                       @Param("ratingDelta") double ratingDelta,
+                       @Param("star") int star,
+                       @Param("gender") String gender);
+
+    /**
+     * movie.total_rating을 movie_stats의 평균으로 맞춤 (한줄평이 없으면 0)
+     */
+    @Modifying
+    @Query(value = """
+    UPDATE movie m
+    JOIN movie_stats ms ON ms.movie_id = m.id
+    SET m.total_rating = IF(ms.rating_count = 0, 0, ms.rating_sum / ms.rating_count)
+    WHERE m.id = :movieId
+    """, nativeQuery = true)
+    void syncTotalRating(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE movie m
+    JOIN movie_stats ms ON ms.movie_id = m.id
+    SET m.total_rating = IF(ms.rating_count = 0, 0, ms.rating_sum / ms.rating_count)
+    WHERE m.id IN (SELECT lr.movie_id FROM line_review lr WHERE lr.user_id = :userId)
+    """, nativeQuery = true)
+    void syncTotalRatingsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE movie m
+    LEFT JOIN movie_stats ms ON ms.movie_id = m.id
+    SET m.total_rating = IF(COALESCE(ms.rating_count, 0) = 0, 0, ms.rating_sum / ms.rating_count)
+    """, nativeQuery = true)
+    int syncAllTotalRatings();
+
+    @Query("""
+    SELECT
+        CAST(ms.ratingCount AS int) AS totalCount,
+        CAST(ms.star1Count AS int) AS oneCount,
+        CAST(ms.star2Count AS int) AS twoCount,
+        CAST(ms.star3Count AS int) AS threeCount,
+        CAST(ms.star4Count AS int) AS fourCount,
+        CAST(ms.star5Count AS int) AS fiveCount
+    FROM MovieStats ms
+    WHERE ms.movieId = :movieId
+    """)
+    RatingLineReviewProjection findRatingByMovieId(@Param("movieId") Long movieId);
+
+    @Query("""
+    SELECT
+        CAST(ms.ratingCount AS int) AS totalCount,
+        CAST(ms.maleRatingCount AS int) AS maleCount,
+        CAST(ms.femaleRatingCount AS int) AS femaleCount,
+        CASE WHEN ms.maleRatingCount = 0 THEN 0.0 ELSE ms.maleRatingSum / ms.maleRatingCount END AS maleAverageRating,
+        CASE WHEN ms.femaleRatingCount = 0 THEN 0.0 ELSE ms.femaleRatingSum / ms.femaleRatingCount END AS femaleAverageRating
+    FROM MovieStats ms
+    WHERE ms.movieId = :movieId
+    """)
+    GenderLineReviewProjection findGenderRatingByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE movie_stats ms
+    JOIN movie_like ml ON ml.movie_id = ms.movie_id
+    SET ms.like_count = GREATEST(ms.like_count - 1, 0),
+        ms.updated_at = NOW()
+    WHERE ml.user_id = :userId
+    """, nativeQuery = true)
+    void subtractLikesByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE movie_stats ms
+    JOIN line_review lr ON lr.movie_id = ms.movie_id
+    LEFT JOIN user u ON u.id = lr.user_id
+    SET ms.line_review_count = GREATEST(ms.line_review_count - 1, 0),
+        ms.rating_sum = GREATEST(ms.rating_sum - lr.rating, 0),
+        ms.rating_count = GREATEST(ms.rating_count - 1, 0),
+        ms.star1_count = GREATEST(ms.star1_count - IF(lr.rating = 1, 1, 0), 0),
+        ms.star2_count = GREATEST(ms.star2_count - IF(lr.rating = 2, 1, 0), 0),
+        ms.star3_count = GREATEST(ms.star3_count - IF(lr.rating = 3, 1, 0), 0),
+        ms.star4_count = GREATEST(ms.star4_count - IF(lr.rating = 4, 1, 0), 0),
+        ms.star5_count = GREATEST(ms.star5_count - IF(lr.rating = 5, 1, 0), 0),
+        ms.male_rating_sum = GREATEST(ms.male_rating_sum - IF(COALESCE(lr.writer_gender, u.gender) = 'MALE', lr.rating, 0), 0),
+        ms.male_rating_count = GREATEST(ms.male_rating_count - IF(COALESCE(lr.writer_gender, u.gender) = 'MALE', 1, 0), 0),
+        ms.female_rating_sum = GREATEST(ms.female_rating_sum - IF(COALESCE(lr.writer_gender, u.gender) = 'FEMALE', lr.rating, 0), 0),
+        ms.female_rating_count = GREATEST(ms.female_rating_count - IF(COALESCE(lr.writer_gender, u.gender) = 'FEMALE', 1, 0), 0),
+        ms.updated_at = NOW()
+    WHERE lr.user_id = :userId AND lr.is_deleted = 'FALSE'
+    """, nativeQuery = true)
+    void subtractLineReviewsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO movie_stats (movie_id, like_count, line_review_count, rating_sum, rating_count,
+                             star1_count, star2_count, star3_count, star4_count, star5_count,
+                             male_rating_sum, male_rating_count, female_rating_sum, female_rating_count,
+                             breakdown_ready, created_at, updated_at)
+    SELECT
+        m.id,
+        (SELECT COUNT(*) FROM movie_like ml WHERE ml.movie_id = m.id),
+        COALESCE(r.review_count, 0),
+        COALESCE(r.rating_sum, 0),
+        COALESCE(r.review_count, 0),
+        COALESCE(r.star1, 0),
+        COALESCE(r.star2, 0),
+        COALESCE(r.star3, 0),
+        COALESCE(r.star4, 0),
+        COALESCE(r.star5, 0),
+        COALESCE(r.male_sum, 0),
+        COALESCE(r.male_count, 0),
+        COALESCE(r.female_sum, 0),
+        COALESCE(r.female_count, 0),
+        TRUE,
+        NOW(),
+        NOW()
+    FROM movie m
+    LEFT JOIN (
+        SELECT
+            lr.movie_id,
+            COUNT(*) AS review_count,
+            SUM(lr.rating) AS rating_sum,
+            SUM(lr.rating = 1) AS star1,
+            SUM(lr.rating = 2) AS star2,
+            SUM(lr.rating = 3) AS star3,
+            SUM(lr.rating = 4) AS star4,
+            SUM(lr.rating = 5) AS star5,
+            SUM(IF(COALESCE(lr.writer_gender, u.gender) = 'MALE', lr.rating, 0)) AS male_sum,
+            SUM(COALESCE(lr.writer_gender, u.gender) = 'MALE') AS male_count,
+            SUM(IF(COALESCE(lr.writer_gender, u.gender) = 'FEMALE', lr.rating, 0)) AS female_sum,
+            SUM(COALESCE(lr.writer_gender, u.gender) = 'FEMALE') AS female_count
+        FROM line_review lr
+        LEFT JOIN user u ON u.id = lr.user_id
+        WHERE lr.is_deleted = 'FALSE'
+        GROUP BY lr.movie_id
+    ) r ON r.movie_id = m.id
+    ON DUPLICATE KEY UPDATE
+        like_count = VALUES(like_count),
+        line_review_count = VALUES(line_review_count),
+        rating_sum = VALUES(rating_sum),
+        rating_count = VALUES(rating_count),
+        star1_count = VALUES(star1_count),
+        star2_count = VALUES(star2_count),
+        star3_count = VALUES(star3_count),
+        star4_count = VALUES(star4_count),
+        star5_count = VALUES(star5_count),
+        male_rating_sum = VALUES(male_rating_sum),
+        male_rating_count = VALUES(male_rating_count),
+        female_rating_sum = VALUES(female_rating_sum),
+        female_rating_count = VALUES(female_rating_count),
+        breakdown_ready = TRUE,
+        updated_at = NOW()
+    """, nativeQuery = true)
+    int rebuildAll();
+
+    // 별점 분포/성별 집계 컬럼 추가 전에 만들어진 행만 line_review로 다시 세어 채움 (대상 행이 없으면 집계 서브쿼리도 실행되지 않음)
+    @Modifying
+    @Query(value = """
+    UPDATE movie_stats ms
+    LEFT JOIN (
+        SELECT
+            lr.movie_id,
+            SUM(lr.rating = 1) AS star1,
+            SUM(lr.rating = 2) AS star2,
+            SUM(lr.rating = 3) AS star3,
+            SUM(lr.rating = 4) AS star4,
+            SUM(lr.rating = 5) AS star5,
+            SUM(IF(COALESCE(lr.writer_gender, u.gender) = 'MALE', lr.rating, 0)) AS male_sum,
+            SUM(COALESCE(lr.writer_gender, u.gender) = 'MALE') AS male_count,
+            SUM(IF(COALESCE(lr.writer_gender, u.gender) = 'FEMALE', lr.rating, 0)) AS female_sum,
+            SUM(COALESCE(lr.writer_gender, u.gender) = 'FEMALE') AS female_count
+        FROM line_review lr
+        LEFT JOIN user u ON u.id = lr.user_id
+        WHERE lr.is_deleted = 'FALSE'
+        GROUP BY lr.movie_id
+    ) r ON r.movie_id = ms.movie_id
+    SET ms.star1_count = COALESCE(r.star1, 0),
+        ms.star2_count = COALESCE(r.star2, 0),
+        ms.star3_count = COALESCE(r.star3, 0),
+        ms.star4_count = COALESCE(r.star4, 0),
+        ms.star5_count = COALESCE(r.star5, 0),
+        ms.male_rating_sum = COALESCE(r.male_sum, 0),
+        ms.male_rating_count = COALESCE(r.male_count, 0),
+        ms.female_rating_sum = COALESCE(r.female_sum, 0),
+        ms.female_rating_count = COALESCE(r.female_count, 0),
+        ms.breakdown_ready = TRUE,
+        ms.updated_at = NOW()
+    WHERE ms.breakdown_ready IS NULL
+    """, nativeQuery = true)
+    int backfillRatingBreakdowns();
+}
@@ -0,0 +1,105 @@
+package com.ureca.picky_be.base.persistence.search;
+
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * search_outbox 조회/저장
+ * 대량 등록 청크처럼 한 트랜잭션에서 여러 행을 쓰는 경우가 많아 batch insert를 쓰기 위해 JDBC 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchOutboxJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public record PendingRow(long id, SearchIndexTarget target, long documentId, int attempts) {
+    }
+
+    public record Backlog(long pending, LocalDateTime oldestCreatedAt) {
+    }
+
+    public int[] batchInsert(SearchIndexTarget target, Collection<Long> documentIds) {
+        return jdbcTemplate.batchUpdate("""
+                INSERT INTO search_outbox (target, document_id, attempts, next_attempt_at, created_at, updated_at)
+                VALUES (?, ?, 0, NOW(), NOW(), NOW())
+                """,
+                documentIds.stream()
+                        .map(documentId -> new Object[]{target.name(), documentId})
+                        .toList());
+    }
+
+    /**
+     * 처리할 차례가 된 행을 먼저 들어온 순서로 limit개 잠금
+     * 여러 인스턴스가 동시에 돌아도 같은 행을 잡지 않도록 SKIP LOCKED (트랜잭션 안에서 호출)
+     */
+    public List<PendingRow> lockDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, target, document_id, attempts FROM search_outbox
+                WHERE next_attempt_at <= ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new PendingRow(
+                        rs.getLong("id"),
+                        SearchIndexTarget.valueOf(rs.getString("target")),
+                        rs.getLong("document_id"),
+                        rs.getInt("attempts")
+                ),
+                Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * 잠근 행을 leaseUntil까지 다른 인스턴스가 가져가지 않도록 미룸 (처리 중에 죽으면 lease가 끝난 뒤 다시 처리됨)
+     */
+    public int lease(Collection<Long> ids, LocalDateTime leaseUntil) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.addAll(ids);
+        return jdbcTemplate.update("UPDATE search_outbox SET next_attempt_at = ? WHERE id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM search_outbox WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    public int[] markRetry(List<PendingRow> rows, List<LocalDateTime> nextAttemptAts, String lastError) {
+        String error = lastError == null ? null : lastError.substring(0, Math.min(lastError.length(), 1000));
+        Object[][] args = new Object[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            args[i] = new Object[]{Timestamp.valueOf(nextAttemptAts.get(i)), error, rows.get(i).id()};
+        }
+        return jdbcTemplate.batchUpdate("""
+                UPDATE search_outbox
+                SET attempts = attempts + 1, next_attempt_at = ?, last_error = ?, updated_at = NOW()
+                WHERE id = ?
+                """, List.of(args));
+    }
+
+    public Backlog getBacklog() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM search_outbox",
+                (rs, rowNum) -> {
+                    Timestamp oldest = rs.getTimestamp("oldest");
+                    return new Backlog(rs.getLong("pending"), oldest == null ? null : oldest.toLocalDateTime());
+                });
+    }
+}
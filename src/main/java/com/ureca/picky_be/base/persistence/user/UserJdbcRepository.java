@@ -0,0 +1,75 @@
+package com.ureca.picky_be.base.persistence.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 엔티티를 만들지 않고 사용자 행을 읽는 JDBC 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 색인 재구성용 keyset 스캔. 닉네임이 있는(가입 완료) 사용자만 id > afterId 순으로 limit개,
+     * updatedSince가 있으면 그 이후 수정된 사용자만
+     */
+    public void scanUsersForSearch(long afterId, LocalDateTime updatedSince, int limit, RowCallbackHandler handler) {
+        String select = """
+                SELECT id, email, nickname, role, status FROM `user`
+                WHERE id > ? AND nickname IS NOT NULL
+                """;
+        if (updatedSince == null) {
+            jdbcTemplate.query(select + " ORDER BY id LIMIT ?", handler, afterId, limit);
+            return;
+        }
+        jdbcTemplate.query(select + " AND updated_at >= ? ORDER BY id LIMIT ?", handler,
+                afterId, Timestamp.valueOf(updatedSince), limit);
+    }
+
+    /**
+     * 재색인 삭제 대조용. 주어진 id 중 아직 검색 문서가 되는(닉네임이 있는) 사용자 id
+     */
+    public List<Long> findSearchableUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM `user`
+                WHERE nickname IS NOT NULL AND id IN (%s)
+                """.formatted(placeholders), Long.class, userIds.toArray());
+    }
+
+    /**
+     * 로컬 닉네임 색인용. 검색에 노출되는 사용자(ADMIN, SUSPENDED 제외)를 최근 가입순으로 limit개
+     */
+    public void scanSearchableNicknames(int limit, RowCallbackHandler handler) {
+        jdbcTemplate.query("""
+                SELECT id, nickname FROM `user`
+                WHERE nickname IS NOT NULL AND role <> 'ADMIN' AND (status IS NULL OR status <> 'SUSPENDED')
+                ORDER BY id DESC
+                LIMIT ?
+                """, handler, limit);
+    }
+
+    public void scanUsersForSearch(Collection<Long> userIds, RowCallbackHandler handler) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        jdbcTemplate.query("""
+                SELECT id, email, nickname, role, status FROM `user`
+                WHERE nickname IS NOT NULL AND id IN (%s)
+                """.formatted(placeholders), handler, userIds.toArray());
+    }
+}
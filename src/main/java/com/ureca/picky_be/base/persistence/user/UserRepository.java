@@ -1,6 +1,7 @@
 package com.ureca.picky_be.base.persistence.user;
 
 import com.ureca.picky_be.base.business.user.dto.UserInfoProjection;
+import com.ureca.picky_be.jpa.entity.user.Gender;
 import com.ureca.picky_be.jpa.entity.user.SocialPlatform;
 import com.ureca.picky_be.jpa.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,4 +22,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u.id AS id, u.nickname AS nickname, u.profileUrl AS profileUrl, u.role AS role FROM User u WHERE u.id = :userId")
     UserInfoProjection findUserInfoById(@Param("userId") Long userId);
+
+    @Query("SELECT u.gender FROM User u WHERE u.id = :userId")
+    Gender findGenderById(@Param("userId") Long userId);
 }
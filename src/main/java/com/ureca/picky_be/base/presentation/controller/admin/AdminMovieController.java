@@ -0,0 +1,52 @@
+package com.ureca.picky_be.base.presentation.controller.admin;
+
+import com.ureca.picky_be.base.business.movie.MovieImportUseCase;
+import com.ureca.picky_be.base.business.movie.MovieUseCase;
+import com.ureca.picky_be.base.business.movie.dto.GetMovieImportJobResp;
+import com.ureca.picky_be.global.success.SuccessCode;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/movie")
+public class AdminMovieController {
+
+    private final MovieUseCase movieUseCase;
+    private final MovieImportUseCase movieImportUseCase;
+
+    @Operation(summary = "영화 통계 재집계", description = "movie_like, line_review 원본으로 movie_stats(좋아요 수, 한줄평 수, 평점 합계, 별점 분포, 성별 평점)를 다시 계산하고 movie.total_rating을 평균 평점으로 맞춥니다.")
+    @PostMapping("/stats/rebuild")
+    public SuccessCode rebuildMovieStats() {
+        return movieUseCase.rebuildMovieStats();
+    }
+
+    @Operation(summary = "장르 인덱스 재적재", description = "장르 사전과 영화별 장르 인덱스를 DB에서 다시 읽습니다. 장르 테이블을 직접 수정한 뒤 호출하세요.")
+    @PostMapping("/genres/reload")
+    public SuccessCode reloadGenreIndex() {
+        return movieUseCase.reloadGenreIndex();
+    }
+
+    @Operation(summary = "영화 대량 등록", description = "요청 본문: NDJSON(한 줄에 영화 등록 요청 JSON 하나). chunkSize 줄마다 커밋하며 작업은 백그라운드에서 진행됩니다.")
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public GetMovieImportJobResp importMovies(HttpServletRequest request,
+                                              @RequestParam(defaultValue = "500") int chunkSize) throws IOException {
+        return movieImportUseCase.startImport(request.getInputStream(), chunkSize);
+    }
+
+    @Operation(summary = "영화 대량 등록 진행 상황", description = "커밋된 줄 수, 등록된 영화 수, 건너뛴 줄 수, 초당 처리 줄 수를 반환합니다.")
+    @GetMapping("/import/{jobId}")
+    public GetMovieImportJobResp getImportJob(@PathVariable Long jobId) {
+        return movieImportUseCase.getImportJob(jobId);
+    }
+
+    @Operation(summary = "영화 대량 등록 재개", description = "실패했거나 서버 재시작으로 중단된 작업을 마지막으로 커밋된 줄 다음부터 다시 진행합니다.")
+    @PostMapping("/import/{jobId}/resume")
+    public GetMovieImportJobResp resumeImport(@PathVariable Long jobId) {
+        return movieImportUseCase.resumeImport(jobId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ureca.picky_be.base.presentation.controller.admin;
+
+import com.ureca.picky_be.base.business.search.SearchReindexUseCase;
+import com.ureca.picky_be.base.business.search.dto.GetSearchReindexJobResp;
+import com.ureca.picky_be.jpa.entity.search.SearchIndexTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/search")
+public class AdminSearchController {
+
+    private final SearchReindexUseCase searchReindexUseCase;
+
+    @Operation(summary = "검색 인덱스 재색인", description = "target: MOVIE 또는 USER. MySQL 데이터를 새 버전 인덱스에 batchSize개씩 concurrency개의 동시 bulk 요청으로 적재한 뒤 alias를 교체합니다. 작업은 백그라운드에서 진행됩니다.")
+    @PostMapping("/reindex/{target}")
+    public GetSearchReindexJobResp startReindex(@PathVariable SearchIndexTarget target,
+                                                @RequestParam(defaultValue = "1000") int batchSize,
+                                                @RequestParam(defaultValue = "2") int concurrency) {
+        return searchReindexUseCase.startReindex(target, batchSize, concurrency);
+    }
+
+    @Operation(summary = "검색 인덱스 재색인 진행 상황", description = "대상별 마지막 재색인 작업의 처리 문서 수, 실패 수, 초당 색인 문서 수를 반환합니다.")
+    @GetMapping("/reindex/{target}")
+    public GetSearchReindexJobResp getReindexJob(@PathVariable SearchIndexTarget target) {
+        return searchReindexUseCase.getReindexJob(target);
+    }
+}
@@ -70,6 +70,15 @@ public class BoardController {
         return boardUseCase.getBoards(PageRequest.ofSize(size), lastBoardId);
     }
 
+    @GetMapping("/feed")
+    @Operation(summary = "홈 피드용 API", description = "내가 팔로우한 사용자들과 내가 작성한 무비 로그들을 최신순으로 가져오는 API입니다. 삭제된 게시글은 빠지므로 size보다 적게 올 수 있고, 다음 페이지는 hasNext로 판단합니다.")
+    public Slice<GetBoardInfoResp> getFeed(
+            @Parameter(description = "0 < size <= 10") @RequestParam(defaultValue = "10", required = false) int size,
+            @RequestParam(required = false) Long lastBoardId) {
+
+        return boardUseCase.getFeed(PageRequest.ofSize(size), lastBoardId);
+    }
+
     @GetMapping("/{boardId}/comments")
     @Operation(summary = "댓글 조회용 API", description = "특정 무비 로그에 대한 댓글들을 조회하는 API입니다.")
     public Slice<GetAllBoardCommentsResp> getBoardsComments (
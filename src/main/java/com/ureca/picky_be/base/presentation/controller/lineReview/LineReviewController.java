@@ -43,9 +43,9 @@ public class LineReviewController {
         - size: 0~10 사이의 값으로 설정 기본값: 10).
         - 정렬 방식:
           - LATEST: 최신순으로 정렬.  `lastReviewId`와 `lastCreatedAt`이 모두 필요.
-          - LIKES: 좋아요가 많은 순으로 정렬. `lastReviewId`만 필요하며, `lastCreatedAt`은 사용하지 않음.
+          - LIKES: 좋아요가 많은 순으로 정렬. `lastReviewId`와 `lastLikeCount`(마지막 리뷰의 likes)가 필요하며, `lastCreatedAt`은 사용하지 않음.
         - 처음 요청에는 `lastReviewId`와 `lastCreatedAt`이 필요하지 않으며, null로 설정.
-        - 다음 페이지 요청 시, 마지막 리뷰 정보를 기반으로 `lastReviewId`를 반드시 포함해야 하며, LATEST 정렬의 경우 `lastCreatedAt`도 포함해야 함.
+        - 다음 페이지 요청 시, 마지막 리뷰 정보를 기반으로 `lastReviewId`를 반드시 포함해야 하며, LATEST 정렬의 경우 `lastCreatedAt`, LIKES 정렬의 경우 `lastLikeCount`도 포함해야 함.
         """
     )
 
@@ -56,12 +56,13 @@ public class LineReviewController {
             @Parameter(description = """
             정렬 방식:
             - LATEST: 최신순 정렬 (lastReviewId와 lastCreatedAt 필요)
-            - LIKES: 좋아요 많은 순 정렬 (lastReviewId만 필요)
+            - LIKES: 좋아요 많은 순 정렬 (lastReviewId와 lastLikeCount 필요)
         """) @RequestParam(defaultValue = "LATEST") SortType sortType,
             @RequestParam(required = false) Long lastReviewId,
-            @RequestParam(required = false) LocalDateTime lastCreatedAt) {
+            @RequestParam(required = false) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) Long lastLikeCount) {
 
-        LineReviewQueryRequest queryReq = new LineReviewQueryRequest(movieId, lastReviewId, lastCreatedAt, sortType);
+        LineReviewQueryRequest queryReq = new LineReviewQueryRequest(movieId, lastReviewId, lastCreatedAt, lastLikeCount, sortType);
 
         return lineReviewUseCase.getLineReviewsByMovie(PageRequest.ofSize(size), queryReq);
     }
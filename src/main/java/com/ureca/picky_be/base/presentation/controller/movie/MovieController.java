@@ -3,6 +3,9 @@ package com.ureca.picky_be.base.presentation.controller.movie;
 import com.ureca.picky_be.base.business.movie.MovieUseCase;
 import com.ureca.picky_be.base.business.movie.dto.*;
 import com.ureca.picky_be.global.success.SuccessCode;
+import com.ureca.picky_be.global.web.CatalogResource;
+import com.ureca.picky_be.global.web.ConditionalGet;
+import com.ureca.picky_be.jpa.entity.platform.PlatformType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,7 @@ public class MovieController {
 
     @Operation(summary = "영화 상세 정보", description = "영화 상세 정보 api - 담당자 김")
     @GetMapping("/{movieId}")
+    @ConditionalGet(CatalogResource.MOVIE_DETAIL)
     public GetMovieDetailResp getMovieDetails(@PathVariable Long movieId) {
         return movieUseCase.getMovieDetail(movieId);
     }
@@ -45,16 +49,32 @@ public class MovieController {
 
     @Operation(summary = "영화 top10", description = "평점 기준 top 10 보냅니다 (임시입니다 나중에 멋진 로직 짤 예정)")
     @GetMapping("/top10")
+    @ConditionalGet(CatalogResource.TOP10)
     public List<GetSimpleMovieResp> getTop10Movies() {
         return movieUseCase.getTop10();
     }
 
-    @Operation(summary = "영화 장르별 조회", description = "영화 장르별 조회")
+    @Operation(summary = "영화 장르별 조회", description = "영화 장르별 조회 - 인기순 12개씩. cursor: 첫 요청이라면 생략, 아니라면 이전 응답의 nextCursor")
     @GetMapping("/genre")
-    public Slice<GetSimpleMovieResp> getMoviesByGenre(@RequestParam Long genreId,
-                                                      @RequestParam(required = false) Long lastMovieId,
-                                                      @RequestParam(required = false) LocalDateTime createdAt) {
-        return movieUseCase.getMoviesByGenre(genreId, lastMovieId, createdAt);
+    public GetMoviesByGenreResp getMoviesByGenre(@RequestParam Long genreId,
+                                                 @RequestParam(required = false) String cursor) {
+        return movieUseCase.getMoviesByGenre(genreId, cursor);
+    }
+
+    @Operation(summary = "영화 다중 조건 필터", description = "장르/플랫폼/원어/개봉연도/평점 조건으로 영화를 인기순 조회. 같은 조건 안에서는 OR, 조건끼리는 AND. facets: 결과 안에서 조건 값별 영화 수")
+    @GetMapping("/filter")
+    public GetFilteredMoviesResp getFilteredMovies(
+            @RequestParam(required = false) List<Long> genreIds,
+            @RequestParam(required = false) List<PlatformType> platforms,
+            @RequestParam(required = false) List<String> languages,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Double maxRating,
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "0 < size <= 50") @RequestParam(defaultValue = "20") int size) {
+        GetMovieFilterReq req = new GetMovieFilterReq(genreIds, platforms, languages, yearFrom, yearTo, minRating, maxRating, page, size);
+        return movieUseCase.getFilteredMovies(req);
     }
 
     @Operation(summary = "영화 좋아요", description = "영화 좋아요 혹은 좋아요 취소. return true일 시 좋아요 눌린 상태, false일 시 좋아요 안 눌린 상태")
@@ -82,4 +102,33 @@ public class MovieController {
         return movieUseCase.getSearchMovies(keyword);
     }
 
+    @GetMapping("/search/page")
+    @Operation(summary = "영화 검색 (커서 페이지) - Elastic Search", description = "nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다. totalHitsExact가 false면 totalHits는 상한값입니다.")
+    public GetSearchMoviesPageResp getSearchMoviesPage(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return movieUseCase.getSearchMoviesPage(keyword, cursor, size);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "영화 제목 자동완성", description = "입력한 접두어로 시작하는 영화 제목을 인기순으로 최대 size개 반환합니다.")
+    public List<GetMovieSuggestResp> getMovieSuggestions(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return movieUseCase.getMovieSuggestions(prefix, size);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "실시간 트렌딩 영화", description = "최근 24시간의 좋아요, 한줄평, 무비로그 작성을 최근일수록 높게 쳐서 점수순으로 최대 size개 반환합니다.")
+    public List<GetSimpleMovieResp> getTrendingMovies(@RequestParam(value = "size", defaultValue = "10") int size) {
+        return movieUseCase.getTrendingMovies(size);
+    }
+
+    @GetMapping("/cards")
+    @Operation(summary = "영화 카드 여러 개 조회", description = "ids로 넘긴 영화들의 카드(포스터, 제목, 평점 등)를 요청한 순서대로 반환합니다. 없는 영화는 제외됩니다.")
+    public List<GetSimpleMovieResp> getMovieCards(@RequestParam("ids") List<Long> movieIds) {
+        return movieUseCase.getMovieCards(movieIds);
+    }
+
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.ureca.picky_be.base.business.movie.dto.GetGenres;
 import com.ureca.picky_be.base.business.user.UserUseCase;
 import com.ureca.picky_be.base.business.user.dto.*;
 import com.ureca.picky_be.global.success.SuccessCode;
+import com.ureca.picky_be.global.web.CatalogResource;
+import com.ureca.picky_be.global.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -49,6 +51,7 @@ public class UserController {
 
     @Operation(summary ="장르 전체 리스트 반환", description = "회원가입 때 쓸 일 있으시면 쓰세요.")
     @GetMapping("/genres")
+    @ConditionalGet(CatalogResource.GENRES)
     public List<GetGenres> getGenres() {
         return movieUseCase.getGenres();
     }
@@ -8,6 +8,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -47,5 +48,60 @@ public class AsyncConfig implements AsyncConfigurer {
         return new DelegatingSecurityContextExecutor(executor);
     }
 
+    @Bean(name = "tmdbExecutor")
+    public Executor tmdbExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8); // TMDB 동시 호출 수 상한
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("TMDB Executor");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "movieImportExecutor")
+    public Executor movieImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1); // 대량 등록은 한 번에 한 작업씩
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("Movie Import Executor");
+        executor.initialize();
+        return executor;
+    }
 
+    @Bean(name = "searchReindexExecutor")
+    public Executor searchReindexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); // 대상(MOVIE, USER)별로 하나씩
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Search Reindex Executor");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(0); // 다 차면 기다리지 않고 로컬 색인으로 대체
+        executor.setThreadNamePrefix("Search Executor");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "timelineExecutor")
+    public Executor timelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000); // 팬아웃이 밀려도 게시글 작성 응답은 기다리지 않음
+        // 큐까지 차면 버리지 않고 호출 스레드에서 실행 (버려지거나 실패한 팬아웃은 outbox 재시도가 다시 처리)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("Timeline Executor");
+        executor.initialize();
+        return executor;
+    }
 }
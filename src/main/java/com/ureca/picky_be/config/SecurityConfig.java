@@ -105,6 +105,12 @@ public class SecurityConfig {
 
     };
 
+    // AUTH_WHITELIST_GET의 "/api/v1/board/*"에 걸리지 않도록 화이트리스트보다 먼저 검사
+    private static final String[] AUTH_USER_GET = {
+            // BOARD
+            "/api/v1/board/feed"
+    };
+
     private static final String[] AUTH_USER_PATCH = {
             //user
             "/api/v1/user",
@@ -112,7 +118,8 @@ public class SecurityConfig {
     };
 
     private static final String[] AUTH_ADMIN = {
-            "/api/v1/admin/**"
+            "/api/v1/admin/**",
+            "/actuator/**"
     };
 
     private static final String[] AUTH_ADMIN_POST = {
@@ -126,6 +133,7 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(AUTH_WHITELIST).permitAll()
+                        .requestMatchers(HttpMethod.GET, AUTH_USER_GET).hasAnyAuthority("USER", "CRITIC", "ADMIN")
                         .requestMatchers(HttpMethod.GET, AUTH_WHITELIST_GET).permitAll()
                         .requestMatchers(AUTH_USER).hasAnyAuthority("USER", "CRITIC", "ADMIN")
                         .requestMatchers(HttpMethod.PATCH, AUTH_USER_PATCH).hasAnyAuthority("USER", "CRITIC", "ADMIN")
@@ -27,6 +27,10 @@ public class MovieDocument {
     @Field(type = FieldType.Text, analyzer = "mixed_ngram_analyzer", searchAnalyzer = "nori_mixed_analyzer")
     private String title;
 
+    // 자동완성 정렬용
+    @Field(type = FieldType.Double)
+    private Double popularity;
+
     @Field(type = FieldType.Date, format = DateFormat.date_optional_time)
     @JsonProperty("release_date") // Elasticsearch 필드 이름과 일치
     private Date releaseDate;
@@ -0,0 +1,112 @@
+package com.ureca.picky_be.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 제한이 있는 LRU 캐시
+ * 로딩 중에 그 키가 무효화되면 로딩 결과를 캐시에 넣지 않아 오래된 값이 다시 들어가는 것을 막는다.
+ * 무효화 시점은 키별로 남겨 다른 키의 무효화 때문에 로딩 결과를 버리지 않음
+ * (기록은 maxSize개까지만 두고, 밀려난 기록의 시점은 floor로 합쳐 그 이전에 시작한 로딩은 모두 버림)
+ */
+public class LruCache<K, V> {
+    private final Map<K, V> entries;
+    private final Map<K, Long> invalidatedAt;
+    private long invalidations = 0L;
+    private long floor = 0L;
+
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.invalidatedAt = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                if (size() > maxSize) {
+                    floor = Math.max(floor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public V getOrLoad(K key, Function<K, V> loader) {
+        long stamp;
+        synchronized (this) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            stamp = invalidations;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            if (!isInvalidatedSince(key, stamp)) {
+                entries.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 키를 한 번에 로딩할 때 로딩 전에 받아두고 putAllIfNotInvalidatedSince에 넘긴다.
+     */
+    public synchronized long invalidationStamp() {
+        return invalidations;
+    }
+
+    /**
+     * stamp 이후 무효화된 키만 빼고 넣음
+     */
+    public synchronized void putAllIfNotInvalidatedSince(long stamp, Map<K, V> loaded) {
+        loaded.forEach((key, value) -> {
+            if (!isInvalidatedSince(key, stamp)) {
+                entries.put(key, value);
+            }
+        });
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        // 삽입 순서로 밀려나도록 지우고 다시 넣음
+        invalidatedAt.remove(key);
+        invalidatedAt.put(key, invalidations);
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        floor = invalidations;
+        invalidatedAt.clear();
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isInvalidatedSince(K key, long stamp) {
+        return floor > stamp || invalidatedAt.getOrDefault(key, 0L) > stamp;
+    }
+}
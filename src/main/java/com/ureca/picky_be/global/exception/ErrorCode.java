@@ -40,6 +40,15 @@ public enum ErrorCode {
     MOVIE_LIKE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MOV002", "영화 좋아요/취소에 실패했습니다."),
     MOVIE_LIKE_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "MOV003", "movieLikeId는 0보다 큰 값이어야 합니다."),
     MOVIE_EXISTS(HttpStatus.BAD_REQUEST, "MOV004", "해당 id를 가진 영화가 이미 존재합니다."),
+    MOVIE_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "MOV005", "유효하지 않은 커서입니다."),
+    MOVIE_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "MOV006", "해당 영화 등록 작업이 존재하지 않습니다."),
+    MOVIE_IMPORT_FILE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MOV007", "영화 등록 파일을 저장하거나 읽는데 실패했습니다."),
+    MOVIE_IMPORT_ALREADY_RUNNING(HttpStatus.CONFLICT, "MOV008", "이미 실행 중인 영화 등록 작업입니다."),
+    MOVIE_IMPORT_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "MOV009", "이미 완료된 영화 등록 작업입니다."),
+    MOVIE_IMPORT_INVALID_CHUNK_SIZE(HttpStatus.BAD_REQUEST, "MOV010", "chunkSize는 1 이상 5000 이하여야 합니다."),
+    MOVIE_INVALID_FILTER(HttpStatus.BAD_REQUEST, "MOV011", "유효하지 않은 영화 필터 조건입니다."),
+    MOVIE_INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "MOV012", "검색어를 입력해주세요."),
+    MOVIE_INVALID_CARD_IDS(HttpStatus.BAD_REQUEST, "MOV013", "조회할 영화 id는 1개 이상, 최대 개수 이하로 입력해주세요."),
 
     // FILM CREW
     ACTOR_NOT_FOUND(HttpStatus.NOT_FOUND, "CRW001", "해당 영화의 배우를 찾을 수 없습니다"),
@@ -55,6 +64,7 @@ public enum ErrorCode {
     BOARD_IS_DELETED(HttpStatus.BAD_REQUEST, "BOD007", "삭제된 게시물입니다."),
     BOARD_USER_ID_GET_FAILED(HttpStatus.BAD_REQUEST, "BOD009", "특정 사용자가 작성한 게시물들을 가져오는데에 실패했습니다."),
     BOARD_COUNT_FAIL(HttpStatus.BAD_REQUEST, "BOD010", "특정 사용자가 작성한 게시물 갯수를 가져오는데에 실패했습니다."),
+    BOARD_FEED_GET_FAILED(HttpStatus.BAD_REQUEST, "BOD011", "홈 피드 게시물들을 가져오는데에 실패했습니다."),
 
     // BOARD_CONTENT
     INVALID_CONTENT_TYPE(HttpStatus.BAD_REQUEST, "BDC001","PHOTO, VIDEO값만 가능합니다"),
@@ -96,12 +106,14 @@ public enum ErrorCode {
     LINEREVIEW_INVALID_CURSOR1(HttpStatus.BAD_REQUEST, "LR008", "lastReviewId와 lastCreatedAt는 함께 제공되어야 합니다."),
     LINEREVIEW_INVALID_CURSOR2(HttpStatus.BAD_REQUEST, "LR009", "lastReviewId는 0보다 큰 값이어야 합니다."),
     LINEREVIEW_INVALID_CURSOR3(HttpStatus.BAD_REQUEST, "LR010", "lastCreatedAt은 현재 시점 이전이어야 합니다."),
+    LINEREVIEW_INVALID_CURSOR4(HttpStatus.BAD_REQUEST, "LR017", "LIKES 정렬에서는 lastReviewId와 0 이상의 lastLikeCount가 함께 제공되어야 합니다."),
     LINEREVIEW_INVALID_SORT(HttpStatus.BAD_REQUEST, "LR011", "유효하지 않은 정렬 방식입니다"),
     LINEREVIEW_GET_FAILED(HttpStatus.BAD_REQUEST, "LR012", "한줄평 조회에 실패했습니다."),
     LINEREVIEW_GENDER_QUERY_FAILED(HttpStatus.BAD_REQUEST, "LR013", "한줄평 성별에 따른 조회에 실패했습니다."),
     LINEREVIEW_RATING_QUERY_FAILED(HttpStatus.BAD_REQUEST, "LR014", "한줄평 평점별 조회에 실패했습니다."),
     LINEREVIEW_DELETE_FAILED(HttpStatus.BAD_REQUEST, "LR015", "한줄평 삭제에 실패했습니다."),
     LINEREVIEW_DELETE_FAILED_USER(HttpStatus.BAD_REQUEST, "LR016", "본인글만 삭제가 가능합니다."),
+    LINEREVIEW_DELETE_PENDING(HttpStatus.CONFLICT, "LR018", "삭제 처리 중인 한줄평이 있습니다. 잠시 후 다시 작성해주세요."),
 
 
     //LineReviewLike
@@ -134,7 +146,11 @@ public enum ErrorCode {
 
     //ElasticSearch
     ELASTIC_MOVIE_CREATE_FAILED(HttpStatus.BAD_REQUEST,"EMC001","엘라스틱 서치 무비 생성 실패"),
-    ELASTIC_USER_CREATE_FAILED(HttpStatus.BAD_REQUEST,"EMC002","엘라스틱 서치 유저 생성 실패")
+    ELASTIC_USER_CREATE_FAILED(HttpStatus.BAD_REQUEST,"EMC002","엘라스틱 서치 유저 생성 실패"),
+    ELASTIC_MOVIE_SEARCH_FAILED(HttpStatus.SERVICE_UNAVAILABLE,"EMC003","엘라스틱 서치 영화 검색 실패"),
+    SEARCH_REINDEX_ALREADY_RUNNING(HttpStatus.CONFLICT,"EMC004","이미 실행 중인 재색인 작업입니다."),
+    SEARCH_REINDEX_JOB_NOT_FOUND(HttpStatus.NOT_FOUND,"EMC005","해당 대상의 재색인 작업이 존재하지 않습니다."),
+    SEARCH_REINDEX_INVALID_OPTION(HttpStatus.BAD_REQUEST,"EMC006","batchSize는 1 이상 10000 이하, concurrency는 1 이상 8 이하여야 합니다.")
 
     ;
 
@@ -0,0 +1,189 @@
+package com.ureca.picky_be.global.search;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+
+/**
+ * 짧은 문자열(영화 제목, 닉네임)용 불변 bigram 역색인
+ * - 문서마다 ordinal을 배정하고 id, 원문, 정렬 점수(rank)를 primitive 배열에 보관
+ * - bigram(문자 두 개를 int 하나로)마다 ordinal 목록을 CSR 형태(grams/offsets/postings)로 이어 붙여 객체 생성 없이 보관
+ * - 조회: 검색어 bigram들의 posting을 교집합 → 원문에 검색어가 실제로 들어있는지 확인 → rank 내림차순
+ * 정규화: 소문자, 공백 제거
+ */
+public final class NgramIndex {
+    public static final NgramIndex EMPTY = new Builder().build();
+
+    private final long[] ids;
+    private final String[] texts;
+    private final double[] ranks;
+    private final int[] grams;
+    private final int[] offsets;
+    private final int[] postings;
+
+    private NgramIndex(long[] ids, String[] texts, double[] ranks, int[] grams, int[] offsets, int[] postings) {
+        this.ids = ids;
+        this.texts = texts;
+        this.ranks = ranks;
+        this.grams = grams;
+        this.offsets = offsets;
+        this.postings = postings;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 검색어가 들어있는 문서 중 excluded가 아닌 것을 rank 내림차순으로 limit개
+     */
+    public List<Hit> search(String query, int limit, LongPredicate excluded) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0 || ids.length == 0) {
+            return List.of();
+        }
+
+        int[] candidates = normalized.length() == 1 ? null : candidates(normalized);
+        List<Hit> hits = new ArrayList<>();
+        int count = candidates == null ? ids.length : candidates.length;
+        for (int i = 0; i < count; i++) {
+            int ordinal = candidates == null ? i : candidates[i];
+            if (!excluded.test(ids[ordinal]) && normalize(texts[ordinal]).contains(normalized)) {
+                hits.add(new Hit(ids[ordinal], texts[ordinal], ranks[ordinal]));
+            }
+        }
+        hits.sort(Hit.BY_RANK);
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 검색어의 모든 bigram을 가진 ordinal (오름차순)
+     */
+    private int[] candidates(String normalized) {
+        int[] queryGrams = bigrams(normalized);
+        int[][] lists = new int[queryGrams.length][];
+        for (int i = 0; i < queryGrams.length; i++) {
+            int slot = Arrays.binarySearch(grams, queryGrams[i]);
+            if (slot < 0) {
+                return new int[0];
+            }
+            lists[i] = Arrays.copyOfRange(postings, offsets[slot], offsets[slot + 1]);
+        }
+        // 짧은 목록부터 교집합하면 중간 결과가 빨리 줄어듦
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * 중복 제거된 bigram 목록
+     */
+    static int[] bigrams(String normalized) {
+        if (normalized.length() < 2) {
+            return new int[0];
+        }
+        int[] result = new int[normalized.length() - 1];
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            result[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        return Arrays.stream(result).distinct().toArray();
+    }
+
+    public record Hit(long id, String text, double rank) {
+        public static final Comparator<Hit> BY_RANK = Comparator.comparingDouble(Hit::rank).reversed()
+                .thenComparingLong(Hit::id);
+    }
+
+    public static class Builder {
+        private long[] ids = new long[1024];
+        private String[] texts = new String[1024];
+        private double[] ranks = new double[1024];
+        // (gram << 32 | ordinal), 빌드 시 정렬하면 gram별 ordinal 목록이 오름차순으로 모임
+        private long[] pairs = new long[4096];
+        private int size = 0;
+        private int pairCount = 0;
+
+        public Builder add(long id, String text, double rank) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                texts = Arrays.copyOf(texts, size * 2);
+                ranks = Arrays.copyOf(ranks, size * 2);
+            }
+            int ordinal = size++;
+            ids[ordinal] = id;
+            texts[ordinal] = text;
+            ranks[ordinal] = rank;
+            for (int gram : bigrams(normalized)) {
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairCount * 2);
+                }
+                pairs[pairCount++] = ((long) gram << 32) | ordinal;
+            }
+            return this;
+        }
+
+        public NgramIndex build() {
+            long[] sorted = Arrays.copyOf(pairs, pairCount);
+            Arrays.sort(sorted);
+            int[] postings = new int[pairCount];
+            int[] grams = new int[pairCount];
+            int[] offsets = new int[pairCount + 1];
+            int gramCount = 0;
+            for (int i = 0; i < pairCount; i++) {
+                int gram = (int) (sorted[i] >>> 32);
+                if (gramCount == 0 || grams[gramCount - 1] != gram) {
+                    grams[gramCount] = gram;
+                    offsets[gramCount] = i;
+                    gramCount++;
+                }
+                postings[i] = (int) sorted[i];
+            }
+            offsets[gramCount] = pairCount;
+            return new NgramIndex(
+                    Arrays.copyOf(ids, size),
+                    Arrays.copyOf(texts, size),
+                    Arrays.copyOf(ranks, size),
+                    Arrays.copyOf(grams, gramCount),
+                    Arrays.copyOf(offsets, gramCount + 1),
+                    postings
+            );
+        }
+    }
+}
@@ -17,6 +17,8 @@ public enum SuccessCode {
     CREATE_MOVIE_SUCCESS(201, "영화 생성 완료"),
     DELETE_MOVIE_SUCCESS(200, "영화 삭제 완료"),
     UPDATE_MOVIE_SUCCESS(200, "영화 수정 완료"),
+    REBUILD_MOVIE_STATS_SUCCESS(200, "영화 통계 재집계 완료"),
+    RELOAD_GENRE_INDEX_SUCCESS(200, "장르 인덱스 재적재 완료"),
     GENERAL_SUCCESS(200, "요청이 성공적으로 처리되었습니다."),
 
     // Board
@@ -0,0 +1,77 @@
+package com.ureca.picky_be.global.timeline;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 최근 게시글 id를 담는 고정 크기 링 버퍼
+ * - long[] 하나에 순환해서 쓰므로 항목마다 객체를 만들지 않고, 가득 차면 가장 오래 들어온 id를 덮어씀
+ * - complete: 저장소의 타임라인 전체를 담고 있는지 (한 번이라도 덮어썼거나 로딩 때 잘렸으면 false)
+ */
+public class TimelineRing {
+    private final long[] ids;
+    private int head = 0;       // 다음에 쓸 자리
+    private int size = 0;
+    private boolean complete;
+
+    public TimelineRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.ids = new long[capacity];
+        this.complete = true;
+    }
+
+    /**
+     * 저장소에서 읽은 id들로 채운 링 (순서 상관없음)
+     * 읽은 개수가 capacity와 같으면 뒤에 더 있을 수 있으므로 complete = false
+     */
+    public static TimelineRing of(int capacity, long[] loaded) {
+        TimelineRing ring = new TimelineRing(capacity);
+        long[] sorted = loaded.clone();
+        Arrays.sort(sorted);
+        int from = Math.max(0, sorted.length - capacity);
+        for (int i = from; i < sorted.length; i++) {
+            ring.push(sorted[i]);
+        }
+        ring.complete = sorted.length < capacity;
+        return ring;
+    }
+
+    public synchronized void push(long id) {
+        if (size == ids.length) {
+            complete = false;
+        } else {
+            size++;
+        }
+        ids[head] = id;
+        head = (head + 1) % ids.length;
+    }
+
+    /**
+     * cursor보다 작은 id를 큰 순서로 최대 limit개 (cursor가 null이면 처음부터)
+     */
+    public synchronized long[] page(Long cursor, int limit) {
+        long[] matched = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long id = ids[i];
+            if (cursor == null || id < cursor) {
+                matched[count++] = id;
+            }
+        }
+        Arrays.sort(matched, 0, count);
+        // 로딩과 팬아웃이 겹치면 같은 id가 두 번 들어올 수 있어 읽을 때 거름
+        long[] result = new long[Math.min(limit, count)];
+        int length = 0;
+        for (int i = count - 1; i >= 0 && length < result.length; i--) {
+            if (length == 0 || result[length - 1] != matched[i]) {
+                result[length++] = matched[i];
+            }
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+}
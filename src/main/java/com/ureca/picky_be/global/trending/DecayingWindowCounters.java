@@ -0,0 +1,209 @@
+package com.ureca.picky_be.global.trending;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 시간 버킷 링 버퍼 카운터
+ * - 슬롯 하나에 (버킷 번호, 합계)를 long 하나로 묶어 CAS로 갱신 -> 락 없이 증가하고, 창을 벗어난 버킷 자리는 새 버킷이 덮어씀
+ * - 점수는 창 안 버킷 합계에 버킷 나이만큼 지수 감쇠(반감기)를 곱해 더한 값
+ * - 체크포인트는 마지막으로 내보낸 값과의 차이만 내보내므로 여러 인스턴스가 같은 행에 더해도 됨
+ */
+public class DecayingWindowCounters {
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int bucketCount;
+    private final double[] decayByAge;
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    public DecayingWindowCounters(int bucketCount, double halfLifeBuckets) {
+        if (bucketCount <= 0 || halfLifeBuckets <= 0) {
+            throw new IllegalArgumentException("bucketCount and halfLifeBuckets must be positive");
+        }
+        this.bucketCount = bucketCount;
+        this.decayByAge = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            decayByAge[age] = Math.pow(0.5, age / halfLifeBuckets);
+        }
+    }
+
+    public void add(long key, long bucket, long delta) {
+        rings.computeIfAbsent(key, k -> new Ring(bucketCount)).add(bucket, delta);
+    }
+
+    /**
+     * 체크포인트에서 읽은 값을 채움 (이미 저장된 값이므로 다음 체크포인트에서 다시 내보내지 않음)
+     * checkpoint()와 동시에 부르지 않아야 함
+     */
+    public void restore(long key, long bucket, long count, long currentBucket) {
+        if (bucket <= currentBucket - bucketCount || bucket > currentBucket) {
+            return;
+        }
+        rings.computeIfAbsent(key, k -> new Ring(bucketCount)).restore(bucket, count);
+    }
+
+    public int size() {
+        return rings.size();
+    }
+
+    /**
+     * 점수 상위 k개 (점수 내림차순, 같으면 키 오름차순), 창 안에 값이 없는 키는 제외
+     */
+    public List<Scored> topK(int k, long currentBucket) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1, Scored.BY_SCORE.reversed());
+        rings.forEach((key, ring) -> {
+            double score = ring.score(currentBucket);
+            if (score <= 0) {
+                return;
+            }
+            Scored scored = new Scored(key, score);
+            if (heap.size() < k) {
+                heap.add(scored);
+            } else if (Scored.BY_SCORE.compare(scored, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        });
+        List<Scored> result = new ArrayList<>(heap);
+        result.sort(Scored.BY_SCORE);
+        return result;
+    }
+
+    /**
+     * 창 안에 값이 없는 키 제거
+     * 제거 직전에 들어온 증가 하나는 잃을 수 있음 (하루 넘게 조용하던 키에서만 일어나므로 허용)
+     */
+    public void evictIdle(long currentBucket) {
+        rings.entrySet().removeIf(entry -> entry.getValue().isIdle(currentBucket));
+    }
+
+    /**
+     * 마지막 체크포인트 이후 바뀐 (키, 버킷, 증가량)
+     * 저장에 성공하면 commit()을 불러야 다음 체크포인트에서 빠짐 (한 스레드에서만 호출)
+     */
+    public Checkpoint checkpoint(long currentBucket) {
+        List<Pending> pendings = new ArrayList<>();
+        rings.forEach((key, ring) -> ring.collect(key, currentBucket, pendings));
+        return new Checkpoint(pendings);
+    }
+
+    private static long pack(long bucket, long count) {
+        return (bucket << COUNT_BITS) | (count & COUNT_MASK);
+    }
+
+    private static long bucketOf(long packed) {
+        return packed >>> COUNT_BITS;
+    }
+
+    private static long countOf(long packed) {
+        return packed & COUNT_MASK;
+    }
+
+    public record Scored(long key, double score) {
+        public static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparingLong(Scored::key);
+    }
+
+    public record Row(long key, long bucket, long delta) {
+    }
+
+    public static class Checkpoint {
+        private final List<Pending> pendings;
+
+        private Checkpoint(List<Pending> pendings) {
+            this.pendings = pendings;
+        }
+
+        public List<Row> rows() {
+            return pendings.stream()
+                    .map(pending -> new Row(pending.key(), bucketOf(pending.packed()), pending.delta()))
+                    .toList();
+        }
+
+        public void commit() {
+            pendings.forEach(pending -> pending.ring().flushed[pending.slot()] = pending.packed());
+        }
+    }
+
+    private record Pending(long key, Ring ring, int slot, long packed, long delta) {
+    }
+
+    private class Ring {
+        private final AtomicLongArray slots;
+        // 마지막으로 내보낸 슬롯 값 (체크포인트 스레드만 읽고 씀)
+        private final long[] flushed;
+
+        Ring(int size) {
+            this.slots = new AtomicLongArray(size);
+            this.flushed = new long[size];
+        }
+
+        void add(long bucket, long delta) {
+            int slot = (int) (bucket % bucketCount);
+            while (true) {
+                long current = slots.get(slot);
+                long currentBucket = bucketOf(current);
+                if (currentBucket > bucket) {
+                    return; // 이미 창을 지난 늦은 값
+                }
+                long next = currentBucket == bucket
+                        ? pack(bucket, countOf(current) + delta)
+                        : pack(bucket, delta);
+                if (slots.compareAndSet(slot, current, next)) {
+                    return;
+                }
+            }
+        }
+
+        void restore(long bucket, long count) {
+            add(bucket, count);
+            int slot = (int) (bucket % bucketCount);
+            long previous = flushed[slot];
+            flushed[slot] = bucketOf(previous) == bucket
+                    ? pack(bucket, countOf(previous) + count)
+                    : pack(bucket, count);
+        }
+
+        double score(long currentBucket) {
+            double score = 0;
+            for (int slot = 0; slot < bucketCount; slot++) {
+                long value = slots.get(slot);
+                long age = currentBucket - bucketOf(value);
+                if (age >= 0 && age < bucketCount) {
+                    score += countOf(value) * decayByAge[(int) age];
+                }
+            }
+            return score;
+        }
+
+        void collect(long key, long currentBucket, List<Pending> pendings) {
+            for (int slot = 0; slot < bucketCount; slot++) {
+                long value = slots.get(slot);
+                long bucket = bucketOf(value);
+                if (countOf(value) == 0 || bucket <= currentBucket - bucketCount) {
+                    continue;
+                }
+                long previous = flushed[slot];
+                long delta = bucketOf(previous) == bucket
+                        ? countOf(value) - countOf(previous)
+                        : countOf(value);
+                if (delta != 0) {
+                    pendings.add(new Pending(key, this, slot, value, delta));
+                }
+            }
+        }
+
+        // 창 밖의 값은 체크포인트 대상도 아니므로 창 안에 값이 없으면 idle
+        boolean isIdle(long currentBucket) {
+            for (int slot = 0; slot < bucketCount; slot++) {
+                long value = slots.get(slot);
+                if (countOf(value) != 0 && bucketOf(value) > currentBucket - bucketCount) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
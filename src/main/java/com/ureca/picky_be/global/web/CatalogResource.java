@@ -0,0 +1,13 @@
+package com.ureca.picky_be.global.web;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)을 지원하는 카탈로그 응답 종류
+ */
+public enum CatalogResource {
+    GENRES,
+    MOVIE_DETAIL,
+    TOP10,
+    PLAYLISTS,
+    // 응답 바이트 캐시 무효화용 (사용자별 isLike/isAuthor가 있어 조건부 GET은 붙이지 않음)
+    MOVIE_BOARDS
+}
@@ -0,0 +1,15 @@
+package com.ureca.picky_be.global.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 붙은 GET 핸들러는 ConditionalGetInterceptor가 버전을 비교해서 바뀌지 않았으면 304로 바로 응답
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+    CatalogResource value();
+}
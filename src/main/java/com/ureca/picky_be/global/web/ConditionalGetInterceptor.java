@@ -0,0 +1,96 @@
+package com.ureca.picky_be.global.web;
+
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersion;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * @ConditionalGet 핸들러 앞에서 If-None-Match / If-Modified-Since를 메모리 버전과 비교
+ * 같으면 컨트롤러(DB 조회)까지 가지 않고 304로 끝내고, 다르면 비교한 버전을 요청에 남겨 그대로 진행
+ * (ETag / Last-Modified / Cache-Control은 2xx 응답에만 ConditionalGetResponseAdvice가 붙임)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    static final String VALIDATORS_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".validators";
+
+    private final CatalogVersionManager catalogVersionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        CatalogResource resource = conditionalGet.value();
+        CatalogVersion version = catalogVersionManager.getVersion(resource, movieIdOf(request), currentUserId());
+        if (version == null) {
+            return true;
+        }
+
+        // 캐시해두되 매번 재검증 (사용자별 응답은 공유 캐시에 저장하지 않고, 사용자마다 다른 응답에 공통 수정 시각은 붙이지 않음)
+        Validators validators = resource == CatalogResource.MOVIE_DETAIL
+                ? new Validators("private, no-cache", version.etag(), -1)
+                : new Validators("no-cache", version.etag(), version.lastModified());
+        // response 없이 비교만 하고, 304일 때만 응답에 헤더를 씀
+        boolean notModified = new ServletWebRequest(request)
+                .checkNotModified(validators.etag(), validators.lastModified());
+        meterRegistry.counter("picky.http.conditional",
+                "resource", resource.name(),
+                "result", notModified ? "not_modified" : "modified").increment();
+        if (notModified) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, validators.cacheControl());
+            new ServletWebRequest(request, response).checkNotModified(validators.etag(), validators.lastModified());
+            return false;
+        }
+        request.setAttribute(VALIDATORS_ATTRIBUTE, validators);
+        return true;
+    }
+
+    /**
+     * lastModified가 음수면 Last-Modified / If-Modified-Since를 쓰지 않음
+     */
+    record Validators(String cacheControl, String etag, long lastModified) {
+    }
+
+    private Long movieIdOf(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get("movieId") == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get("movieId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
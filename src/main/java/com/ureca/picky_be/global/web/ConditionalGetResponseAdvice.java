@@ -0,0 +1,52 @@
+package com.ureca.picky_be.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @ConditionalGet 핸들러가 2xx로 응답할 때만 ConditionalGetInterceptor가 비교한 버전으로 캐시 헤더를 붙임
+ * 예외 처리기 응답이나 4xx/5xx에 ETag가 붙으면 클라이언트가 오류 응답을 캐시해 재검증에 쓰게 되므로 제외
+ */
+@ControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || !HttpStatus.valueOf(servletResponse.getServletResponse().getStatus()).is2xxSuccessful()) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (!(httpRequest.getAttribute(ConditionalGetInterceptor.VALIDATORS_ATTRIBUTE)
+                instanceof ConditionalGetInterceptor.Validators validators)) {
+            return body;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setCacheControl(validators.cacheControl());
+        headers.setETag(validators.etag().startsWith("\"") || validators.etag().startsWith("W/\"")
+                ? validators.etag() : "\"" + validators.etag() + "\"");
+        if (validators.lastModified() >= 0) {
+            headers.setLastModified(validators.lastModified());
+        }
+        return body;
+    }
+}
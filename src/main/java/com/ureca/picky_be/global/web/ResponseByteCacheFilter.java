@@ -0,0 +1,158 @@
+package com.ureca.picky_be.global.web;
+
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersion;
+import com.ureca.picky_be.base.implementation.catalog.CatalogVersionManager;
+import com.ureca.picky_be.global.cache.LruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비로그인 공개 GET 응답(ApiResponse로 감싼 최종 JSON 바이트)을 캐싱해서 hit이면 Jackson 없이 바로 씀
+ * - 대상: top10, 장르 목록, 플레이리스트 목록, 영화별 무비로그 첫 페이지
+ * - 저장할 때의 카탈로그 버전과 현재 버전이 다르면 무효 (버전은 도메인 변경 이벤트로 올라감)
+ * - 작성자 닉네임/프로필, presigned URL처럼 이벤트가 없는 값은 TTL로 오래된 정도를 제한
+ */
+@Component
+public class ResponseByteCacheFilter extends OncePerRequestFilter {
+    private static final Pattern MOVIE_BOARDS = Pattern.compile("^/api/v1/board/(\\d+)$");
+
+    private final CatalogVersionManager catalogVersionManager;
+    private final MeterRegistry meterRegistry;
+    private final LruCache<String, CachedResponse> responses;
+    private final long ttlMillis;
+
+    public ResponseByteCacheFilter(CatalogVersionManager catalogVersionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${picky.cache.response.max-size:1000}") int maxSize,
+                                   @Value("${picky.cache.response.ttl-ms:300000}") long ttlMillis) {
+        this.catalogVersionManager = catalogVersionManager;
+        this.meterRegistry = meterRegistry;
+        this.responses = new LruCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || target(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Target target = target(request);
+        CatalogVersion version = catalogVersionManager.getVersion(target.resource(), target.movieId(), null);
+        if (version == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request);
+        long now = System.currentTimeMillis();
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.version().equals(version.etag()) && cached.expiresAt() > now) {
+            count(target, "hit");
+            write(request, response, cached);
+            return;
+        }
+
+        count(target, "miss");
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value()
+                    && wrapper.getContentType() != null
+                    && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(wrapper.getContentType()))) {
+                // 핸들러 실행 전에 읽은 버전으로 저장 -> 실행 중에 바뀌었으면 다음 요청에서 바로 무효
+                responses.put(key, new CachedResponse(
+                        wrapper.getContentAsByteArray(),
+                        wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.ETAG),
+                        version.lastModified(),
+                        wrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                        version.etag(),
+                        now + ttlMillis));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached) throws IOException {
+        if (cached.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cached.cacheControl());
+        }
+        if (cached.etag() != null
+                && new ServletWebRequest(request, response).checkNotModified(cached.etag(), cached.lastModified())) {
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private Target target(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        switch (path) {
+            case "/api/v1/movie/top10":
+                return new Target(CatalogResource.TOP10, null);
+            case "/api/v1/user/genres":
+                return new Target(CatalogResource.GENRES, null);
+            case "/api/v1/playlist/all":
+                return new Target(CatalogResource.PLAYLISTS, null);
+            default:
+                Matcher matcher = MOVIE_BOARDS.matcher(path);
+                // 첫 페이지만
+                if (matcher.matches() && request.getParameter("lastBoardId") == null) {
+                    return new Target(CatalogResource.MOVIE_BOARDS, Long.valueOf(matcher.group(1)));
+                }
+                return null;
+        }
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        parameters.forEach((name, values) -> key.append('&').append(name).append('=').append(String.join(",", values)));
+        return key.toString();
+    }
+
+    private void count(Target target, String result) {
+        meterRegistry.counter("picky.http.response-cache",
+                "resource", target.resource().name(),
+                "result", result).increment();
+    }
+
+    private record Target(CatalogResource resource, Long movieId) {
+    }
+
+    private record CachedResponse(
+            byte[] body,
+            String contentType,
+            String etag,
+            long lastModified,
+            String cacheControl,
+            String version,
+            long expiresAt
+    ) {
+    }
+}
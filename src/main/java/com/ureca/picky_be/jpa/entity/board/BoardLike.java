@@ -11,6 +11,7 @@ import org.hibernate.annotations.OnDeleteAction;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_board_like_user_board", columnNames = {"user_id", "board_id"}))
 public class BoardLike extends BaseEntity {
 
     @Id
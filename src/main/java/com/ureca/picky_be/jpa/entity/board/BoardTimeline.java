@@ -0,0 +1,35 @@
+package com.ureca.picky_be.jpa.entity.board;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 팔로워 홈 피드 타임라인 항목 (게시글 작성 시 팔로워마다 한 행씩 팬아웃)
+ * 행은 BoardTimelineJdbcRepository에서 JDBC로만 쓰고 지움
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_timeline_user_board", columnNames = {"user_id", "board_id"}),
+        indexes = {
+                @Index(name = "idx_board_timeline_created", columnList = "created_at"),
+                // 게시글 삭제 시 모든 타임라인에서 지우도록
+                @Index(name = "idx_board_timeline_board", columnList = "board_id")
+        }
+)
+public class BoardTimeline extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;            // 타임라인 주인(팔로워)
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+}
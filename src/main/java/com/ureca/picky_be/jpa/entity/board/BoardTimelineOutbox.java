@@ -0,0 +1,43 @@
+package com.ureca.picky_be.jpa.entity.board;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 팬아웃 outbox
+ * 게시글 작성과 같은 트랜잭션에서 기록하고 팬아웃이 끝나면 지움 -> 비동기 팬아웃이 버려지거나 인스턴스가 죽어도 주기 작업이 다시 팬아웃
+ * 행은 BoardTimelineJdbcRepository에서 JDBC로만 쓰고 지움
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "board_timeline_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_timeline_outbox_board", columnNames = "board_id"),
+        indexes = @Index(name = "idx_board_timeline_outbox_next_attempt", columnList = "next_attempt_at, id")
+)
+public class BoardTimelineOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "writer_id", nullable = false)
+    private Long writerId;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
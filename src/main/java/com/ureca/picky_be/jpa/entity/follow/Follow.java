@@ -14,6 +14,10 @@ import java.util.ArrayList;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower_id", "following_id"}),
+        indexes = @Index(name = "idx_follow_following_follower", columnList = "following_id, follower_id")
+)
 public class Follow extends BaseEntity {
 
     @Id
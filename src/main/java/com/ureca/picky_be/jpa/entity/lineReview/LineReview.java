@@ -2,6 +2,7 @@ package com.ureca.picky_be.jpa.entity.lineReview;
 
 import com.ureca.picky_be.jpa.entity.config.BaseEntity;
 import com.ureca.picky_be.jpa.entity.config.IsDeleted;
+import com.ureca.picky_be.jpa.entity.user.Gender;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
@@ -13,7 +14,14 @@ import org.hibernate.annotations.ColumnDefault;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "line_review",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"movie_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_line_review_movie_user", columnNames = {"movie_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_line_review_movie_live_like", columnList = "movie_id, is_deleted, like_count, id"),
+                @Index(name = "idx_line_review_movie_live_created", columnList = "movie_id, is_deleted, created_at, id"),
+                @Index(name = "idx_line_review_user_live", columnList = "user_id, is_deleted, id"),
+                // 보관 작업이 삭제 표시된 행만 훑도록
+                @Index(name = "idx_line_review_tombstone", columnList = "is_deleted, id")
+        }
 )
 public class LineReview extends BaseEntity {
     @Id
@@ -41,6 +49,18 @@ public class LineReview extends BaseEntity {
 
     private String writerNickname;
 
+    // 작성 시점의 작성자 성별 (삭제할 때 성별 통계에서 같은 쪽을 빼도록, 컬럼 추가 전 행은 NULL -> 현재 성별로 봄)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "writer_gender")
+    private Gender writerGender;
+
+    // 좋아요/싫어요 수 (line_review_like와 같은 트랜잭션에서 갱신, 컬럼 추가 전 행은 시작할 때 채움)
+    @Column(name = "like_count")
+    private Long likeCount;
+
+    @Column(name = "dislike_count")
+    private Long dislikeCount;
+
     public void lineReviewContextUpdate(String context, Boolean isSpoiler) {
         this.context = context;
         this.isSpoiler = isSpoiler;
@@ -0,0 +1,26 @@
+package com.ureca.picky_be.jpa.entity.lineReview;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_line_review_like_soft_delete_user", columnList = "user_id"))
+public class LineReviewLikeSoftDelete extends BaseEntity {
+    @Id
+    private Long id;
+
+    @Column(name="line_review_id", nullable = false)
+    private Long lineReviewId;
+
+    @Column(name="user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Preference preference;
+}
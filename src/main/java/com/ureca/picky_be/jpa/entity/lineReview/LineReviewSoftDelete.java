@@ -26,5 +26,9 @@ public class LineReviewSoftDelete extends BaseEntity {
     @Column(nullable = false)
     private String context;
 
+    private Boolean isSpoiler;
+
+    private String writerNickname;
+
     private boolean isDeleted;
 }
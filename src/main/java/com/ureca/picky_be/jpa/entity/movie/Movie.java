@@ -15,6 +15,10 @@ import java.util.Date;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "movie",
+        indexes = @Index(name = "idx_movie_popularity", columnList = "popularity, created_at, id")
+)
 public class Movie extends BaseEntity {
     @Id
     private Long id;
@@ -6,12 +6,17 @@ import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "movie_genre",
+        indexes = @Index(name = "idx_movie_genre_keyset", columnList = "genre_id, popularity, movie_created_at, movie_id")
+)
 public class MovieGenre extends BaseEntity {
 
     @Id
@@ -26,5 +31,19 @@ public class MovieGenre extends BaseEntity {
     @Column(nullable = false)
     private Long genreId;
 
+    // 장르별 목록 keyset 정렬 키 (movie 테이블과 조인 없이 인덱스만으로 정렬/탐색하기 위해 복제)
+    @Column(nullable = false)
+    private double popularity;
+
+    private LocalDateTime movieCreatedAt;
+
+    public static MovieGenre of(Movie movie, Long genreId) {
+        return MovieGenre.builder()
+                .movie(movie)
+                .genreId(genreId)
+                .popularity(movie.getPopularity())
+                .movieCreatedAt(movie.getCreatedAt() != null ? movie.getCreatedAt() : LocalDateTime.now())
+                .build();
+    }
 
 }
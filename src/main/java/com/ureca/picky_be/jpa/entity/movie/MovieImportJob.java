@@ -0,0 +1,82 @@
+package com.ureca.picky_be.jpa.entity.movie;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * NDJSON 영화 대량 등록 작업
+ * committedLines: 커밋이 끝난 줄 수. 실패 후 재개하면 이 줄 다음부터 다시 읽음
+ * startedLines: 이번 실행(생성 또는 재개)을 시작할 때의 committedLines. 처리 속도는 startedAt 이후 처리한 줄 수로 계산
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "movie_import_job")
+public class MovieImportJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovieImportStatus status;
+
+    private int chunkSize;
+
+    private long committedLines;
+
+    private long startedLines;
+
+    private long importedMovies;
+
+    private long skippedLines;
+
+    @Column(length = 1000)
+    private String failedReason;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static MovieImportJob of(String filePath, int chunkSize) {
+        return MovieImportJob.builder()
+                .filePath(filePath)
+                .status(MovieImportStatus.RUNNING)
+                .chunkSize(chunkSize)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void commitChunk(long lines, long imported, long skipped) {
+        this.committedLines += lines;
+        this.importedMovies += imported;
+        this.skippedLines += skipped;
+    }
+
+    public void resume() {
+        this.status = MovieImportStatus.RUNNING;
+        this.failedReason = null;
+        this.startedAt = LocalDateTime.now();
+        this.startedLines = this.committedLines;
+        this.finishedAt = null;
+    }
+
+    public void complete() {
+        this.status = MovieImportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = MovieImportStatus.FAILED;
+        this.failedReason = reason == null ? null : reason.substring(0, Math.min(reason.length(), 1000));
+        this.finishedAt = LocalDateTime.now();
+    }
+}
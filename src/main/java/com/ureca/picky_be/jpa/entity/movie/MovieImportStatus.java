@@ -0,0 +1,5 @@
+package com.ureca.picky_be.jpa.entity.movie;
+
+public enum MovieImportStatus {
+    RUNNING, COMPLETED, FAILED
+}
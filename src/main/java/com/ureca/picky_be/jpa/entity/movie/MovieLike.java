@@ -12,6 +12,10 @@ import org.hibernate.annotations.OnDeleteAction;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "movie_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_movie_like_movie_user", columnNames = {"movie_id", "user_id"})
+)
 public class MovieLike extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
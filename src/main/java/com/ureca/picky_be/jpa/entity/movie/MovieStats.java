@@ -0,0 +1,78 @@
+package com.ureca.picky_be.jpa.entity.movie;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 영화별 좋아요 수, 한줄평 수, 평점 합계를 미리 집계해두는 테이블
+ * 목록 조회에서 MovieLike, LineReview COUNT 조인 대신 사용
+ * 별점 분포(1~5점)와 성별 평점 합계/개수도 함께 보관해 평점 통계 조회를 행 하나 읽기로 처리
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "movie_stats")
+public class MovieStats extends BaseEntity {
+    @Id
+    private Long movieId;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long likeCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long lineReviewCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private double ratingSum;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long ratingCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long star1Count;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long star2Count;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long star3Count;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long star4Count;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long star5Count;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private double maleRatingSum;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long maleRatingCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private double femaleRatingSum;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long femaleRatingCount;
+
+    // 별점 분포/성별 집계가 line_review 기준으로 채워졌는지 (컬럼 추가 전 행은 NULL -> 시작할 때 채움)
+    @Column(name = "breakdown_ready")
+    private Boolean breakdownReady;
+}
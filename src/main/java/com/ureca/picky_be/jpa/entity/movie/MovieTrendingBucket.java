@@ -0,0 +1,34 @@
+package com.ureca.picky_be.jpa.entity.movie;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 트렌딩 카운터 체크포인트
+ * (영화, 시간 버킷)별 참여 점수 합계, 재시작하면 창 안의 버킷을 읽어 카운터를 복원한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "movie_trending_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_movie_trending_bucket", columnNames = {"movie_id", "bucket"}),
+        indexes = @Index(name = "idx_movie_trending_bucket_bucket", columnList = "bucket")
+)
+public class MovieTrendingBucket extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long movieId;
+
+    @Column(nullable = false)
+    private Long bucket;
+
+    @Column(nullable = false)
+    private long engagement;
+}
@@ -0,0 +1,18 @@
+package com.ureca.picky_be.jpa.entity.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재색인 대상. alias는 애플리케이션이 읽고 쓰는 이름(@Document indexName)이고
+ * 실제 데이터는 alias_v{yyyyMMddHHmmss} 형태의 버전 인덱스에 들어간다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndexTarget {
+    MOVIE("connector-movie", "elasticsearch/connector-movie.json"),
+    USER("connector-user", "elasticsearch/connector-user.json");
+
+    private final String alias;
+    private final String definitionPath;
+}
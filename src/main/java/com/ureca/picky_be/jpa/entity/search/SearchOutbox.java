@@ -0,0 +1,42 @@
+package com.ureca.picky_be.jpa.entity.search;
+
+import com.ureca.picky_be.jpa.entity.config.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 outbox
+ * 엔티티 변경과 같은 트랜잭션에서 (대상, 문서 id)만 기록하고, relay가 커밋된 최신 상태를 읽어 색인한다.
+ * 행이 사라진 문서는 색인에서 삭제한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "search_outbox",
+        indexes = @Index(name = "idx_search_outbox_next_attempt", columnList = "next_attempt_at, id")
+)
+public class SearchOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SearchIndexTarget target;
+
+    @Column(nullable = false)
+    private Long documentId;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
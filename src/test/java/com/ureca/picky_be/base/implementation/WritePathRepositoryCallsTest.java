@@ -0,0 +1,242 @@
+package com.ureca.picky_be.base.implementation;
+
+import com.ureca.picky_be.base.business.lineReview.dto.CreateLineReviewLikeReq;
+import com.ureca.picky_be.base.business.lineReview.dto.CreateLineReviewReq;
+import com.ureca.picky_be.base.implementation.board.BoardManager;
+import com.ureca.picky_be.base.implementation.follow.FollowManager;
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewArchiveManager;
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewLikeManager;
+import com.ureca.picky_be.base.implementation.lineReview.LineReviewManager;
+import com.ureca.picky_be.base.implementation.reaction.ViewerReactionCacheManager;
+import com.ureca.picky_be.base.persistence.board.BoardCommentRepository;
+import com.ureca.picky_be.base.persistence.board.BoardContentRepository;
+import com.ureca.picky_be.base.persistence.board.BoardLikeRepository;
+import com.ureca.picky_be.base.persistence.board.BoardRepository;
+import com.ureca.picky_be.base.persistence.follow.FollowRepository;
+import com.ureca.picky_be.base.persistence.lineReview.LineReviewLikeRepository;
+import com.ureca.picky_be.base.persistence.lineReview.LineReviewRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieRepository;
+import com.ureca.picky_be.base.persistence.movie.MovieStatsRepository;
+import com.ureca.picky_be.base.persistence.user.UserRepository;
+import com.ureca.picky_be.global.exception.CustomException;
+import com.ureca.picky_be.global.exception.ErrorCode;
+import com.ureca.picky_be.global.success.SuccessCode;
+import com.ureca.picky_be.jpa.entity.config.IsDeleted;
+import com.ureca.picky_be.jpa.entity.lineReview.Preference;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 쓰기 경로별 저장소 호출(= DB 왕복)을 정확히 검증
+ * 조회 후 쓰기하던 이전 구현으로 돌아가면 verifyNoMoreInteractions에서 실패
+ */
+class WritePathRepositoryCallsTest {
+
+    private LineReviewRepository lineReviewRepository;
+    private LineReviewLikeRepository lineReviewLikeRepository;
+    private MovieStatsRepository movieStatsRepository;
+    private BoardRepository boardRepository;
+    private BoardLikeRepository boardLikeRepository;
+    private FollowRepository followRepository;
+    private UserRepository userRepository;
+    private Object[] repositories;
+
+    private LineReviewManager lineReviewManager;
+    private LineReviewLikeManager lineReviewLikeManager;
+    private BoardManager boardManager;
+    private FollowManager followManager;
+
+    @BeforeEach
+    void setUp() {
+        lineReviewRepository = mock(LineReviewRepository.class);
+        lineReviewLikeRepository = mock(LineReviewLikeRepository.class);
+        movieStatsRepository = mock(MovieStatsRepository.class);
+        boardRepository = mock(BoardRepository.class);
+        boardLikeRepository = mock(BoardLikeRepository.class);
+        followRepository = mock(FollowRepository.class);
+        MovieRepository movieRepository = mock(MovieRepository.class);
+        userRepository = mock(UserRepository.class);
+        BoardCommentRepository boardCommentRepository = mock(BoardCommentRepository.class);
+        BoardContentRepository boardContentRepository = mock(BoardContentRepository.class);
+        repositories = new Object[]{lineReviewRepository, lineReviewLikeRepository, movieStatsRepository,
+                boardRepository, boardLikeRepository, followRepository, movieRepository, userRepository,
+                boardCommentRepository, boardContentRepository};
+
+        ViewerReactionCacheManager viewerReactionCacheManager = new ViewerReactionCacheManager(100, 60_000);
+        lineReviewManager = new LineReviewManager(lineReviewRepository, movieRepository, movieStatsRepository,
+                userRepository, mock(ApplicationEventPublisher.class), mock(LineReviewArchiveManager.class));
+        lineReviewLikeManager = new LineReviewLikeManager(lineReviewRepository, lineReviewLikeRepository,
+                viewerReactionCacheManager);
+        boardManager = new BoardManager(boardRepository, movieRepository, boardCommentRepository,
+                boardLikeRepository, boardContentRepository, userRepository, viewerReactionCacheManager);
+        followManager = new FollowManager(followRepository);
+    }
+
+    @Test
+    void 한줄평_작성() {
+        when(lineReviewRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        clearInvocations(repositories);
+
+        lineReviewManager.createLineReview(new CreateLineReviewReq(1L, 4.0, "좋아요", false), 7L, "닉네임");
+
+        // 중복 확인 없이 성별 조회, 저장, 통계, 평점 동기화
+        verify(userRepository).findGenderById(7L);
+        verify(lineReviewRepository).save(any());
+        verify(movieStatsRepository).addLineReview(1L, 1, 4.0, 4, null);
+        verify(movieStatsRepository).syncTotalRating(1L);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 한줄평_중복_작성은_유니크_제약으로_판단() {
+        SQLException duplicate = new SQLException("Duplicate entry '1-7'", "23000", 1062);
+        when(lineReviewRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", duplicate, "line_review.uk_line_review_movie_user")));
+
+        assertThatThrownBy(() -> lineReviewManager.createLineReview(new CreateLineReviewReq(1L, 4.0, "좋아요", false), 7L, "닉네임"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LINEREVIEW_CREATE_DUPLICATE);
+    }
+
+    @Test
+    void 한줄평_다른_제약_위반은_작성_실패() {
+        SQLException foreignKey = new SQLException("Cannot add or update a child row", "23000", 1452);
+        when(lineReviewRepository.save(any())).thenThrow(new DataIntegrityViolationException("fk",
+                new ConstraintViolationException("fk", foreignKey, "fk_line_review_movie")));
+
+        assertThatThrownBy(() -> lineReviewManager.createLineReview(new CreateLineReviewReq(1L, 4.0, "좋아요", false), 7L, "닉네임"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LINEREVIEW_CREATE_FAILED);
+    }
+
+    @Test
+    void 한줄평_좋아요_추가() {
+        when(lineReviewLikeRepository.insertIfNotAuthor(10L, 7L, "LIKE")).thenReturn(1);
+        clearInvocations(repositories);
+
+        SuccessCode result = lineReviewLikeManager.createLineReviewLike(new CreateLineReviewLikeReq(10L, "LIKE"), 7L);
+
+        assertThat(result).isEqualTo(SuccessCode.CREATE_LINE_REVIEW_LIKE);
+        // 한줄평/사용자/반응 조회 없이 취소 시도, 변경 시도, 추가, 수 증가
+        verify(lineReviewLikeRepository).deleteByPreference(10L, 7L, Preference.LIKE);
+        verify(lineReviewLikeRepository).switchPreference(10L, 7L, Preference.LIKE);
+        verify(lineReviewLikeRepository).insertIfNotAuthor(10L, 7L, "LIKE");
+        verify(lineReviewRepository).addLikeCounts(10L, 1, 0);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 한줄평_좋아요_취소() {
+        when(lineReviewLikeRepository.deleteByPreference(10L, 7L, Preference.LIKE)).thenReturn(1);
+        clearInvocations(repositories);
+
+        SuccessCode result = lineReviewLikeManager.createLineReviewLike(new CreateLineReviewLikeReq(10L, "LIKE"), 7L);
+
+        assertThat(result).isEqualTo(SuccessCode.DELETE_LINE_REVIEW_LIKE);
+        // 취소, 수 감소
+        verify(lineReviewLikeRepository).deleteByPreference(10L, 7L, Preference.LIKE);
+        verify(lineReviewRepository).addLikeCounts(10L, -1, 0);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 한줄평_좋아요_싫어요로_변경() {
+        when(lineReviewLikeRepository.switchPreference(10L, 7L, Preference.DISLIKE)).thenReturn(1);
+        clearInvocations(repositories);
+
+        SuccessCode result = lineReviewLikeManager.createLineReviewLike(new CreateLineReviewLikeReq(10L, "DISLIKE"), 7L);
+
+        assertThat(result).isEqualTo(SuccessCode.UPDATE_LINE_REVIEW_LIKE);
+        // 취소 시도, 변경, 좋아요/싫어요 수를 한 문장으로
+        verify(lineReviewLikeRepository).deleteByPreference(10L, 7L, Preference.DISLIKE);
+        verify(lineReviewLikeRepository).switchPreference(10L, 7L, Preference.DISLIKE);
+        verify(lineReviewRepository).addLikeCounts(10L, -1, 1);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 본인_한줄평_좋아요는_거절() {
+        when(lineReviewRepository.findAuthorIdById(10L)).thenReturn(7L);
+
+        assertThatThrownBy(() -> lineReviewLikeManager.createLineReviewLike(new CreateLineReviewLikeReq(10L, "LIKE"), 7L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LINEREVIEWLIKE_SELF_NOT_ALLOWED);
+        verify(lineReviewRepository, never()).addLikeCounts(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 게시글_좋아요_추가() {
+        when(boardLikeRepository.insertLikeOfActiveBoard(3L, 7L)).thenReturn(1);
+        when(boardRepository.findMovieIdById(3L)).thenReturn(1L);
+        clearInvocations(repositories);
+
+        boolean liked = boardManager.toggleBoardLike(7L, 3L);
+        boardManager.getMovieIdOfBoard(3L);
+
+        assertThat(liked).isTrue();
+        // 게시글/좋아요 조회 없이 취소 시도, 추가, 영화 id 조회
+        verify(boardLikeRepository).deleteLikeOfActiveBoard(3L, 7L);
+        verify(boardLikeRepository).insertLikeOfActiveBoard(3L, 7L);
+        verify(boardRepository).findMovieIdById(3L);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 게시글_좋아요_취소() {
+        when(boardLikeRepository.deleteLikeOfActiveBoard(3L, 7L)).thenReturn(1);
+        when(boardRepository.findMovieIdById(3L)).thenReturn(1L);
+        clearInvocations(repositories);
+
+        boolean liked = boardManager.toggleBoardLike(7L, 3L);
+        boardManager.getMovieIdOfBoard(3L);
+
+        assertThat(liked).isFalse();
+        // 취소, 영화 id 조회
+        verify(boardLikeRepository).deleteLikeOfActiveBoard(3L, 7L);
+        verify(boardRepository).findMovieIdById(3L);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 삭제된_게시글_좋아요는_거절() {
+        when(boardRepository.findIsDeleted(3L)).thenReturn(IsDeleted.TRUE);
+
+        assertThatThrownBy(() -> boardManager.toggleBoardLike(7L, 3L))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BOARD_IS_DELETED);
+    }
+
+    @Test
+    void 팔로우() {
+        SuccessCode result = followManager.manageFollowingRelationship(7L, 8L);
+
+        assertThat(result).isEqualTo(SuccessCode.CREATE_FOLLOW_SUCCESS);
+        // 관계 조회 없이 삭제 시도, 추가
+        verify(followRepository).deleteRelationship(7L, 8L);
+        verify(followRepository).insertRelationship(7L, 8L);
+        verifyNoMoreInteractions(repositories);
+    }
+
+    @Test
+    void 언팔로우() {
+        when(followRepository.deleteRelationship(7L, 8L)).thenReturn(1);
+        clearInvocations(repositories);
+
+        SuccessCode result = followManager.manageFollowingRelationship(7L, 8L);
+
+        assertThat(result).isEqualTo(SuccessCode.DELETE_FOLLOW_SUCCESS);
+        // 삭제 한 번
+        verify(followRepository).deleteRelationship(7L, 8L);
+        verifyNoMoreInteractions(repositories);
+    }
+}
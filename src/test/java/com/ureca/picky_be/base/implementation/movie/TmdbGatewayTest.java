@@ -0,0 +1,148 @@
+package com.ureca.picky_be.base.implementation.movie;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.ureca.picky_be.base.business.movie.dto.AddMovieAuto;
+import com.ureca.picky_be.global.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TmdbGatewayTest {
+
+    private static final String MOVIE_JSON = """
+            {"id": %d, "title": "테스트 영화", "release_date": "2024-01-01", "poster_path": "/p.jpg",
+             "overview": "줄거리", "runtime": 120, "genres": [{"id": 28, "name": "액션"}],
+             "credits": {"cast": [], "crew": []}, "original_language": "ko", "popularity": 10.5,
+             "backdrop_path": "/b.jpg", "unknown_field": true}
+            """;
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0L;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/movie/", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String path = exchange.getRequestURI().getPath();
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            byte[] body = (status == 200 ? MOVIE_JSON.formatted(id) : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private TmdbGateway newGateway(int failureThreshold) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/movie/";
+        return new TmdbGateway(baseUrl, "token", 1000, 2000, 100, cacheDir.toString(), 24,
+                failureThreshold, 60_000, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_영화는_메모리_캐시에서_응답() {
+        TmdbGateway gateway = newGateway(5);
+
+        Optional<AddMovieAuto> first = gateway.getMovie(1L);
+        Optional<AddMovieAuto> second = gateway.getMovie(1L);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시작_후에도_디스크_캐시에서_응답() {
+        newGateway(5).getMovie(2L);
+
+        Optional<AddMovieAuto> restarted = newGateway(5).getMovie(2L);
+
+        assertThat(restarted).isPresent();
+        assertThat(restarted.get().title()).isEqualTo("테스트 영화");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_요청은_한번만_호출() throws Exception {
+        TmdbGateway gateway = newGateway(5);
+        delayMillis = 300L;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<AddMovieAuto>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return gateway.getMovie(3L);
+            }));
+        }
+
+        start.countDown();
+        for (Future<Optional<AddMovieAuto>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        pool.shutdown();
+
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 연속_실패시_서킷이_열려_호출_차단() {
+        TmdbGateway gateway = newGateway(3);
+        status = 500;
+
+        for (long id = 10; id < 13; id++) {
+            assertThat(gateway.getMovie(id)).isEmpty();
+        }
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(gateway.getMovie(13L)).isEmpty();
+        assertThat(hits.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 없는_영화는_서킷_실패로_세지_않음() {
+        TmdbGateway gateway = newGateway(1);
+        status = 404;
+
+        assertThat(gateway.getMovie(20L)).isEmpty();
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ureca.picky_be.global.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 링 순환(덮어쓰기)과 complete 판단, 읽을 때 중복 제거, 커서 페이지 검증
+ */
+class TimelineRingTest {
+
+    @Test
+    void 가득_차기_전에는_complete() {
+        TimelineRing ring = new TimelineRing(3);
+        ring.push(1);
+        ring.push(2);
+
+        assertThat(ring.isComplete()).isTrue();
+        assertThat(ring.page(null, 10)).containsExactly(2, 1);
+    }
+
+    @Test
+    void 가득_차면_가장_오래된_id를_덮어쓰고_complete가_아님() {
+        TimelineRing ring = new TimelineRing(3);
+        for (long id = 1; id <= 5; id++) {
+            ring.push(id);
+        }
+
+        assertThat(ring.isComplete()).isFalse();
+        assertThat(ring.page(null, 10)).containsExactly(5, 4, 3);
+    }
+
+    @Test
+    void 로딩한_id가_capacity_이상이면_최신만_남기고_complete가_아님() {
+        TimelineRing ring = TimelineRing.of(3, new long[]{5, 1, 4, 2});
+
+        assertThat(ring.isComplete()).isFalse();
+        assertThat(ring.page(null, 10)).containsExactly(5, 4, 2);
+    }
+
+    @Test
+    void 로딩한_id가_capacity보다_적으면_complete() {
+        TimelineRing ring = TimelineRing.of(3, new long[]{2, 1});
+
+        assertThat(ring.isComplete()).isTrue();
+        assertThat(ring.page(null, 10)).containsExactly(2, 1);
+    }
+
+    @Test
+    void 같은_id가_두_번_들어와도_페이지에는_한_번() {
+        TimelineRing ring = TimelineRing.of(10, new long[]{1, 2, 3});
+        // 로딩과 팬아웃이 겹친 경우
+        ring.push(3);
+        ring.push(3);
+
+        assertThat(ring.page(null, 10)).containsExactly(3, 2, 1);
+        assertThat(ring.page(null, 2)).containsExactly(3, 2);
+    }
+
+    @Test
+    void 커서보다_작은_id를_큰_순서로_limit개씩() {
+        TimelineRing ring = new TimelineRing(10);
+        for (long id = 1; id <= 6; id++) {
+            ring.push(id);
+        }
+
+        assertThat(ring.page(null, 2)).containsExactly(6, 5);
+        assertThat(ring.page(5L, 2)).containsExactly(4, 3);
+        assertThat(ring.page(3L, 5)).containsExactly(2, 1);
+        assertThat(ring.page(1L, 5)).isEmpty();
+    }
+
+    @Test
+    void capacity는_양수여야_함() {
+        assertThatThrownBy(() -> new TimelineRing(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ureca.picky_be.global.trending;
+
+import com.ureca.picky_be.global.trending.DecayingWindowCounters.Row;
+import com.ureca.picky_be.global.trending.DecayingWindowCounters.Scored;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 버킷 링 회전(CAS 덮어쓰기), 반감기 감쇠, 체크포인트 증가량 검증
+ */
+class DecayingWindowCountersTest {
+
+    @Test
+    void 버킷_나이만큼_반감기로_감쇠하고_창을_벗어나면_0() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.add(1L, 10, 8);
+
+        assertThat(score(counters, 1L, 10)).isCloseTo(8.0, within(1e-9));
+        assertThat(score(counters, 1L, 11)).isCloseTo(4.0, within(1e-9));
+        assertThat(score(counters, 1L, 13)).isCloseTo(1.0, within(1e-9));
+        assertThat(counters.topK(10, 14)).isEmpty();
+    }
+
+    @Test
+    void 같은_슬롯의_새_버킷은_이전_값을_덮어쓰고_늦은_값은_버림() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.add(1L, 2, 5);
+        // 2와 6은 같은 슬롯
+        counters.add(1L, 6, 3);
+        counters.add(1L, 2, 100);
+
+        assertThat(score(counters, 1L, 6)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void 여러_스레드가_같은_버킷에_더해도_잃지_않음() throws Exception {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        int threads = 8;
+        int addsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < addsPerThread; j++) {
+                        counters.add(1L, 3, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(score(counters, 1L, 3)).isEqualTo((double) threads * addsPerThread);
+    }
+
+    @Test
+    void 상위_k개는_점수_내림차순_같으면_키_오름차순() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.add(3L, 5, 2);
+        counters.add(1L, 5, 2);
+        counters.add(2L, 5, 9);
+        counters.add(4L, 4, 2);
+
+        assertThat(counters.topK(3, 5)).extracting(Scored::key).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void 체크포인트는_커밋한_뒤의_증가량만_내보냄() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.add(1L, 5, 3);
+
+        DecayingWindowCounters.Checkpoint first = counters.checkpoint(5);
+        assertThat(first.rows()).containsExactly(new Row(1L, 5, 3));
+        // 커밋하지 않으면 다음에도 그대로 나옴
+        assertThat(counters.checkpoint(5).rows()).containsExactly(new Row(1L, 5, 3));
+
+        first.commit();
+        counters.add(1L, 5, 2);
+        assertThat(counters.checkpoint(5).rows()).containsExactly(new Row(1L, 5, 2));
+    }
+
+    @Test
+    void 복원한_값은_다시_내보내지_않음() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.restore(1L, 5, 7, 5);
+        // 창 밖 값은 복원하지 않음
+        counters.restore(2L, 1, 7, 5);
+
+        assertThat(counters.checkpoint(5).rows()).isEmpty();
+        assertThat(score(counters, 1L, 5)).isCloseTo(7.0, within(1e-9));
+        assertThat(counters.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 창_안에_값이_없는_키는_정리() {
+        DecayingWindowCounters counters = new DecayingWindowCounters(4, 1);
+        counters.add(1L, 1, 1);
+        counters.add(2L, 5, 1);
+
+        counters.evictIdle(5);
+
+        assertThat(counters.size()).isEqualTo(1);
+        assertThat(counters.topK(10, 5)).extracting(Scored::key).containsExactly(2L);
+    }
+
+    private double score(DecayingWindowCounters counters, long key, long currentBucket) {
+        return counters.topK(counters.size(), currentBucket).stream()
+                .filter(scored -> scored.key() == key)
+                .mapToDouble(Scored::score)
+                .findFirst()
+                .orElse(0);
+    }
+}